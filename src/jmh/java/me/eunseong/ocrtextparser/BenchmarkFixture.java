@@ -0,0 +1,201 @@
+package me.eunseong.ocrtextparser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.OcrWord;
+import me.eunseong.ocrtextparser.extractor.AbstractFieldExtractor;
+import me.eunseong.ocrtextparser.extractor.CompanyExtractor;
+import me.eunseong.ocrtextparser.extractor.DateExtractor;
+import me.eunseong.ocrtextparser.extractor.ExtractorRegistry;
+import me.eunseong.ocrtextparser.extractor.FieldExtractor;
+import me.eunseong.ocrtextparser.extractor.FieldLabelScanner;
+import me.eunseong.ocrtextparser.extractor.VehicleNumberExtractor;
+import me.eunseong.ocrtextparser.extractor.WeightExtractor;
+import me.eunseong.ocrtextparser.extractor.strategy.ExtractionStrategy;
+import me.eunseong.ocrtextparser.extractor.strategy.PositionBasedStrategy;
+import me.eunseong.ocrtextparser.extractor.strategy.TextBasedStrategy;
+import me.eunseong.ocrtextparser.extractor.weight.NetWeightExtractor;
+import me.eunseong.ocrtextparser.extractor.weight.TotalWeightExtractor;
+import me.eunseong.ocrtextparser.extractor.weight.VehicleWeightExtractor;
+import me.eunseong.ocrtextparser.normalizer.DateNormalizer;
+import me.eunseong.ocrtextparser.normalizer.WeightNormalizer;
+import me.eunseong.ocrtextparser.pipeline.DefaultParsingPipeline;
+import me.eunseong.ocrtextparser.template.LayoutTemplateMatcher;
+import me.eunseong.ocrtextparser.template.LayoutTemplateStore;
+import me.eunseong.ocrtextparser.util.OcrDocumentLoader;
+import me.eunseong.ocrtextparser.util.PositionHelper;
+import me.eunseong.ocrtextparser.util.TextMatcher;
+import me.eunseong.ocrtextparser.util.TextNormalizer;
+import me.eunseong.ocrtextparser.validator.BusinessRuleValidator;
+import me.eunseong.ocrtextparser.validator.RequiredFieldValidator;
+
+/**
+ * 벤치마크 공용 픽스처
+ * 스프링 컨텍스트 없이 애플리케이션과 같은 구성으로 컴포넌트를 직접 생성하고,
+ * 번들 샘플 문서와 크기를 키운 문서를 제공
+ */
+public final class BenchmarkFixture {
+
+  public static final String[] SAMPLES = {
+      "samples/sample_01.json", "samples/sample_02.json",
+      "samples/sample_03.json", "samples/sample_04.json"
+  };
+
+  private static final int FILLER_LINE_HEIGHT = 40;
+  private static final int FILLER_WORD_WIDTH = 120;
+
+  private final ParserProperties properties;
+  private final TextNormalizer textNormalizer;
+  private final TextMatcher textMatcher;
+  private final PositionHelper positionHelper;
+  private final Map<String, FieldExtractor<?>> extractors;
+  private final DefaultParsingPipeline pipeline;
+
+  public BenchmarkFixture() {
+    this.properties = new ParserProperties();
+    // application.properties와 같은 임계값 (기본값 0.75는 4글자 라벨에 1글자 오차를 허용)
+    properties.setFuzzyMatchThreshold(0.8);
+    this.textNormalizer = new TextNormalizer();
+    this.textMatcher = new TextMatcher(textNormalizer, properties);
+    this.positionHelper = new PositionHelper(properties);
+
+    List<ExtractionStrategy> strategies = List.of(
+        new TextBasedStrategy(textMatcher),
+        new PositionBasedStrategy(textMatcher, positionHelper));
+
+    DateExtractor date = new DateExtractor(strategies, textNormalizer);
+    VehicleNumberExtractor vehicleNumber =
+        new VehicleNumberExtractor(strategies, textNormalizer);
+    CompanyExtractor company = new CompanyExtractor(strategies, textNormalizer);
+    TotalWeightExtractor totalWeight = new TotalWeightExtractor(strategies, textNormalizer);
+    VehicleWeightExtractor vehicleWeight =
+        new VehicleWeightExtractor(strategies, textNormalizer);
+    NetWeightExtractor netWeight = new NetWeightExtractor(strategies, textNormalizer);
+    WeightExtractor weight = new WeightExtractor(totalWeight, vehicleWeight, netWeight);
+
+    this.extractors = new LinkedHashMap<>();
+    extractors.put("date", date);
+    extractors.put("vehicleNumber", vehicleNumber);
+    extractors.put("company", company);
+    extractors.put("totalWeight", totalWeight);
+    extractors.put("vehicleWeight", vehicleWeight);
+    extractors.put("netWeight", netWeight);
+    extractors.put("weight", weight);
+
+    List<AbstractFieldExtractor<?>> fieldExtractors = List.of(
+        date, vehicleNumber, company, totalWeight, vehicleWeight, netWeight);
+    FieldLabelScanner labelScanner = new FieldLabelScanner(fieldExtractors);
+    this.pipeline = new DefaultParsingPipeline(
+        new ExtractorRegistry(date, vehicleNumber, weight, company),
+        labelScanner,
+        new DateNormalizer(),
+        new WeightNormalizer(),
+        List.of(new RequiredFieldValidator(), new BusinessRuleValidator(properties)),
+        properties,
+        new LayoutTemplateMatcher(fieldExtractors, labelScanner, textNormalizer,
+            new LayoutTemplateStore(properties), properties));
+  }
+
+  public ParserProperties getProperties() {
+    return properties;
+  }
+
+  public TextNormalizer getTextNormalizer() {
+    return textNormalizer;
+  }
+
+  public TextMatcher getTextMatcher() {
+    return textMatcher;
+  }
+
+  public PositionHelper getPositionHelper() {
+    return positionHelper;
+  }
+
+  public DefaultParsingPipeline getPipeline() {
+    return pipeline;
+  }
+
+  /**
+   * 이름으로 추출기 조회 (date, vehicleNumber, company, totalWeight,
+   * vehicleWeight, netWeight, weight)
+   */
+  public FieldExtractor<?> getExtractor(String name) {
+    FieldExtractor<?> extractor = extractors.get(name);
+    if (extractor == null) {
+      throw new IllegalArgumentException("Unknown extractor: " + name);
+    }
+    return extractor;
+  }
+
+  /**
+   * 번들 샘플 로드
+   *
+   * @param resourcePath 리소스 경로 (예: samples/sample_01.json)
+   */
+  public static OcrDocument loadSample(String resourcePath) {
+    try {
+      return new OcrDocumentLoader().loadFromResource(resourcePath);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 샘플 위에 라벨이 없는 라인을 덧붙여 크기를 키운 문서
+   * 라벨이 문서 끝에 있으므로 라벨 탐색 비용이 라인/단어 수에 비례해 커짐
+   *
+   * @param sample      원본 샘플
+   * @param fillerLines 덧붙일 라인 수
+   * @return 새 문서
+   */
+  public static OcrDocument withFiller(OcrDocument sample, int fillerLines) {
+    if (fillerLines == 0) {
+      return sample;
+    }
+
+    List<String> lines = new ArrayList<>(fillerLines + sample.getLines().size());
+    List<OcrWord> words = new ArrayList<>();
+    for (int i = 0; i < fillerLines; i++) {
+      String[] tokens = {"비고", String.valueOf(i), "특이사항", "없음", "확인", "NO." + (i * 7)};
+      lines.add(String.join(" ", tokens));
+      for (int t = 0; t < tokens.length; t++) {
+        words.add(new OcrWord(tokens[t], t * FILLER_WORD_WIDTH, i * FILLER_LINE_HEIGHT,
+            FILLER_WORD_WIDTH - 20, FILLER_LINE_HEIGHT - 10, 0.99));
+      }
+    }
+    lines.addAll(sample.getLines());
+
+    int offsetY = fillerLines * FILLER_LINE_HEIGHT;
+    for (OcrWord word : sample.getWords()) {
+      words.add(new OcrWord(word.getText(), word.getX(), word.getY() + offsetY,
+          word.getWidth(), word.getHeight(), word.getConfidence()));
+    }
+
+    return OcrDocument.builder()
+        .text(String.join("\n", lines))
+        .lines(lines)
+        .words(words)
+        .confidence(sample.getConfidence())
+        .build();
+  }
+
+  /**
+   * 문서 파생 정보(토큰, 단어 저장소) 캐시가 없는 사본
+   * 매 호출마다 실제 요청처럼 처음부터 파싱하도록 벤치마크 메서드 안에서 사용
+   */
+  public static OcrDocument fresh(OcrDocument document) {
+    return OcrDocument.builder()
+        .text(document.getText())
+        .lines(document.getLines())
+        .words(document.getWords())
+        .confidence(document.getConfidence())
+        .build();
+  }
+}
@@ -0,0 +1,49 @@
+package me.eunseong.ocrtextparser.extractor;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import me.eunseong.ocrtextparser.BenchmarkFixture;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 필드 추출기별 벤치마크 (AbstractFieldExtractor 하위 클래스 + WeightExtractor)
+ * 매 호출마다 캐시 없는 문서 사본으로 토큰화/단어 저장소 생성 비용까지 포함
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FieldExtractorBenchmark {
+
+  @Param({"date", "vehicleNumber", "company", "totalWeight", "vehicleWeight",
+      "netWeight", "weight"})
+  private String extractor;
+
+  @Param({"samples/sample_01.json", "samples/sample_02.json",
+      "samples/sample_03.json", "samples/sample_04.json"})
+  private String sample;
+
+  @Param({"0", "100", "1000"})
+  private int fillerLines;
+
+  private FieldExtractor<?> fieldExtractor;
+  private OcrDocument document;
+
+  @Setup
+  public void setUp() {
+    fieldExtractor = new BenchmarkFixture().getExtractor(extractor);
+    document = BenchmarkFixture.withFiller(BenchmarkFixture.loadSample(sample), fillerLines);
+  }
+
+  @Benchmark
+  public Optional<?> extract() {
+    return fieldExtractor.extract(BenchmarkFixture.fresh(document));
+  }
+}
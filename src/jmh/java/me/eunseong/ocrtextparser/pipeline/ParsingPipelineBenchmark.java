@@ -0,0 +1,52 @@
+package me.eunseong.ocrtextparser.pipeline;
+
+import java.util.concurrent.TimeUnit;
+import me.eunseong.ocrtextparser.BenchmarkFixture;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.ParsingResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * DefaultParsingPipeline.process 전체 벤치마크 (추출 → 정규화 → 검증)
+ * 릴리스 간 파싱 지연 회귀 확인용 기준 지표
+ * parallelExtraction=true는 비용 임계값 없이 필드별 추출기를 병렬 실행 (fork 비용 손익분기 확인용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParsingPipelineBenchmark {
+
+  @Param({"samples/sample_01.json", "samples/sample_02.json",
+      "samples/sample_03.json", "samples/sample_04.json"})
+  private String sample;
+
+  @Param({"0", "100", "1000", "10000"})
+  private int fillerLines;
+
+  @Param({"false", "true"})
+  private boolean parallelExtraction;
+
+  private DefaultParsingPipeline pipeline;
+  private OcrDocument document;
+
+  @Setup
+  public void setUp() {
+    BenchmarkFixture fixture = new BenchmarkFixture();
+    fixture.getProperties().getExtraction().setParallel(parallelExtraction);
+    fixture.getProperties().getExtraction().setParallelMinCost(0);
+    pipeline = fixture.getPipeline();
+    document = BenchmarkFixture.withFiller(BenchmarkFixture.loadSample(sample), fillerLines);
+  }
+
+  @Benchmark
+  public ParsingResult process() {
+    return pipeline.process(BenchmarkFixture.fresh(document));
+  }
+}
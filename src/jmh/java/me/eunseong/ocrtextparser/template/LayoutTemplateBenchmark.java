@@ -0,0 +1,51 @@
+package me.eunseong.ocrtextparser.template;
+
+import java.util.concurrent.TimeUnit;
+import me.eunseong.ocrtextparser.BenchmarkFixture;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.ParsingResult;
+import me.eunseong.ocrtextparser.pipeline.DefaultParsingPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 레이아웃 템플릿 벤치마크
+ * 같은 양식 문서를 반복 파싱할 때 일반 추출 / 템플릿 영역 추출 파이프라인 지연 비교
+ * setUp에서 한 번 파싱해 템플릿을 학습시키므로 측정 구간은 모두 템플릿 적중 경로
+ * 실행: ./gradlew jmh -PjmhIncludes=LayoutTemplateBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LayoutTemplateBenchmark {
+
+  @Param({"samples/sample_01.json", "samples/sample_02.json",
+      "samples/sample_03.json", "samples/sample_04.json"})
+  private String sample;
+
+  @Param({"false", "true"})
+  private boolean layoutTemplate;
+
+  private DefaultParsingPipeline pipeline;
+  private OcrDocument document;
+
+  @Setup
+  public void setUp() {
+    BenchmarkFixture fixture = new BenchmarkFixture();
+    fixture.getProperties().getTemplate().setEnabled(layoutTemplate);
+    pipeline = fixture.getPipeline();
+    document = BenchmarkFixture.loadSample(sample);
+    pipeline.process(BenchmarkFixture.fresh(document));
+  }
+
+  @Benchmark
+  public ParsingResult process() {
+    return pipeline.process(BenchmarkFixture.fresh(document));
+  }
+}
@@ -0,0 +1,53 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.concurrent.TimeUnit;
+import me.eunseong.ocrtextparser.BenchmarkFixture;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.OcrWordStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * PositionHelper.findClosestValueOnRight 벤치마크
+ * 문서 단어 수를 늘려가며 라벨 오른쪽 값 탐색 비용 측정 (공간 인덱스는 문서당 한 번 생성)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PositionHelperBenchmark {
+
+  @Param({"0", "100", "1000", "10000"})
+  private int fillerLines;
+
+  private PositionHelper positionHelper;
+  private OcrWordStore words;
+  private int[] labelIndexes;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    positionHelper = new BenchmarkFixture().getPositionHelper();
+    OcrDocument document = BenchmarkFixture.withFiller(
+        BenchmarkFixture.loadSample(BenchmarkFixture.SAMPLES[0]), fillerLines);
+    words = document.getWordStore();
+
+    // 문서 전체에 고르게 퍼진 라벨 후보 64개
+    labelIndexes = new int[64];
+    for (int i = 0; i < labelIndexes.length; i++) {
+      labelIndexes[i] = (int) ((long) i * words.size() / labelIndexes.length);
+    }
+    positionHelper.findClosestValueOnRight(words, labelIndexes[0]);
+  }
+
+  @Benchmark
+  public int findClosestValueOnRight() {
+    int labelIndex = labelIndexes[next++ & (labelIndexes.length - 1)];
+    return positionHelper.findClosestValueOnRight(words, labelIndex);
+  }
+}
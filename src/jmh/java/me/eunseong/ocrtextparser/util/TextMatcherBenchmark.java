@@ -0,0 +1,48 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import me.eunseong.ocrtextparser.BenchmarkFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * TextMatcher 벤치마크
+ * 정확 매칭 라인, 오탈자 라인(Fuzzy), 매칭 실패 라인(Fuzzy 전체 수행)별 비용 비교
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TextMatcherBenchmark {
+
+  @Param({"차량번호: 8713", "차랑번호: 5678", "품종명랑 05:26:18 12,480 kg",
+      "* 위와 같이 계량하였음을 확인함."})
+  private String line;
+
+  private TextMatcher textMatcher;
+  private KeywordSet keywords;
+
+  @Setup
+  public void setUp() {
+    BenchmarkFixture fixture = new BenchmarkFixture();
+    textMatcher = fixture.getTextMatcher();
+    keywords = KeywordSet.compile(new String[]{"차량번호", "차량No", "차번호", "차량"},
+        fixture.getTextNormalizer());
+  }
+
+  @Benchmark
+  public boolean matches() {
+    return textMatcher.matches(line, keywords);
+  }
+
+  @Benchmark
+  public Optional<MatchResult> findFuzzyMatch() {
+    return textMatcher.findFuzzyMatch(line, keywords);
+  }
+}
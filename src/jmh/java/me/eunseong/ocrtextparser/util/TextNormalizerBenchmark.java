@@ -0,0 +1,59 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * TextNormalizer.normalize 비교 벤치마크
+ * legacy: 기존 구현 (replaceAll("\\s+") + 특수문자 정규식, 호출마다 String 2개 생성)
+ * singlePass: 문자 분류 테이블 단일 순회 (제거할 문자가 없으면 할당 없음)
+ * view: 재사용 버퍼에 기록 (String 생성 없음)
+ * 실행: ./gradlew jmh -PjmhIncludes=TextNormalizerBenchmark (gc.alloc.rate.norm으로 할당량 비교)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TextNormalizerBenchmark {
+
+  private static final Pattern LEGACY_SPECIAL_CHAR_PATTERN =
+      Pattern.compile("[:\\-_/\\\\]");
+
+  @Param({"계 량 증 명 서", "계량일자: 2026-02-02 0016", "품종명랑 05:26:18 12,480 kg",
+      "동우바이오(주)"})
+  private String line;
+
+  private TextNormalizer normalizer;
+  private StringBuilder buffer;
+
+  @Setup
+  public void setUp() {
+    normalizer = new TextNormalizer();
+    buffer = new StringBuilder();
+  }
+
+  @Benchmark
+  public String legacy() {
+    String result = line.replaceAll("\\s+", "");
+    return LEGACY_SPECIAL_CHAR_PATTERN.matcher(result).replaceAll("");
+  }
+
+  @Benchmark
+  public String singlePass() {
+    return normalizer.normalize(line);
+  }
+
+  @Benchmark
+  public void view(Blackhole blackhole) {
+    CharSequence normalized = normalizer.normalize(line, buffer);
+    blackhole.consume(normalized.length());
+  }
+}
@@ -0,0 +1,62 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Vector API 매칭 벤치마크
+ * 카운트 필터를 통과하는 라인("차량호번"으로 시작)에서 오탈자 키워드가 라인 끝에 있을 때
+ * 스칼라(비트 병렬) / Vector API 윈도우 비교 비용을 라인 길이별로 비교
+ * 윈도우 수가 레인 수보다 충분히 많은 긴 라인일수록 이득이 큼
+ * (짧은 라인은 정규화/카운트 필터 비용이 대부분이고 남은 윈도우는 스칼라로 비교)
+ * 실행: ./gradlew jmh -PjmhIncludes=VectorMatchingBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VectorMatchingBenchmark {
+
+  @Param({"false", "true"})
+  private boolean vectorMatching;
+
+  @Param({"16", "128", "1024"})
+  private int fillerLength;
+
+  private TextMatcher textMatcher;
+  private KeywordSet keywords;
+  private String line;
+
+  @Setup
+  public void setUp() {
+    TextNormalizer textNormalizer = new TextNormalizer();
+    ParserProperties properties = new ParserProperties();
+    properties.setVectorMatching(vectorMatching);
+    textMatcher = new TextMatcher(textNormalizer, properties);
+    if (vectorMatching && !textMatcher.isVectorMatchingActive()) {
+      throw new IllegalStateException("--add-modules jdk.incubator.vector 필요");
+    }
+
+    keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
+    StringBuilder filler = new StringBuilder();
+    String words = "위와같이계량하였음을확인함";
+    while (filler.length() < fillerLength) {
+      filler.append(words);
+    }
+    filler.setLength(fillerLength);
+    line = "차량호번 " + filler + " 차랑번호 1234";
+  }
+
+  @Benchmark
+  public Optional<MatchResult> findFuzzyMatch() {
+    return textMatcher.findFuzzyMatch(line, keywords);
+  }
+}
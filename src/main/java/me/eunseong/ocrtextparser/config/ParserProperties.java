@@ -17,6 +17,18 @@ public class ParserProperties {
    */
   private double fuzzyMatchThreshold = 0.75;
 
+  /**
+   * 64자 초과 키워드의 Fuzzy Matching에 최대 거리 제한 커널 사용 여부
+   * false면 윈도우마다 substring + LevenshteinDistance로 정확한 거리 계산
+   */
+  private boolean boundedDistance = true;
+
+  /**
+   * 짧은 키워드(최대 편집 거리 1 이하)의 Fuzzy Matching에 Vector API 사용 여부 (기본 꺼짐)
+   * jdk.incubator.vector 모듈이 없으면 켜져 있어도 스칼라 경로 사용
+   */
+  private boolean vectorMatching = false;
+
   /**
    * 좌표 기반 추출 설정
    */
@@ -27,6 +39,26 @@ public class ParserProperties {
    */
   private Validation validation = new Validation();
 
+  /**
+   * 필드 추출 설정
+   */
+  private Extraction extraction = new Extraction();
+
+  /**
+   * 문서 로드 설정
+   */
+  private Loader loader = new Loader();
+
+  /**
+   * 배치 파싱 설정
+   */
+  private Batch batch = new Batch();
+
+  /**
+   * 레이아웃 템플릿 설정
+   */
+  private Template template = new Template();
+
   @Getter
   @Setter
   public static class Position {
@@ -51,4 +83,76 @@ public class ParserProperties {
      */
     private double weightTolerance = 10.0;
   }
+
+  @Getter
+  @Setter
+  public static class Extraction {
+
+    /**
+     * 필드별 추출기 병렬 실행 여부 (대용량 문서용, 기본 꺼짐)
+     */
+    private boolean parallel = false;
+
+    /**
+     * 병렬 추출을 시작하는 최소 문서 비용 (문서 텍스트 길이, 문자 수)
+     * 이보다 작은 문서는 fork/join 비용이 더 커서 순차 실행
+     */
+    private int parallelMinCost = 20_000;
+  }
+
+  @Getter
+  @Setter
+  public static class Loader {
+
+    /**
+     * 디렉터리 배치 로드 시 병렬 디코딩 스레드 수
+     */
+    private int batchThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 디렉터리 배치 로드 시 대기 큐 크기 (가득 차면 호출 스레드가 직접 디코딩)
+     */
+    private int batchQueueSize = 256;
+  }
+
+  @Getter
+  @Setter
+  public static class Batch {
+
+    /**
+     * 배치 파싱 ForkJoinPool 병렬도
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 스트리밍 배치 파싱 시 한 번에 병렬 처리할 문서 수 (메모리에 올라가는 문서 수 상한)
+     */
+    private int streamChunkSize = 256;
+  }
+
+  @Getter
+  @Setter
+  public static class Template {
+
+    /**
+     * 레이아웃 템플릿 사용 여부 (기본 꺼짐)
+     * 켜면 파싱에 성공한 레이아웃의 값 위치를 학습하고, 같은 지문의 문서는 위치로 바로 추출
+     */
+    private boolean enabled = false;
+
+    /**
+     * 지문 격자 크기 (라벨 단어 위치를 grid x grid 칸으로 양자화)
+     */
+    private int grid = 16;
+
+    /**
+     * 최대 템플릿 수 (가득 차면 새 레이아웃은 학습하지 않음)
+     */
+    private int maxTemplates = 1_024;
+
+    /**
+     * 학습할 문서의 최대 단어 수 (값 위치 탐색 비용이 단어 수에 비례해 커지므로 제한)
+     */
+    private int learnMaxWords = 2_000;
+  }
 }
@@ -0,0 +1,58 @@
+package me.eunseong.ocrtextparser.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 라인 토큰 (LineTokenizer 결과)
+ * 원본 라인 기준 시작/끝 위치를 함께 보관
+ */
+@Getter
+@AllArgsConstructor
+public class LineToken {
+
+  /**
+   * 토큰 종류
+   */
+  public enum Type {
+    NUMBER,  // 숫자 (쉼표 구분자 포함, 예: 12,480)
+    DATE,  // 날짜 (예: 2026-02-02, 2026.02.02, 20260202)
+    TIME,  // 시간 (예: 05:26:18, 02:07, 02 : 13)
+    UNIT,  // 단위 (kg)
+    HANGUL_WORD,  // 한글 단어
+    WORD,  // 한글 외 문자 단어
+    PUNCT  // 기호 (한 글자)
+  }
+
+  private final Type type;
+  private final int start;  // 원본 라인 기준 시작 위치 (포함)
+  private final int end;  // 원본 라인 기준 끝 위치 (미포함)
+  private final String text;
+
+  public boolean is(Type type) {
+    return this.type == type;
+  }
+
+  /**
+   * 공백 없는 시간 토큰 여부 (HH:MM 또는 HH:MM:SS)
+   */
+  public boolean isCompactTime() {
+    if (type != Type.TIME) {
+      return false;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c != ':' && (c < '0' || c > '9')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 한 글자 기호 토큰 여부
+   */
+  public boolean isPunct(char c) {
+    return type == Type.PUNCT && text.charAt(0) == c;
+  }
+}
@@ -2,15 +2,87 @@ package me.eunseong.ocrtextparser.domain;
 
 import java.util.List;
 import lombok.*;
+import me.eunseong.ocrtextparser.util.LineTokenizer;
 
 @Getter
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class OcrDocument {
 
   private String text; // 전체 텍스트
   private List<String> lines;  // 라인별 텍스트
   private List<OcrWord> words;  //  단어 목록 (좌표 포함)
   private Double confidence;  // OCR 신뢰도
+
+  // 파생 캐시 (빌더/생성자로 주입하지 않음, 문서를 공유하는 워커들이 읽으므로 volatile)
+  private volatile OcrWordStore wordStore;  // 단어 컬럼 저장소 (좌표 계산용)
+  private volatile List<TokenizedLine> tokenizedLines;  // 라인별 토큰 (최초 조회 시 생성)
+
+  @Builder
+  public OcrDocument(String text, List<String> lines, List<OcrWord> words, Double confidence) {
+    this.text = text;
+    this.lines = lines;
+    this.words = words;
+    this.confidence = confidence;
+  }
+
+  /**
+   * 컬럼 저장소로 로드한 문서 (단어 목록 대신 저장소를 보관)
+   *
+   * @param text       전체 텍스트
+   * @param lines      라인별 텍스트
+   * @param wordStore  단어 컬럼 저장소
+   * @param confidence OCR 신뢰도
+   * @return 문서
+   */
+  public static OcrDocument ofWordStore(String text, List<String> lines, OcrWordStore wordStore,
+      Double confidence) {
+    OcrDocument document = new OcrDocument(text, lines, null, confidence);
+    document.wordStore = wordStore;
+    return document;
+  }
+
+  /**
+   * 단어 목록 반환
+   * 컬럼 저장소로 로드된 문서는 저장소의 OcrWord 뷰를 반환
+   *
+   * @return 단어 목록
+   */
+  public List<OcrWord> getWords() {
+    if (words == null && wordStore != null) {
+      return wordStore.asList();
+    }
+    return words;
+  }
+
+  /**
+   * 단어 컬럼 저장소 반환
+   * 단어 목록으로 생성된 문서는 최초 호출 시 저장소로 변환
+   * (동시에 처음 호출되면 중복 변환될 수 있지만 결과는 같음)
+   *
+   * @return 단어 컬럼 저장소 (단어 정보가 없으면 null)
+   */
+  public OcrWordStore getWordStore() {
+    OcrWordStore store = wordStore;
+    if (store == null && words != null) {
+      store = OcrWordStore.from(words);
+      wordStore = store;
+    }
+    return store;
+  }
+
+  /**
+   * 라인별 토큰 목록 반환
+   * 최초 호출 시 한 번만 토큰화하고 이후 추출기들이 재사용
+   * (동시에 처음 호출되면 중복 토큰화될 수 있지만 결과는 같음)
+   *
+   * @return 토큰화된 라인 목록 (라인 정보가 없으면 null)
+   */
+  public List<TokenizedLine> getTokenizedLines() {
+    List<TokenizedLine> tokenized = tokenizedLines;
+    if (tokenized == null && lines != null) {
+      tokenized = List.copyOf(LineTokenizer.tokenizeAll(lines));
+      tokenizedLines = tokenized;
+    }
+    return tokenized;
+  }
 }
@@ -0,0 +1,186 @@
+package me.eunseong.ocrtextparser.domain;
+
+import java.util.Arrays;
+
+/**
+ * OCR 단어 좌표 공간 인덱스 (y 밴드 버킷 + 버킷 내부 x 정렬)
+ * "같은 줄 + 오른쪽 + 가장 가까운 단어" 조회를 전체 순회 대신
+ * y 허용 범위에 걸친 버킷 조회 + x 이진 탐색으로 처리
+ * 문서당 한 번 생성하며 생성 후에는 불변 (OcrWordStore.getSpatialIndex)
+ */
+public final class OcrWordSpatialIndex {
+
+  private final OcrWordStore store;
+  private final int requestedBandHeight;
+  private final int bandHeight;
+  private final int minY;
+  private final int maxY;
+  private final int[] bandStarts;  // 밴드별 시작 위치 (길이 = 밴드 수 + 1)
+  private final int[] sortedIndices;  // 밴드 순, 밴드 내부는 (x, 인덱스) 순
+  private final int[] sortedXs;  // sortedIndices와 같은 순서의 x좌표 (이진 탐색용)
+
+  private OcrWordSpatialIndex(OcrWordStore store, int requestedBandHeight) {
+    this.store = store;
+    this.requestedBandHeight = requestedBandHeight;
+
+    int size = store.size();
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (int i = 0; i < size; i++) {
+      min = Math.min(min, store.getY(i));
+      max = Math.max(max, store.getY(i));
+    }
+    this.minY = min;
+    this.maxY = max;
+
+    // 좌표 이상치로 밴드 배열이 과도하게 커지지 않도록 밴드 수를 단어 수 수준으로 제한
+    long range = size == 0 ? 0 : (long) max - min + 1;
+    long maxBands = 2L * size + 1;
+    long height = Math.max(1, requestedBandHeight);
+    if (range / height > maxBands) {
+      height = range / maxBands + 1;
+    }
+    this.bandHeight = (int) Math.min(Integer.MAX_VALUE, height);
+    int bandCount = size == 0 ? 0 : (int) (range / bandHeight + 1);
+
+    // 밴드별 카운팅 정렬
+    this.bandStarts = new int[bandCount + 1];
+    for (int i = 0; i < size; i++) {
+      bandStarts[bandOf(store.getY(i)) + 1]++;
+    }
+    for (int b = 0; b < bandCount; b++) {
+      bandStarts[b + 1] += bandStarts[b];
+    }
+
+    long[] keys = new long[size];
+    int[] cursor = Arrays.copyOf(bandStarts, bandCount);
+    for (int i = 0; i < size; i++) {
+      // 상위 32비트 = x, 하위 32비트 = 인덱스 → 정렬 시 (x, 인덱스) 순
+      keys[cursor[bandOf(store.getY(i))]++] =
+          ((long) store.getX(i) << 32) | (i & 0xFFFFFFFFL);
+    }
+    for (int b = 0; b < bandCount; b++) {
+      Arrays.sort(keys, bandStarts[b], bandStarts[b + 1]);
+    }
+
+    this.sortedIndices = new int[size];
+    this.sortedXs = new int[size];
+    for (int p = 0; p < size; p++) {
+      sortedIndices[p] = (int) keys[p];
+      sortedXs[p] = (int) (keys[p] >> 32);
+    }
+  }
+
+  /**
+   * 공간 인덱스 생성
+   *
+   * @param store      단어 컬럼 저장소
+   * @param bandHeight y 밴드 높이 (보통 같은 줄 판단 y 허용 오차)
+   * @return 공간 인덱스
+   */
+  public static OcrWordSpatialIndex build(OcrWordStore store, int bandHeight) {
+    return new OcrWordSpatialIndex(store, bandHeight);
+  }
+
+  /**
+   * 생성 시 요청한 밴드 높이
+   */
+  public int getRequestedBandHeight() {
+    return requestedBandHeight;
+  }
+
+  /**
+   * |y - labelY| <= yTolerance 이고 x >= minX 인 단어 중 x가 가장 작은 단어 찾기
+   * x가 같으면 인덱스가 작은 단어 (전체 순회와 같은 결과)
+   *
+   * @param labelY     기준 y좌표
+   * @param minX       최소 x좌표
+   * @param yTolerance y 허용 오차
+   * @return 단어 인덱스 (없으면 -1)
+   */
+  public int findClosestOnRight(int labelY, int minX, int yTolerance) {
+    long low = (long) labelY - yTolerance;
+    long high = (long) labelY + yTolerance;
+    if (sortedIndices.length == 0 || high < minY || low > maxY) {
+      return -1;
+    }
+
+    int fromBand = bandOf((int) Math.max(low, minY));
+    int toBand = bandOf((int) Math.min(high, maxY));
+
+    int bestIndex = -1;
+    int bestX = Integer.MAX_VALUE;
+    for (int b = fromBand; b <= toBand; b++) {
+      int end = bandStarts[b + 1];
+      for (int p = lowerBound(bandStarts[b], end, minX); p < end; p++) {
+        int x = sortedXs[p];
+        if (x > bestX) {
+          break;
+        }
+        int index = sortedIndices[p];
+        if (Math.abs((long) store.getY(index) - labelY) <= yTolerance) {
+          if (bestIndex < 0 || x < bestX || index < bestIndex) {
+            bestIndex = index;
+            bestX = x;
+          }
+          break;  // 밴드 내부는 (x, 인덱스) 순이므로 첫 후보가 밴드 최솟값
+        }
+      }
+    }
+    return bestIndex;
+  }
+
+  /**
+   * |y - labelY| <= yTolerance 이고 x >= minX 인 모든 단어 찾기
+   *
+   * @param labelY     기준 y좌표
+   * @param minX       최소 x좌표
+   * @param yTolerance y 허용 오차
+   * @return 단어 인덱스 (인덱스 오름차순, 없으면 빈 배열)
+   */
+  public int[] findAllOnRight(int labelY, int minX, int yTolerance) {
+    long low = (long) labelY - yTolerance;
+    long high = (long) labelY + yTolerance;
+    if (sortedIndices.length == 0 || high < minY || low > maxY) {
+      return new int[0];
+    }
+
+    int fromBand = bandOf((int) Math.max(low, minY));
+    int toBand = bandOf((int) Math.min(high, maxY));
+
+    int[] found = new int[bandStarts[toBand + 1] - bandStarts[fromBand]];
+    int count = 0;
+    for (int b = fromBand; b <= toBand; b++) {
+      int end = bandStarts[b + 1];
+      for (int p = lowerBound(bandStarts[b], end, minX); p < end; p++) {
+        int index = sortedIndices[p];
+        if (Math.abs((long) store.getY(index) - labelY) <= yTolerance) {
+          found[count++] = index;
+        }
+      }
+    }
+    Arrays.sort(found, 0, count);
+    return count == found.length ? found : Arrays.copyOf(found, count);
+  }
+
+  private int bandOf(int y) {
+    return (int) (((long) y - minY) / bandHeight);
+  }
+
+  /**
+   * [from, to) 구간에서 sortedXs[p] >= x 인 첫 위치
+   */
+  private int lowerBound(int from, int to, int x) {
+    int lo = from;
+    int hi = to;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (sortedXs[mid] < x) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+}
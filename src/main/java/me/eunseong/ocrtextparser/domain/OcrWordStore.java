@@ -0,0 +1,292 @@
+package me.eunseong.ocrtextparser.domain;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * OCR 단어 컬럼 저장소 (struct-of-arrays)
+ * 좌표는 int 배열, 신뢰도는 float 배열, 텍스트는 하나의 공유 char 버퍼 + 오프셋으로 저장
+ * 좌표 계산 코드는 인덱스로 배열을 직접 순회하고, OcrWord는 asList() 뷰에서 필요할 때만 생성
+ */
+public final class OcrWordStore {
+
+  private static final int NO_TEXT = -1;
+
+  private final int size;
+  private final char[] textBuffer;
+  private final int[] textStarts;
+  private final int[] textLengths;  // 텍스트가 없으면 NO_TEXT
+  private final int[] xs;  // boundingBox 좌상단 x
+  private final int[] ys;  // boundingBox 좌상단 y
+  private final int[] widths;
+  private final int[] heights;
+  private final float[] confidences;  // 신뢰도가 없으면 NaN
+  private final String[] texts;  // getText 결과 캐시 (String은 불변이므로 경쟁 조건 무해)
+  private final List<OcrWord> wordView;
+  private volatile OcrWordSpatialIndex spatialIndex;  // 최초 좌표 조회 시 생성
+
+  private OcrWordStore(Builder builder) {
+    this.size = builder.size;
+    this.textBuffer = Arrays.copyOf(builder.textBuffer, builder.textLength);
+    this.textStarts = Arrays.copyOf(builder.textStarts, size);
+    this.textLengths = Arrays.copyOf(builder.textLengths, size);
+    this.xs = Arrays.copyOf(builder.xs, size);
+    this.ys = Arrays.copyOf(builder.ys, size);
+    this.widths = Arrays.copyOf(builder.widths, size);
+    this.heights = Arrays.copyOf(builder.heights, size);
+    this.confidences = Arrays.copyOf(builder.confidences, size);
+    this.texts = new String[size];
+    this.wordView = new WordView();
+  }
+
+  /**
+   * OcrWord 목록을 컬럼 저장소로 변환
+   *
+   * @param words 단어 목록
+   * @return 컬럼 저장소
+   */
+  public static OcrWordStore from(List<OcrWord> words) {
+    Builder builder = builder(words.size());
+    for (OcrWord word : words) {
+      builder.add(word.getText(), word.getX(), word.getY(), word.getWidth(),
+          word.getHeight(), word.getConfidence());
+    }
+    return builder.build();
+  }
+
+  /**
+   * 빌더 생성
+   *
+   * @param expectedSize 예상 단어 수 (초기 배열 크기)
+   * @return 빌더
+   */
+  public static Builder builder(int expectedSize) {
+    return new Builder(expectedSize);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public int getX(int index) {
+    return xs[index];
+  }
+
+  public int getY(int index) {
+    return ys[index];
+  }
+
+  public int getWidth(int index) {
+    return widths[index];
+  }
+
+  public int getHeight(int index) {
+    return heights[index];
+  }
+
+  /**
+   * 단어의 오른쪽 끝 x좌표 (x + width)
+   */
+  public int getEndX(int index) {
+    return xs[index] + widths[index];
+  }
+
+  /**
+   * 신뢰도 (float 정밀도, 없으면 null)
+   */
+  public Double getConfidence(int index) {
+    float confidence = confidences[index];
+    return Float.isNaN(confidence) ? null : (double) confidence;
+  }
+
+  /**
+   * 텍스트 길이 (텍스트가 없으면 0)
+   */
+  public int getTextLength(int index) {
+    return Math.max(0, textLengths[index]);
+  }
+
+  /**
+   * 단어 텍스트 (최초 호출 시 공유 버퍼에서 String 생성 후 캐시)
+   *
+   * @param index 단어 인덱스
+   * @return 텍스트 (없으면 null)
+   */
+  public String getText(int index) {
+    String text = texts[index];
+    if (text == null && textLengths[index] != NO_TEXT) {
+      text = new String(textBuffer, textStarts[index], textLengths[index]);
+      texts[index] = text;
+    }
+    return text;
+  }
+
+  /**
+   * 단어 하나를 OcrWord로 생성
+   *
+   * @param index 단어 인덱스
+   * @return OcrWord
+   */
+  public OcrWord getWord(int index) {
+    return OcrWord.builder()
+        .text(getText(index))
+        .x(xs[index])
+        .y(ys[index])
+        .width(widths[index])
+        .height(heights[index])
+        .confidence(getConfidence(index))
+        .build();
+  }
+
+  /**
+   * 좌표 공간 인덱스 반환 (문서당 한 번 생성 후 재사용, 밴드 높이가 바뀌면 재생성)
+   *
+   * @param bandHeight y 밴드 높이
+   * @return 공간 인덱스
+   */
+  public OcrWordSpatialIndex getSpatialIndex(int bandHeight) {
+    OcrWordSpatialIndex index = spatialIndex;
+    if (index == null || index.getRequestedBandHeight() != bandHeight) {
+      index = OcrWordSpatialIndex.build(this, bandHeight);
+      spatialIndex = index;
+    }
+    return index;
+  }
+
+  /**
+   * OcrWord 목록 뷰 (읽기 전용, get 호출 시 OcrWord 생성)
+   *
+   * @return 단어 목록 뷰
+   */
+  public List<OcrWord> asList() {
+    return wordView;
+  }
+
+  private class WordView extends AbstractList<OcrWord> implements RandomAccess {
+
+    @Override
+    public OcrWord get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+      return getWord(index);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  /**
+   * 컬럼 저장소 빌더
+   * 로더가 JSON 토큰의 문자 버퍼를 String 생성 없이 바로 복사할 수 있도록 appendText 제공
+   */
+  public static final class Builder {
+
+    private int size;
+    private char[] textBuffer;
+    private int textLength;
+    private int[] textStarts;
+    private int[] textLengths;
+    private int[] xs;
+    private int[] ys;
+    private int[] widths;
+    private int[] heights;
+    private float[] confidences;
+
+    private Builder(int expectedSize) {
+      int capacity = Math.max(8, expectedSize);
+      this.textBuffer = new char[capacity * 4];
+      this.textStarts = new int[capacity];
+      this.textLengths = new int[capacity];
+      this.xs = new int[capacity];
+      this.ys = new int[capacity];
+      this.widths = new int[capacity];
+      this.heights = new int[capacity];
+      this.confidences = new float[capacity];
+    }
+
+    /**
+     * 텍스트 문자를 공유 버퍼에 복사
+     *
+     * @param chars  원본 문자 배열
+     * @param offset 시작 위치
+     * @param length 길이
+     * @return 공유 버퍼 내 시작 위치 (add의 textStart로 전달)
+     */
+    public int appendText(char[] chars, int offset, int length) {
+      ensureTextCapacity(length);
+      System.arraycopy(chars, offset, textBuffer, textLength, length);
+      int start = textLength;
+      textLength += length;
+      return start;
+    }
+
+    /**
+     * appendText로 복사한 텍스트를 가진 단어 추가
+     *
+     * @param textStart  appendText 반환값
+     * @param textLength 텍스트 길이 (텍스트가 없으면 음수)
+     */
+    public Builder add(int textStart, int textLength, int x, int y, int width,
+        int height, Double confidence) {
+      ensureCapacity();
+      textStarts[size] = textStart;
+      textLengths[size] = textLength < 0 ? NO_TEXT : textLength;
+      xs[size] = x;
+      ys[size] = y;
+      widths[size] = width;
+      heights[size] = height;
+      confidences[size] = confidence != null ? confidence.floatValue() : Float.NaN;
+      size++;
+      return this;
+    }
+
+    /**
+     * 단어 추가
+     */
+    public Builder add(String text, int x, int y, int width, int height,
+        Double confidence) {
+      if (text == null) {
+        return add(0, NO_TEXT, x, y, width, height, confidence);
+      }
+      ensureTextCapacity(text.length());
+      text.getChars(0, text.length(), textBuffer, textLength);
+      int start = textLength;
+      textLength += text.length();
+      return add(start, text.length(), x, y, width, height, confidence);
+    }
+
+    public OcrWordStore build() {
+      return new OcrWordStore(this);
+    }
+
+    private void ensureTextCapacity(int additional) {
+      if (textLength + additional > textBuffer.length) {
+        textBuffer = Arrays.copyOf(textBuffer,
+            Math.max(textBuffer.length * 2, textLength + additional));
+      }
+    }
+
+    private void ensureCapacity() {
+      if (size < xs.length) {
+        return;
+      }
+      int capacity = xs.length * 2;
+      textStarts = Arrays.copyOf(textStarts, capacity);
+      textLengths = Arrays.copyOf(textLengths, capacity);
+      xs = Arrays.copyOf(xs, capacity);
+      ys = Arrays.copyOf(ys, capacity);
+      widths = Arrays.copyOf(widths, capacity);
+      heights = Arrays.copyOf(heights, capacity);
+      confidences = Arrays.copyOf(confidences, capacity);
+    }
+  }
+}
@@ -0,0 +1,311 @@
+package me.eunseong.ocrtextparser.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+import me.eunseong.ocrtextparser.domain.LineToken.Type;
+import me.eunseong.ocrtextparser.util.LineTokenizer;
+
+/**
+ * 토큰화된 라인 (원본 라인 + 토큰 목록)
+ * 추출기는 라인을 정규식으로 다시 탐색하지 않고 토큰을 조회
+ */
+public class TokenizedLine {
+
+  private static final int MAX_LONG_DIGITS = 18;
+
+  private final String line;
+  private final List<LineToken> tokens;
+
+  public TokenizedLine(String line, List<LineToken> tokens) {
+    this.line = line;
+    this.tokens = List.copyOf(tokens);
+  }
+
+  public String getLine() {
+    return line;
+  }
+
+  public List<LineToken> getTokens() {
+    return tokens;
+  }
+
+  /**
+   * 첫 번째 날짜 토큰을 LocalDate로 변환
+   * 숫자를 직접 읽고 월/일 범위를 계산으로 검증 (잘못된 날짜도 예외 없이 empty)
+   *
+   * @return 날짜 (날짜 토큰이 없거나 잘못된 날짜 값이면 empty)
+   */
+  public Optional<LocalDate> findDate() {
+    for (LineToken token : tokens) {
+      if (token.is(Type.DATE)) {
+        return parseDate(token.getText());
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * 첫 번째 시간 토큰(공백 없는 HH:MM 또는 HH:MM:SS)을 LocalTime으로 변환
+   *
+   * @return 시간 (시간 토큰이 없거나 잘못된 시간 값이면 empty)
+   */
+  public Optional<LocalTime> findTime() {
+    for (LineToken token : tokens) {
+      if (token.isCompactTime()) {
+        return parseTime(token);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * 공백 없는 시간 토큰을 LocalTime으로 변환 (HH:MM 또는 HH:MM:SS)
+   * 숫자를 직접 읽고 범위를 계산으로 검증 (잘못된 시간도 예외 없이 empty)
+   * 24:00(:00)은 기존 DateTimeFormatter(SMART)와 같이 00:00으로 처리
+   *
+   * @param token 시간 토큰
+   * @return 시간 (잘못된 시간 값이면 empty)
+   */
+  public static Optional<LocalTime> parseTime(LineToken token) {
+    String text = token.getText();
+    int length = text.length();
+    if ((length != 5 && length != 8) || text.charAt(2) != ':'
+        || (length == 8 && text.charAt(5) != ':')) {
+      return Optional.empty();
+    }
+
+    int hour = twoDigits(text, 0);
+    int minute = twoDigits(text, 3);
+    int second = length == 8 ? twoDigits(text, 6) : 0;
+    if (hour < 0 || minute < 0 || second < 0) {
+      return Optional.empty();
+    }
+    if (hour == 24 && minute == 0 && second == 0) {
+      return Optional.of(LocalTime.MIDNIGHT);
+    }
+    if (hour > 23 || minute > 59 || second > 59) {
+      return Optional.empty();
+    }
+    return Optional.of(LocalTime.of(hour, minute, second));
+  }
+
+  /**
+   * 첫 번째 kg 값을 무게로 변환 (첫 번째 시간 토큰을 측정 시간으로 사용)
+   * 숫자 문자열을 만들지 않고 토큰 문자에서 바로 값을 계산
+   *
+   * @param baseDate 측정 날짜 (없으면 null, 측정 시간도 null)
+   * @return 무게 (kg 값이 없으면 empty)
+   */
+  public Optional<Weight> findWeight(LocalDate baseDate) {
+    NumberSpan span = findWeightSpan();
+    if (span == null || span.digitCount == 0) {
+      return Optional.empty();
+    }
+
+    LocalTime time = findTime().orElse(null);
+    LocalDateTime measuredAt = null;
+    if (time != null && baseDate != null) {
+      measuredAt = LocalDateTime.of(baseDate, time);
+    }
+
+    return Optional.of(Weight.builder()
+        .value(weightValue(span))
+        .unit("kg")
+        .measuredAt(measuredAt)
+        .build());
+  }
+
+  /**
+   * 첫 번째 kg 앞의 무게 숫자 (쉼표, 띄어쓰기 제거)
+   * 공백 없는 시간 토큰은 건너뛰고, 숫자/쉼표가 아닌 토큰을 만나면
+   * 그 토큰 끝부분의 숫자까지만 포함
+   * 예: "05:26:18 12,480 kg" → "12480", "13 460 kg" → "13460"
+   *
+   * @return 숫자 문자열 (kg 앞에 숫자가 없으면 빈 문자열, kg가 없으면 empty)
+   */
+  public Optional<String> findWeightNumber() {
+    NumberSpan span = findWeightSpan();
+    if (span == null) {
+      return Optional.empty();
+    }
+
+    StringBuilder digits = new StringBuilder(span.digitCount);
+    forEachDigit(span, digit -> digits.append((char) ('0' + digit)));
+    return Optional.of(digits.toString());
+  }
+
+  /**
+   * 시간 토큰(공백 포함 형식 포함)과 바로 뒤 공백을 제거한 라인
+   * 예: "02 : 13 7 560 kg" → "7 560 kg"
+   *
+   * @return 시간이 제거된 라인
+   */
+  public String removeTimes() {
+    StringBuilder result = new StringBuilder(line.length());
+    int copied = 0;
+    for (LineToken token : tokens) {
+      if (!token.is(Type.TIME)) {
+        continue;
+      }
+      result.append(line, copied, token.getStart());
+      copied = token.getEnd();
+      while (copied < line.length()
+          && LineTokenizer.isWhitespace(line.charAt(copied))) {
+        copied++;
+      }
+    }
+    result.append(line, copied, line.length());
+    return result.toString();
+  }
+
+  /**
+   * 첫 번째 kg 앞 숫자 구간 탐색 (kg에서 왼쪽으로 토큰을 한 번만 거슬러 올라감)
+   * 구간 안의 토큰은 마지막으로 숫자가 아닌 문자가 나온 토큰을 빼면 모두 숫자/쉼표이므로
+   * 시작 위치만 기록하고 숫자는 앞에서부터 다시 읽음 (앞에 이어 붙이지 않아 선형 시간)
+   *
+   * @return 숫자 구간 (kg가 없거나 kg 앞에 후보가 없으면 null)
+   */
+  private NumberSpan findWeightSpan() {
+    for (int u = 0; u < tokens.size(); u++) {
+      if (!tokens.get(u).is(Type.UNIT)) {
+        continue;
+      }
+
+      NumberSpan span = new NumberSpan(u);
+      boolean hasCandidate = false;  // kg 바로 앞에 공백/숫자/쉼표가 있는지
+      int position = tokens.get(u).getStart();
+      int i = u - 1;
+      for (; i >= 0; i--) {
+        LineToken token = tokens.get(i);
+        if (token.getEnd() < position) {
+          hasCandidate = true;
+        }
+        if (token.isCompactTime()) {
+          position = token.getStart();
+          continue;
+        }
+
+        String text = token.getText();
+        int suffixStart = text.length();
+        while (suffixStart > 0 && isNumberChar(text.charAt(suffixStart - 1))) {
+          suffixStart--;
+          if (text.charAt(suffixStart) != ',') {
+            span.digitCount++;
+          }
+        }
+        if (suffixStart < text.length()) {
+          hasCandidate = true;
+          span.fromToken = i;
+          span.fromOffset = suffixStart;
+        }
+        if (suffixStart > 0) {
+          break;
+        }
+        position = token.getStart();
+      }
+      if (i < 0 && position > 0) {
+        hasCandidate = true;
+      }
+
+      if (hasCandidate) {
+        return span;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 숫자 구간의 숫자를 앞에서부터 전달 (공백 없는 시간 토큰과 쉼표는 건너뜀)
+   */
+  private void forEachDigit(NumberSpan span, IntConsumer consumer) {
+    for (int t = span.fromToken; t < span.unitToken; t++) {
+      LineToken token = tokens.get(t);
+      if (token.isCompactTime()) {
+        continue;
+      }
+      String text = token.getText();
+      for (int c = t == span.fromToken ? span.fromOffset : 0; c < text.length(); c++) {
+        char ch = text.charAt(c);
+        if (ch >= '0' && ch <= '9') {
+          consumer.accept(ch - '0');
+        }
+      }
+    }
+  }
+
+  /**
+   * 숫자 구간의 값 (18자리 이하는 long 누적, 그보다 길면 문자열로 변환)
+   */
+  private double weightValue(NumberSpan span) {
+    if (span.digitCount > MAX_LONG_DIGITS) {
+      return Double.parseDouble(findWeightNumber().orElse("0"));
+    }
+    long[] value = {0L};
+    forEachDigit(span, digit -> value[0] = value[0] * 10 + digit);
+    return value[0];
+  }
+
+  private static boolean isNumberChar(char c) {
+    return (c >= '0' && c <= '9') || c == ',';
+  }
+
+  /**
+   * 날짜 토큰 텍스트(구분자 포함 가능)의 숫자 8개를 YYYYMMDD로 읽어 날짜로 변환
+   */
+  private static Optional<LocalDate> parseDate(String text) {
+    int[] digits = new int[8];
+    int count = 0;
+    for (int i = 0; i < text.length() && count < digits.length; i++) {
+      char c = text.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digits[count++] = c - '0';
+      }
+    }
+    if (count < digits.length) {
+      return Optional.empty();
+    }
+
+    int year = digits[0] * 1000 + digits[1] * 100 + digits[2] * 10 + digits[3];
+    int month = digits[4] * 10 + digits[5];
+    int day = digits[6] * 10 + digits[7];
+    if (month < 1 || month > 12 || day < 1
+        || day > Month.of(month).length(Year.isLeap(year))) {
+      return Optional.empty();
+    }
+    return Optional.of(LocalDate.of(year, month, day));
+  }
+
+  /**
+   * offset 위치의 두 자리 숫자 (숫자가 아니면 -1)
+   */
+  private static int twoDigits(String text, int offset) {
+    char tens = text.charAt(offset);
+    char ones = text.charAt(offset + 1);
+    if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+      return -1;
+    }
+    return (tens - '0') * 10 + (ones - '0');
+  }
+
+  /**
+   * kg 앞 숫자 구간 (토큰 fromToken의 fromOffset부터 unitToken 직전까지)
+   */
+  private static final class NumberSpan {
+
+    private final int unitToken;
+    private int fromToken;
+    private int fromOffset;
+    private int digitCount;
+
+    private NumberSpan(int unitToken) {
+      this.unitToken = unitToken;
+      this.fromToken = unitToken;
+    }
+  }
+}
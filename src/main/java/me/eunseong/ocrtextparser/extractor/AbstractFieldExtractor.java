@@ -2,9 +2,14 @@ package me.eunseong.ocrtextparser.extractor;
 
 import me.eunseong.ocrtextparser.domain.OcrDocument;
 import me.eunseong.ocrtextparser.extractor.strategy.ExtractionStrategy;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
+import me.eunseong.ocrtextparser.util.KeywordSet;
 import me.eunseong.ocrtextparser.util.TextNormalizer;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +24,8 @@ public abstract class AbstractFieldExtractor<T> implements FieldExtractor<T> {
   private final List<ExtractionStrategy> strategies;
   protected final TextNormalizer textNormalizer;
 
+  private volatile KeywordSet keywordSet;  // 최초 추출 시 getKeywords()로 컴파일
+
   protected AbstractFieldExtractor(List<ExtractionStrategy> strategies,
       TextNormalizer textNormalizer) {
     this.strategies = strategies.stream()
@@ -32,17 +39,26 @@ public abstract class AbstractFieldExtractor<T> implements FieldExtractor<T> {
     if (document == null) {
       return Optional.empty();
     }
+    return extract(ParsingContext.builder().document(document).build());
+  }
+
+  @Override
+  public Optional<T> extract(ParsingContext context) {
+    OcrDocument document = context.getDocument();
+    if (document == null) {
+      return Optional.empty();
+    }
 
-    // 1. 키워드 가져오기
-    String[] keywords = getKeywords();
+    // 1. 키워드 가져오기 (추출기당 한 번 컴파일)
+    KeywordSet keywords = getKeywordSet();
 
     // 2. 전략 순회 (우선순위 순서: TextBased → PositionBased)
     for (ExtractionStrategy strategy : strategies) {
       if (strategy.supports(document)) {
-        Optional<String> rawValue = strategy.extract(document, keywords);
+        Optional<String> rawValue = strategy.extract(context, keywords);
         if (rawValue.isPresent()) {
           // 3. 후처리 (구체 클래스에서 구현)
-          Optional<T> processed = postProcess(rawValue.get(), document);
+          Optional<T> processed = postProcess(rawValue.get(), context);
           if (processed.isPresent()) {
             return processed;
           }
@@ -51,7 +67,79 @@ public abstract class AbstractFieldExtractor<T> implements FieldExtractor<T> {
     }
 
     // 4. Fallback 로직 (선택적, 구체 클래스에서 오버라이드)
-    return extractWithFallback(document);
+    return extractWithFallback(context);
+  }
+
+  /**
+   * 같은 전략 목록을 쓰는 추출기들을 한 번에 추출
+   * 전략마다 아직 값을 찾지 못한 추출기의 키워드 집합을 모아 extractAll로 한 번만 순회
+   * 추출기마다 extract(context)를 호출한 것과 같은 결과
+   * (전략 목록이 다르면 추출기별로 extract 호출)
+   *
+   * @param context    파싱 컨텍스트
+   * @param extractors 추출기 목록
+   * @param <T>        추출할 데이터 타입
+   * @return 추출기 순서의 추출 값
+   */
+  public static <T> List<Optional<T>> extractAll(ParsingContext context,
+      List<? extends AbstractFieldExtractor<T>> extractors) {
+    List<Optional<T>> results =
+        new ArrayList<>(Collections.nCopies(extractors.size(), Optional.empty()));
+    OcrDocument document = context.getDocument();
+    if (document == null || extractors.isEmpty()) {
+      return results;
+    }
+
+    AbstractFieldExtractor<T> first = extractors.get(0);
+    List<ExtractionStrategy> strategies = first.strategies;
+    for (AbstractFieldExtractor<T> extractor : extractors) {
+      if (!extractor.strategies.equals(strategies)) {
+        for (int i = 0; i < extractors.size(); i++) {
+          results.set(i, extractors.get(i).extract(context));
+        }
+        return results;
+      }
+    }
+
+    List<Integer> pending = new ArrayList<>(extractors.size());
+    for (int i = 0; i < extractors.size(); i++) {
+      pending.add(i);
+    }
+
+    // 전략 순회 (우선순위 순서), 값을 찾은 추출기는 다음 전략에서 제외
+    for (ExtractionStrategy strategy : strategies) {
+      if (pending.isEmpty()) {
+        break;
+      }
+      if (!strategy.supports(document)) {
+        continue;
+      }
+
+      List<KeywordSet> keywordSets = new ArrayList<>(pending.size());
+      for (int index : pending) {
+        keywordSets.add(extractors.get(index).getKeywordSet());
+      }
+      List<Optional<String>> rawValues = strategy.extractAll(context, keywordSets);
+
+      Iterator<Integer> iterator = pending.iterator();
+      for (Optional<String> rawValue : rawValues) {
+        int index = iterator.next();
+        if (rawValue.isPresent()) {
+          AbstractFieldExtractor<T> extractor = extractors.get(index);
+          Optional<T> processed = extractor.postProcess(rawValue.get(), context);
+          if (processed.isPresent()) {
+            results.set(index, processed);
+            iterator.remove();
+          }
+        }
+      }
+    }
+
+    for (int index : pending) {
+      AbstractFieldExtractor<T> extractor = extractors.get(index);
+      results.set(index, extractor.extractWithFallback(context));
+    }
+    return results;
   }
 
   /**
@@ -62,26 +150,67 @@ public abstract class AbstractFieldExtractor<T> implements FieldExtractor<T> {
    */
   protected abstract String[] getKeywords();
 
+  /**
+   * 컴파일된 키워드 집합 (정규화 형태, 길이, q-gram 프로필 등)
+   * 최초 호출 시 한 번만 생성
+   *
+   * @return 키워드 집합
+   */
+  protected KeywordSet getKeywordSet() {
+    KeywordSet compiled = keywordSet;
+    if (compiled == null) {
+      compiled = KeywordSet.compile(getKeywords(), textNormalizer);
+      keywordSet = compiled;
+    }
+    return compiled;
+  }
+
+  /**
+   * 필드 이름 (클래스 이름에서 "Extractor"를 뺀 이름, 예: DateExtractor → date)
+   * FieldLabelScanner가 라벨 매칭 결과에 필드를 표시할 때 사용
+   *
+   * @return 필드 이름
+   */
+  public String getFieldName() {
+    String name = getClass().getSimpleName().replace("Extractor", "");
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
   /**
    * 추출된 원본 문자열을 타입 T로 변환
    * 구체 클래스에서 구현
    *
    * @param rawValue 추출된 원본 문자열
-   * @param document 원본 OCR 문서 (필요 시 사용)
+   * @param context  파싱 컨텍스트 (원본 문서, 문서 파생 정보)
    * @return 변환된 값
    */
   protected abstract Optional<T> postProcess(String rawValue,
-      OcrDocument document);
+      ParsingContext context);
+
+  /**
+   * 위치를 이미 아는 원본 문자열을 값으로 변환 (전략 없이 postProcess만 적용)
+   * 레이아웃 템플릿이 학습한 영역의 텍스트를 변환할 때 사용
+   *
+   * @param rawValue 원본 문자열
+   * @param context  파싱 컨텍스트
+   * @return 변환된 값
+   */
+  public Optional<T> parseValue(String rawValue, ParsingContext context) {
+    if (rawValue == null || rawValue.isEmpty()) {
+      return Optional.empty();
+    }
+    return postProcess(rawValue, context);
+  }
 
   /**
    * Fallback 추출 로직 (선택적)
    * 전략 기반 추출이 모두 실패했을 때 호출
    * 기본 구현은 empty 반환
    *
-   * @param document OCR 문서
+   * @param context 파싱 컨텍스트
    * @return 추출된 값
    */
-  protected Optional<T> extractWithFallback(OcrDocument document) {
+  protected Optional<T> extractWithFallback(ParsingContext context) {
     return Optional.empty();
   }
 
@@ -1,15 +1,15 @@
 package me.eunseong.ocrtextparser.extractor;
 
-import me.eunseong.ocrtextparser.domain.OcrDocument;
 import me.eunseong.ocrtextparser.extractor.strategy.ExtractionStrategy;
+import me.eunseong.ocrtextparser.pipeline.DocumentFacts;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
+import me.eunseong.ocrtextparser.util.LineTokenizer;
 import me.eunseong.ocrtextparser.util.TextNormalizer;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * 날짜 추출기
@@ -19,10 +19,6 @@ import java.util.regex.Pattern;
 @Component
 public class DateExtractor extends AbstractFieldExtractor<LocalDate> {
 
-  // YYYY-MM-DD 또는 YYYY.MM.DD 패턴
-  private static final Pattern DATE_PATTERN =
-      Pattern.compile("(\\d{4})[-.]?(\\d{2})[-.]?(\\d{2})");
-
   public DateExtractor(List<ExtractionStrategy> strategies,
       TextNormalizer textNormalizer) {
     super(strategies, textNormalizer);
@@ -35,51 +31,16 @@ public class DateExtractor extends AbstractFieldExtractor<LocalDate> {
 
   @Override
   protected Optional<LocalDate> postProcess(String rawValue,
-      OcrDocument document) {
-    return parseDateFromString(rawValue);
-  }
-
-  @Override
-  protected Optional<LocalDate> extractWithFallback(OcrDocument document) {
-    // 키워드 없이 날짜 패턴만 찾기
-    if (document.getLines() == null) {
+      ParsingContext context) {
+    if (rawValue == null || rawValue.isEmpty()) {
       return Optional.empty();
     }
-
-    for (String line : document.getLines()) {
-      Optional<LocalDate> date = parseDateFromString(line);
-      if (date.isPresent()) {
-        return date;
-      }
-    }
-
-    return Optional.empty();
+    return LineTokenizer.tokenize(rawValue).findDate();
   }
 
-  /**
-   * 문자열에서 날짜 파싱
-   *
-   * @param text 날짜가 포함된 문자열
-   * @return 파싱된 날짜
-   */
-  private Optional<LocalDate> parseDateFromString(String text) {
-    if (text == null || text.isEmpty()) {
-      return Optional.empty();
-    }
-
-    Matcher matcher = DATE_PATTERN.matcher(text);
-    if (matcher.find()) {
-      try {
-        int year = Integer.parseInt(matcher.group(1));
-        int month = Integer.parseInt(matcher.group(2));
-        int day = Integer.parseInt(matcher.group(3));
-
-        return Optional.of(LocalDate.of(year, month, day));
-      } catch (Exception e) {
-        // 파싱 실패 (잘못된 날짜 값)
-      }
-    }
-
-    return Optional.empty();
+  @Override
+  protected Optional<LocalDate> extractWithFallback(ParsingContext context) {
+    // 키워드 없이 날짜 토큰만 찾기 (무게 추출기와 공유하는 문서 날짜)
+    return context.getFact(DocumentFacts.DOCUMENT_DATE);
   }
 }
@@ -0,0 +1,107 @@
+package me.eunseong.ocrtextparser.extractor;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import me.eunseong.ocrtextparser.util.KeywordSet;
+import me.eunseong.ocrtextparser.util.MatchResult;
+
+/**
+ * 문서 전체 필드 라벨 스캔 결과 (FieldLabelScanner.scan)
+ * 라인별로 모든 필드 라벨의 정확 매칭 위치를 보관
+ */
+public class DocumentLabels {
+
+  /**
+   * 라벨 정보 없음 (모든 키워드에 대해 isScanned가 false)
+   */
+  public static final DocumentLabels EMPTY = new DocumentLabels(Map.of(), List.of());
+
+  private final Map<String, Integer> keywordIds;  // 정규화된 키워드 → 키워드 ID
+  private final List<List<LabelMatch>> lineMatches;
+
+  DocumentLabels(Map<String, Integer> keywordIds,
+      List<List<LabelMatch>> lineMatches) {
+    this.keywordIds = keywordIds;
+    this.lineMatches = lineMatches;
+  }
+
+  /**
+   * 라인의 라벨 매칭 목록 (끝 위치 순)
+   *
+   * @param lineIndex 라인 인덱스
+   * @return 라벨 매칭 목록 (라인이 없으면 빈 목록)
+   */
+  public List<LabelMatch> getMatches(int lineIndex) {
+    if (lineIndex < 0 || lineIndex >= lineMatches.size()) {
+      return Collections.emptyList();
+    }
+    return lineMatches.get(lineIndex);
+  }
+
+  /**
+   * 라인에 있는 필드 이름 목록
+   *
+   * @param lineIndex 라인 인덱스
+   * @return 필드 이름 (등장 순서)
+   */
+  public Set<String> getFields(int lineIndex) {
+    Set<String> fields = new LinkedHashSet<>();
+    for (LabelMatch match : getMatches(lineIndex)) {
+      fields.addAll(match.getFields());
+    }
+    return fields;
+  }
+
+  /**
+   * 키워드 집합의 정확 매칭을 스캔 결과로 대신할 수 있는지 확인
+   *
+   * @param lineIndex 라인 인덱스
+   * @param keywords  키워드 집합
+   * @return 라인이 스캔되었고 모든 키워드가 스캔 대상이면 true
+   */
+  public boolean isScanned(int lineIndex, KeywordSet keywords) {
+    if (lineIndex < 0 || lineIndex >= lineMatches.size()) {
+      return false;
+    }
+    for (int i = 0; i < keywords.size(); i++) {
+      if (!keywordIds.containsKey(keywords.getNormalized(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 키워드 집합 순서대로 정확 매칭 결과 조회 (isScanned인 경우에만 사용)
+   * TextMatcher.findMatch의 정확 매칭 단계와 같은 결과
+   * (앞선 키워드 우선, 같은 키워드는 가장 앞 위치)
+   *
+   * @param lineIndex 라인 인덱스
+   * @param keywords  키워드 집합
+   * @return 정규화된 라인 기준 매칭 결과 (없으면 empty)
+   */
+  public Optional<MatchResult> findMatch(int lineIndex, KeywordSet keywords) {
+    List<LabelMatch> matches = getMatches(lineIndex);
+    for (int i = 0; i < keywords.size(); i++) {
+      Integer keywordId = keywordIds.get(keywords.getNormalized(i));
+      if (keywordId == null) {
+        continue;
+      }
+      LabelMatch first = null;
+      for (LabelMatch match : matches) {
+        if (match.getKeywordId() == keywordId
+            && (first == null || match.getStart() < first.getStart())) {
+          first = match;
+        }
+      }
+      if (first != null) {
+        return Optional.of(new MatchResult(i, first.getStart(), first.getEnd(), 1.0, true));
+      }
+    }
+    return Optional.empty();
+  }
+}
@@ -3,6 +3,7 @@ package me.eunseong.ocrtextparser.extractor;
 
 import java.util.Optional;
 import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
 
 /**
  * OCR 문서에서 특정 필드를 추출하는 interface
@@ -19,6 +20,17 @@ public interface FieldExtractor<T> {
    */
   Optional<T> extract(OcrDocument document);
 
+  /**
+   * 파싱 컨텍스트의 문서에서 필드 추출
+   * 컨텍스트의 문서 파생 정보(DocumentFacts)를 다른 추출기와 공유
+   *
+   * @param context 파싱 컨텍스트
+   * @return 추출된 값
+   */
+  default Optional<T> extract(ParsingContext context) {
+    return extract(context.getDocument());
+  }
+
   default double getConfidence() {
     return 1.0;
   }
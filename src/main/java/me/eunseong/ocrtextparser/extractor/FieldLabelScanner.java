@@ -0,0 +1,95 @@
+package me.eunseong.ocrtextparser.extractor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import me.eunseong.ocrtextparser.pipeline.DocumentFacts;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
+import me.eunseong.ocrtextparser.util.KeywordAutomaton;
+import me.eunseong.ocrtextparser.util.KeywordSet;
+import me.eunseong.ocrtextparser.util.NormalizedText;
+import org.springframework.stereotype.Component;
+
+/**
+ * 필드 라벨 스캐너
+ * 모든 추출기의 컴파일된 키워드로 오토마톤을 한 번 생성하고,
+ * 문서의 정규화된 라인을 한 번씩만 순회하여 모든 필드 라벨 위치를 찾음
+ */
+@Component
+public class FieldLabelScanner {
+
+  private final KeywordAutomaton automaton;
+  private final List<List<String>> fieldsByKeyword;  // 키워드 ID → 필드 이름
+  private final Map<String, Integer> keywordIds;  // 정규화된 키워드 → 키워드 ID
+
+  public FieldLabelScanner(List<AbstractFieldExtractor<?>> extractors) {
+    Map<String, Set<String>> fieldsByNormalized = new HashMap<>();
+    List<String> normalizedKeywords = new ArrayList<>();
+
+    for (AbstractFieldExtractor<?> extractor : extractors) {
+      KeywordSet keywords = extractor.getKeywordSet();
+      for (int i = 0; i < keywords.size(); i++) {
+        String normalized = keywords.getNormalized(i);
+        if (normalized.isEmpty()) {
+          continue;
+        }
+        normalizedKeywords.add(normalized);
+        fieldsByNormalized.computeIfAbsent(normalized, k -> new LinkedHashSet<>())
+            .add(extractor.getFieldName());
+      }
+    }
+
+    this.automaton = KeywordAutomaton.compile(normalizedKeywords);
+
+    List<List<String>> fields = new ArrayList<>(automaton.size());
+    Map<String, Integer> ids = new HashMap<>();
+    for (int id = 0; id < automaton.size(); id++) {
+      String keyword = automaton.getKeyword(id);
+      fields.add(List.copyOf(fieldsByNormalized.get(keyword)));
+      ids.put(keyword, id);
+    }
+    this.fieldsByKeyword = fields;
+    this.keywordIds = Map.copyOf(ids);
+  }
+
+  /**
+   * 문서의 모든 라인에서 필드 라벨 탐색 (라인당 한 번 순회)
+   *
+   * @param context 파싱 컨텍스트 (정규화된 라인 사용)
+   * @return 라인별 라벨 매칭 결과
+   */
+  public DocumentLabels scan(ParsingContext context) {
+    List<NormalizedText> normalizedLines = context.getFact(DocumentFacts.NORMALIZED_LINES);
+    List<List<LabelMatch>> lineMatches = new ArrayList<>(normalizedLines.size());
+    for (NormalizedText line : normalizedLines) {
+      List<LabelMatch> matches = new ArrayList<>();
+      automaton.scan(line.getText(), (keywordId, start, end) -> matches.add(new LabelMatch(
+          keywordId, automaton.getKeyword(keywordId),
+          fieldsByKeyword.get(keywordId), start, end)));
+      lineMatches.add(matches);
+    }
+    return new DocumentLabels(keywordIds, lineMatches);
+  }
+
+  /**
+   * 정규화된 텍스트 하나(단어 등)에서 정확히 매칭되는 키워드 ID 보고
+   * Fuzzy Matching 없이 레이아웃 지문의 라벨 토큰을 찾을 때 사용
+   *
+   * @param normalizedText 정규화된 텍스트
+   * @param listener       키워드 ID 수신
+   */
+  public void scanText(CharSequence normalizedText, IntConsumer listener) {
+    automaton.scan(normalizedText, (keywordId, start, end) -> listener.accept(keywordId));
+  }
+
+  /**
+   * 오토마톤에 등록된 키워드 수 (정규화 후 중복 제거)
+   */
+  public int getKeywordCount() {
+    return automaton.size();
+  }
+}
@@ -0,0 +1,19 @@
+package me.eunseong.ocrtextparser.extractor;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 라인에서 찾은 필드 라벨 (정규화된 라인 기준 위치)
+ */
+@Getter
+@AllArgsConstructor
+public class LabelMatch {
+
+  private final int keywordId;  // FieldLabelScanner 오토마톤의 키워드 ID
+  private final String keyword;  // 정규화된 키워드
+  private final List<String> fields;  // 키워드를 사용하는 필드 이름
+  private final int start;  // 정규화된 라인 기준 시작 위치 (포함)
+  private final int end;  // 정규화된 라인 기준 끝 위치 (미포함)
+}
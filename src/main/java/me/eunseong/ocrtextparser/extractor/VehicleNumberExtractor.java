@@ -1,7 +1,7 @@
 package me.eunseong.ocrtextparser.extractor;
 
-import me.eunseong.ocrtextparser.domain.OcrDocument;
 import me.eunseong.ocrtextparser.extractor.strategy.ExtractionStrategy;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
 import me.eunseong.ocrtextparser.util.TextNormalizer;
 import org.springframework.stereotype.Component;
 
@@ -33,7 +33,7 @@ public class VehicleNumberExtractor extends AbstractFieldExtractor<String> {
 
   @Override
   protected Optional<String> postProcess(String rawValue,
-      OcrDocument document) {
+      ParsingContext context) {
     if (rawValue == null || rawValue.isEmpty()) {
       return Optional.empty();
     }
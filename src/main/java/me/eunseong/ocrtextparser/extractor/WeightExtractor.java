@@ -5,9 +5,11 @@ import me.eunseong.ocrtextparser.domain.Weight;
 import me.eunseong.ocrtextparser.extractor.weight.NetWeightExtractor;
 import me.eunseong.ocrtextparser.extractor.weight.TotalWeightExtractor;
 import me.eunseong.ocrtextparser.extractor.weight.VehicleWeightExtractor;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -36,20 +38,29 @@ public class WeightExtractor implements FieldExtractor<Map<String, Weight>> {
     if (document == null) {
       return Optional.empty();
     }
+    return extract(ParsingContext.builder().document(document).build());
+  }
 
-    Map<String, Weight> weights = new HashMap<>();
+  /**
+   * 세 추출기가 같은 컨텍스트를 사용하므로 문서 날짜, 무게 후보 등은 한 번만 계산
+   * 추출기별로 라인을 따로 순회하지 않고 전략마다 한 번만 순회
+   */
+  @Override
+  public Optional<Map<String, Weight>> extract(ParsingContext context) {
+    if (context.getDocument() == null) {
+      return Optional.empty();
+    }
 
-    // 순서 중요: 더 구체적인 키워드부터 추출 (실중량, 차중량 먼저)
+    // 세 추출기의 라벨을 전략마다 한 번의 라인 순회로 함께 찾음
+    // 순서 중요: 더 구체적인 키워드부터 (실중량, 차중량 먼저)
     // 그래야 "중량"이라는 일반적인 키워드가 잘못 매칭되지 않음
+    List<Optional<Weight>> extracted = AbstractFieldExtractor.extractAll(context,
+        List.of(netWeightExtractor, vehicleWeightExtractor, totalWeightExtractor));
 
-    netWeightExtractor.extract(document)
-        .ifPresent(w -> weights.put("net", w));
-
-    vehicleWeightExtractor.extract(document)
-        .ifPresent(w -> weights.put("vehicle", w));
-
-    totalWeightExtractor.extract(document)
-        .ifPresent(w -> weights.put("total", w));
+    Map<String, Weight> weights = new HashMap<>();
+    extracted.get(0).ifPresent(w -> weights.put("net", w));
+    extracted.get(1).ifPresent(w -> weights.put("vehicle", w));
+    extracted.get(2).ifPresent(w -> weights.put("total", w));
 
     return weights.isEmpty() ? Optional.empty() : Optional.of(weights);
   }
@@ -1,7 +1,11 @@
 package me.eunseong.ocrtextparser.extractor.strategy;
 
 import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
+import me.eunseong.ocrtextparser.util.KeywordSet;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,10 +18,39 @@ public interface ExtractionStrategy {
    * OCR 문서에서 특정 키워드에 해당하는 값을 추출
    *
    * @param document OCR 문서
-   * @param keywords 찾고자 하는 키워드 배열 (예: ["차량번호", "차량 번호"])
+   * @param keywords 찾고자 하는 키워드 집합 (예: ["차량번호", "차량 번호"])
    * @return 추출된 값 (없으면 Optional.empty())
    */
-  Optional<String> extract(OcrDocument document, String[] keywords);
+  Optional<String> extract(OcrDocument document, KeywordSet keywords);
+
+  /**
+   * 파싱 컨텍스트의 문서에서 값 추출
+   * 컨텍스트의 문서 파생 정보(라벨 스캔 결과 등)를 사용할 수 있는 전략은 재정의
+   *
+   * @param context  파싱 컨텍스트
+   * @param keywords 찾고자 하는 키워드 집합
+   * @return 추출된 값 (없으면 Optional.empty())
+   */
+  default Optional<String> extract(ParsingContext context, KeywordSet keywords) {
+    return extract(context.getDocument(), keywords);
+  }
+
+  /**
+   * 여러 키워드 집합의 값을 한 번에 추출 (집합마다 extract(context, keywords)를 호출한 것과 같은 결과)
+   * 기본 구현은 집합마다 extract 호출, 라인을 한 번만 순회할 수 있는 전략은 재정의
+   *
+   * @param context      파싱 컨텍스트
+   * @param keywordSets  키워드 집합 목록
+   * @return keywordSets 순서의 추출 값
+   */
+  default List<Optional<String>> extractAll(ParsingContext context,
+      List<KeywordSet> keywordSets) {
+    List<Optional<String>> values = new ArrayList<>(keywordSets.size());
+    for (KeywordSet keywords : keywordSets) {
+      values.add(extract(context, keywords));
+    }
+    return values;
+  }
 
   /**
    * 이 전략을 사용할 수 있는지 확인
@@ -1,18 +1,23 @@
 package me.eunseong.ocrtextparser.extractor.strategy;
 
 import me.eunseong.ocrtextparser.domain.OcrDocument;
-import me.eunseong.ocrtextparser.domain.OcrWord;
+import me.eunseong.ocrtextparser.domain.OcrWordStore;
+import me.eunseong.ocrtextparser.pipeline.DocumentFacts;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
+import me.eunseong.ocrtextparser.util.KeywordSet;
 import me.eunseong.ocrtextparser.util.PositionHelper;
 import me.eunseong.ocrtextparser.util.TextMatcher;
+import me.eunseong.ocrtextparser.util.WordGramIndex;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.BitSet;
 import java.util.Optional;
 
 /**
  * 좌표 기반 추출 전략
  * OcrWord의 x, y 좌표를 이용하여 라벨-값 매칭
  * 라벨 찾기 → 라벨 오른쪽 + 같은 줄에서 값 찾기
+ * 컨텍스트가 있으면 문서 단어 bigram 색인(DocumentFacts.WORD_INDEX)으로 후보 단어만 매칭
  */
 @Component
 public class PositionBasedStrategy implements ExtractionStrategy {
@@ -27,25 +32,48 @@ public class PositionBasedStrategy implements ExtractionStrategy {
   }
 
   @Override
-  public Optional<String> extract(OcrDocument document, String[] keywords) {
+  public Optional<String> extract(OcrDocument document, KeywordSet keywords) {
     if (document == null || document.getWords() == null ||
-        keywords == null || keywords.length == 0) {
+        keywords == null || keywords.isEmpty()) {
       return Optional.empty();
     }
 
-    List<OcrWord> words = document.getWords();
+    OcrWordStore words = document.getWordStore();
+    return extractValue(words, findLabelIndex(words, keywords));
+  }
+
+  @Override
+  public Optional<String> extract(ParsingContext context, KeywordSet keywords) {
+    OcrDocument document = context.getDocument();
+    if (document == null || document.getWords() == null ||
+        keywords == null || keywords.isEmpty()) {
+      return Optional.empty();
+    }
+
+    OcrWordStore words = document.getWordStore();
+    WordGramIndex index = context.getFact(DocumentFacts.WORD_INDEX);
+    BitSet candidates = index.findCandidates(keywords, textMatcher.getFuzzyMatchThreshold());
+    return extractValue(words, findLabelIndex(index, keywords, candidates));
+  }
 
-    // 1. 라벨 찾기 (키워드 매칭)
-    Optional<OcrWord> labelWord = findLabelWord(words, keywords);
-    if (labelWord.isEmpty()) {
+  /**
+   * 라벨 단어 오른쪽 + 같은 줄에서 값 찾기
+   *
+   * @param words      단어 컬럼 저장소
+   * @param labelIndex 라벨 단어 인덱스 (없으면 -1)
+   * @return 값 단어 텍스트 (없으면 Optional.empty())
+   */
+  private Optional<String> extractValue(OcrWordStore words, int labelIndex) {
+    if (labelIndex < 0) {
       return Optional.empty();
     }
 
-    // 2. 라벨의 오른쪽 + 같은 줄에서 값 찾기
-    Optional<OcrWord> valueWord =
-        positionHelper.findClosestValueOnRight(labelWord.get(), words);
+    int valueIndex = positionHelper.findClosestValueOnRight(words, labelIndex);
+    if (valueIndex < 0) {
+      return Optional.empty();
+    }
 
-    return valueWord.map(OcrWord::getText);
+    return Optional.ofNullable(words.getText(valueIndex));
   }
 
   @Override
@@ -64,17 +92,34 @@ public class PositionBasedStrategy implements ExtractionStrategy {
   /**
    * 키워드에 해당하는 라벨 단어 찾기
    *
-   * @param words 전체 단어 목록
-   * @param keywords 키워드 배열
-   * @return 라벨 단어 (없으면 Optional.empty())
+   * @param words 단어 컬럼 저장소
+   * @param keywords 키워드 집합
+   * @return 라벨 단어 인덱스 (없으면 -1)
+   */
+  private int findLabelIndex(OcrWordStore words, KeywordSet keywords) {
+    for (int i = 0; i < words.size(); i++) {
+      if (textMatcher.findMatch(words.getText(i), keywords).isPresent()) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * 후보 단어 중 키워드에 해당하는 라벨 단어 찾기 (후보가 아닌 단어는 매칭될 수 없음)
+   * 색인이 보관한 정규화된 단어 텍스트로 매칭 (필드마다 다시 정규화하지 않음)
+   *
+   * @param index      단어 bigram 색인
+   * @param keywords   키워드 집합
+   * @param candidates 후보 단어 인덱스
+   * @return 라벨 단어 인덱스 (없으면 -1)
    */
-  private Optional<OcrWord> findLabelWord(List<OcrWord> words,
-      String[] keywords) {
-    for (OcrWord word : words) {
-      if (textMatcher.matches(word.getText(), keywords)) {
-        return Optional.of(word);
+  private int findLabelIndex(WordGramIndex index, KeywordSet keywords, BitSet candidates) {
+    for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+      if (textMatcher.findNormalizedMatch(index.getNormalizedText(i), keywords).isPresent()) {
+        return i;
       }
     }
-    return Optional.empty();
+    return -1;
   }
 }
@@ -1,14 +1,21 @@
 package me.eunseong.ocrtextparser.extractor.strategy;
 
 import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.TokenizedLine;
+import me.eunseong.ocrtextparser.extractor.DocumentLabels;
+import me.eunseong.ocrtextparser.pipeline.DocumentFacts;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
+import me.eunseong.ocrtextparser.util.KeywordSet;
+import me.eunseong.ocrtextparser.util.LineTokenizer;
+import me.eunseong.ocrtextparser.util.MatchResult;
+import me.eunseong.ocrtextparser.util.NormalizedText;
 import me.eunseong.ocrtextparser.util.TextMatcher;
-import me.eunseong.ocrtextparser.util.TextNormalizer;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * 텍스트 기반 추출 전략
@@ -19,49 +26,98 @@ import java.util.regex.Pattern;
 public class TextBasedStrategy implements ExtractionStrategy {
 
   private final TextMatcher textMatcher;
-  private final TextNormalizer textNormalizer;
 
-  // 값 추출 패턴: 영문, 숫자, 한글, 일부 특수문자 조합
-  private static final Pattern VALUE_PATTERN =
-      Pattern.compile("[가-힣a-zA-Z0-9,\\s.\\-_]+");
-
-  public TextBasedStrategy(TextMatcher textMatcher,
-      TextNormalizer textNormalizer) {
+  public TextBasedStrategy(TextMatcher textMatcher) {
     this.textMatcher = textMatcher;
-    this.textNormalizer = textNormalizer;
   }
 
   @Override
-  public Optional<String> extract(OcrDocument document, String[] keywords) {
+  public Optional<String> extract(OcrDocument document, KeywordSet keywords) {
+    return extract(ParsingContext.builder().document(document).build(), keywords);
+  }
+
+  /**
+   * 파이프라인이 스캔한 라벨 위치가 있으면 라인별 정확 매칭을 다시 하지 않고,
+   * 정규화된 라인(원본 위치 매핑 포함)은 컨텍스트에서 공유 (필드마다 다시 정규화하지 않음)
+   */
+  @Override
+  public Optional<String> extract(ParsingContext context, KeywordSet keywords) {
+    OcrDocument document = context.getDocument();
     if (document == null || document.getLines() == null ||
-        keywords == null || keywords.length == 0) {
+        keywords == null || keywords.isEmpty()) {
       return Optional.empty();
     }
 
+    DocumentLabels labels = context.getFact(DocumentFacts.LABELS);
+    List<NormalizedText> normalizedLines = context.getFact(DocumentFacts.NORMALIZED_LINES);
     List<String> lines = document.getLines();
+    List<TokenizedLine> tokenizedLines = document.getTokenizedLines();
     for (int i = 0; i < lines.size(); i++) {
-      String line = lines.get(i);
-      if (textMatcher.matches(line, keywords)) {
-        Optional<String> value = extractValueFromLine(line, keywords);
+      NormalizedText normalizedLine = normalizedLines.get(i);
+      Optional<MatchResult> match = findMatch(labels, i, normalizedLine, keywords);
+      if (match.isPresent()) {
+        Optional<String> value =
+            extractValueAt(lines, tokenizedLines, i, normalizedLine, match.get());
         if (value.isPresent()) {
           return value;
         }
-
-        // 현재 라인에서 값을 찾지 못했고 다음 라인이 있으면 다음 라인에서 시도
-        // (키워드와 값이 다른 줄에 있는 경우 처리)
-        if (i + 1 < lines.size()) {
-          String nextLine = lines.get(i + 1);
-          Optional<String> nextLineValue = extractValueFromNextLine(nextLine);
-          if (nextLineValue.isPresent()) {
-            return nextLineValue;
-          }
-        }
       }
     }
 
     return Optional.empty();
   }
 
+  /**
+   * 모든 키워드 집합을 라인 순서대로 한 번만 순회하며 집합별 첫 번째 값 추출
+   * 정규화된 라인은 컨텍스트에서 공유하고, 모든 집합의 값을 찾으면 중단
+   */
+  @Override
+  public List<Optional<String>> extractAll(ParsingContext context,
+      List<KeywordSet> keywordSets) {
+    List<Optional<String>> values =
+        new ArrayList<>(Collections.nCopies(keywordSets.size(), Optional.empty()));
+    OcrDocument document = context.getDocument();
+    if (document == null || document.getLines() == null) {
+      return values;
+    }
+
+    boolean[] resolved = new boolean[keywordSets.size()];
+    int remaining = 0;
+    for (int k = 0; k < keywordSets.size(); k++) {
+      KeywordSet keywords = keywordSets.get(k);
+      resolved[k] = keywords == null || keywords.isEmpty();
+      if (!resolved[k]) {
+        remaining++;
+      }
+    }
+
+    DocumentLabels labels = context.getFact(DocumentFacts.LABELS);
+    List<NormalizedText> normalizedLines = context.getFact(DocumentFacts.NORMALIZED_LINES);
+    List<String> lines = document.getLines();
+    List<TokenizedLine> tokenizedLines = document.getTokenizedLines();
+    for (int i = 0; i < lines.size() && remaining > 0; i++) {
+      NormalizedText normalizedLine = normalizedLines.get(i);
+      for (int k = 0; k < keywordSets.size(); k++) {
+        if (resolved[k]) {
+          continue;
+        }
+        Optional<MatchResult> match =
+            findMatch(labels, i, normalizedLine, keywordSets.get(k));
+        if (match.isEmpty()) {
+          continue;
+        }
+        Optional<String> value =
+            extractValueAt(lines, tokenizedLines, i, normalizedLine, match.get());
+        if (value.isPresent()) {
+          values.set(k, value);
+          resolved[k] = true;
+          remaining--;
+        }
+      }
+    }
+    return values;
+  }
+
   @Override
   public boolean supports(OcrDocument document) {
     // 라인 정보가 있으면 사용 가능
@@ -76,121 +132,107 @@ public class TextBasedStrategy implements ExtractionStrategy {
   }
 
   /**
-   * 라인에서 키워드 이후의 값 추출
+   * 라인에서 키워드 매칭 결과 찾기 (정규화된 라인 기준, 라인당 한 번만 매칭)
+   * 라벨 스캔 결과가 있으면 정확 매칭은 스캔 결과를 사용하고 Fuzzy Matching만 수행
    *
-   * @param line 라인 텍스트
-   * @param keywords 키워드 배열
-   * @return 추출된 값
+   * @param normalizedLine 정규화된 라인 (DocumentFacts.NORMALIZED_LINES, 값 추출에도 같은 매핑 사용)
+   * @return 키워드 매칭 결과 (없으면 empty)
    */
-  private Optional<String> extractValueFromLine(String line,
-      String[] keywords) {
-    // 키워드 위치 찾기
-    int keywordIndex = textMatcher.findKeywordIndex(line, keywords);
-    if (keywordIndex < 0) {
-      return Optional.empty();
-    }
-
-    // 키워드 이후 텍스트 추출
-    String normalizedLine = textNormalizer.normalize(line);
-
-    // 키워드 길이 계산 (정규화된 키워드 중 가장 짧은 것 기준)
-    int minKeywordLen = Integer.MAX_VALUE;
-    for (String keyword : keywords) {
-      int len = textNormalizer.normalize(keyword).length();
-      if (len < minKeywordLen) {
-        minKeywordLen = len;
-      }
-    }
-
-    int valueStartIndex = keywordIndex + minKeywordLen;
-    if (valueStartIndex >= normalizedLine.length()) {
-      return Optional.empty();
+  private Optional<MatchResult> findMatch(DocumentLabels labels, int lineIndex,
+      NormalizedText normalizedLine, KeywordSet keywords) {
+    if (!labels.isScanned(lineIndex, keywords)) {
+      return textMatcher.findNormalizedMatch(normalizedLine, keywords);
     }
-
-    String afterKeyword = normalizedLine.substring(valueStartIndex);
-
-    // 원본 라인에서도 값 추출 시도 (공백 유지)
-    String originalAfterKeyword = extractAfterKeywordFromOriginal(line,
-        keywords);
-    if (originalAfterKeyword != null) {
-      return extractValue(originalAfterKeyword);
+    Optional<MatchResult> exact = labels.findMatch(lineIndex, keywords);
+    if (exact.isPresent()) {
+      return exact;
     }
-
-    return extractValue(afterKeyword);
+    return textMatcher.findNormalizedFuzzyMatch(normalizedLine, keywords);
   }
 
   /**
-   * 원본 라인에서 키워드 이후 텍스트 추출
-   *
-   * @param line 원본 라인
-   * @param keywords 키워드 배열
-   * @return 키워드 이후 텍스트 (없으면 null)
+   * 키워드가 매칭된 라인에서 값 추출 (현재 라인에 값이 없으면 다음 라인에서 시도)
+   * (키워드와 값이 다른 줄에 있는 경우 처리)
    */
-  private String extractAfterKeywordFromOriginal(String line,
-      String[] keywords) {
-    for (String keyword : keywords) {
-      int index = line.indexOf(keyword);
-      if (index >= 0) {
-        int afterIndex = index + keyword.length();
-        if (afterIndex < line.length()) {
-          return line.substring(afterIndex);
-        }
-      }
+  private Optional<String> extractValueAt(List<String> lines,
+      List<TokenizedLine> tokenizedLines, int lineIndex, NormalizedText normalizedLine,
+      MatchResult match) {
+    Optional<String> value = extractValueFromLine(normalizedLine, match);
+    if (value.isPresent() || lineIndex + 1 >= lines.size()) {
+      return value;
     }
-    return null;
+    return extractValueFromNextLine(tokenizedLines.get(lineIndex + 1));
   }
 
   /**
-   * 다음 라인에서 값 추출 (키워드가 한 줄, 값이 다음 줄에 있는 경우)
-   * 시간 패턴(HH:MM:SS)을 제외하고 값을 추출
+   * 라인에서 키워드 이후의 값 추출
+   * 정규화된 라인의 매칭 끝 위치를 원본 위치로 변환하여 원본 라인을 바로 자름
+   * (띄어 쓴 라벨 "실 중 량"이나 오탈자 라벨도 원본에서 다시 찾지 않음)
    *
-   * @param line 다음 라인
+   * @param normalizedLine 정규화된 라인 (원본 위치 매핑 포함)
+   * @param match          키워드 매칭 결과 (정규화된 라인 기준)
    * @return 추출된 값
    */
-  private Optional<String> extractValueFromNextLine(String line) {
-    if (line == null || line.trim().isEmpty()) {
+  private Optional<String> extractValueFromLine(NormalizedText normalizedLine,
+      MatchResult match) {
+    if (match.getEnd() >= normalizedLine.length()) {
       return Optional.empty();
     }
 
-    // 시간 패턴 제거 (HH:MM:SS 형식)
-    // 예: "05:36:01 7,470 kg" → "7,470 kg"
-    String cleanedLine = line.replaceAll("\\d{2}:\\d{2}:\\d{2}\\s*", "").trim();
+    // 원본 라인에서 키워드 이후 텍스트 (공백 유지)
+    return extractValue(LineTokenizer.tokenize(
+        normalizedLine.originalAfter(match.getEnd())));
+  }
 
-    if (cleanedLine.isEmpty()) {
+  /**
+   * 다음 라인에서 값 추출 (키워드가 한 줄, 값이 다음 줄에 있는 경우)
+   * 시간 토큰을 제외하고 값을 추출
+   * 예: "05:36:01 7,470 kg" → "7,470 kg"
+   *
+   * @param line 토큰화된 다음 라인
+   * @return 추출된 값
+   */
+  private Optional<String> extractValueFromNextLine(TokenizedLine line) {
+    if (line.getTokens().isEmpty()) {
       return Optional.empty();
     }
 
-    return extractValue(cleanedLine);
+    return extractValue(line);
   }
 
   /**
-   * 텍스트에서 값 추출 (콜론 제거, 패턴 매칭)
+   * 텍스트에서 값 추출 (시간/콜론 제거 후 값 문자 구간 탐색)
    *
-   * @param text 텍스트
+   * @param text 토큰화된 텍스트
    * @return 추출된 값
    */
-  private Optional<String> extractValue(String text) {
-    if (text == null || text.isEmpty()) {
-      return Optional.empty();
-    }
-
-    // 시간 패턴 제거 (HH:MM:SS 또는 HH:MM 또는 HH : MM 형식)
+  private Optional<String> extractValue(TokenizedLine text) {
+    // 시간 토큰 제거 (HH:MM:SS 또는 HH:MM 또는 HH : MM 형식)
     // 예: "02:07 13 460 kg" → "13 460 kg"
     // 예: "02 : 13 7 560 kg" → "7 560 kg"
-    text = text.replaceAll("\\d{2}\\s*:\\s*\\d{2}(\\s*:\\s*\\d{2})?\\s*", "").trim();
+    String cleaned = text.removeTimes().trim();
 
     // 콜론 제거 (나머지 콜론들)
-    text = text.replace(":", "").trim();
-
-    // 패턴 매칭
-    Matcher matcher = VALUE_PATTERN.matcher(text);
-    if (matcher.find()) {
-      String value = matcher.group().trim();
-      if (!value.isEmpty()) {
-        return Optional.of(value);
-      }
+    cleaned = cleaned.replace(":", "").trim();
+
+    // 첫 번째 값 문자 구간: 영문, 숫자, 한글, 공백, 일부 특수문자(,.-_) 조합
+    int start = 0;
+    while (start < cleaned.length() && !isValueChar(cleaned.charAt(start))) {
+      start++;
+    }
+    int end = start;
+    while (end < cleaned.length() && isValueChar(cleaned.charAt(end))) {
+      end++;
     }
 
-    return Optional.empty();
+    String value = cleaned.substring(start, end).trim();
+    return value.isEmpty() ? Optional.empty() : Optional.of(value);
+  }
+
+  private boolean isValueChar(char c) {
+    return (c >= '가' && c <= '힣') || (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+        || c == ',' || c == '.' || c == '-' || c == '_'
+        || LineTokenizer.isWhitespace(c);
   }
 }
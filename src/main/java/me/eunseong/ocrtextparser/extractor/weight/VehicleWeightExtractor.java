@@ -1,8 +1,13 @@
 package me.eunseong.ocrtextparser.extractor.weight;
 
 import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.TokenizedLine;
 import me.eunseong.ocrtextparser.domain.Weight;
 import me.eunseong.ocrtextparser.extractor.strategy.ExtractionStrategy;
+import me.eunseong.ocrtextparser.pipeline.DocumentFacts;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
+import me.eunseong.ocrtextparser.util.LineTokenizer;
+import me.eunseong.ocrtextparser.util.NormalizedText;
 import me.eunseong.ocrtextparser.util.TextNormalizer;
 import org.springframework.stereotype.Component;
 
@@ -29,34 +34,35 @@ public class VehicleWeightExtractor extends AbstractWeightFieldExtractor {
   }
 
   @Override
-  protected Optional<Weight> extractWithFallback(OcrDocument document) {
+  protected Optional<Weight> extractWithFallback(ParsingContext context) {
     // Fallback for sample_01: look for a line with "중량" but not "총중량" or "실중량"
     // and extract from current or next line
+    OcrDocument document = context.getDocument();
     if (document == null || document.getLines() == null) {
       return Optional.empty();
     }
 
-    List<String> lines = document.getLines();
-    for (int i = 0; i < lines.size(); i++) {
-      String line = textNormalizer.normalize(lines.get(i));
+    List<NormalizedText> normalizedLines = context.getFact(DocumentFacts.NORMALIZED_LINES);
+    List<TokenizedLine> tokenizedLines = document.getTokenizedLines();
+    for (int i = 0; i < normalizedLines.size(); i++) {
+      String line = normalizedLines.get(i).getText();
       // Check for "중량" pattern (not "총중량" or "실중량")
       if (line.contains("중량") &&
           !line.contains("총중량") &&
           !line.contains("실중량")) {
         // This line has "중량" without "총" or "실" prefix
         // Try extracting from current line first
-        String currentLine = lines.get(i);
-        Optional<String> rawValue = extractWeightFromLine(currentLine);
+        Optional<String> rawValue = extractWeightFromLine(tokenizedLines.get(i));
         if (rawValue.isPresent()) {
-          return postProcess(rawValue.get(), document);
+          return postProcess(rawValue.get(), context);
         }
 
         // If no value on current line, try next line
-        if (i + 1 < lines.size()) {
-          String nextLine = lines.get(i + 1);
-          Optional<String> nextValue = extractWeightFromLine(nextLine);
+        if (i + 1 < normalizedLines.size()) {
+          Optional<String> nextValue =
+              extractWeightFromLine(tokenizedLines.get(i + 1));
           if (nextValue.isPresent()) {
-            return postProcess(nextValue.get(), document);
+            return postProcess(nextValue.get(), context);
           }
         }
       }
@@ -68,10 +74,10 @@ public class VehicleWeightExtractor extends AbstractWeightFieldExtractor {
   /**
    * Extract weight pattern from a line
    */
-  private Optional<String> extractWeightFromLine(String line) {
+  private Optional<String> extractWeightFromLine(TokenizedLine line) {
     // Remove timestamp and extract weight
-    String cleaned = line.replaceAll("\\d{2}\\s*:\\s*\\d{2}(\\s*:\\s*\\d{2})?\\s*", "").trim();
-    if (cleaned.matches(".*[\\d,\\s]+\\s*kg.*")) {
+    String cleaned = line.removeTimes().trim();
+    if (LineTokenizer.tokenize(cleaned).findWeightNumber().isPresent()) {
       return Optional.of(cleaned);
     }
     return Optional.empty();
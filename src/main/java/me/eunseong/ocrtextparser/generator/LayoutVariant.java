@@ -0,0 +1,27 @@
+package me.eunseong.ocrtextparser.generator;
+
+/**
+ * 합성 계근지 레이아웃 변형
+ */
+public enum LayoutVariant {
+
+  /**
+   * 라벨과 값이 같은 줄 (예: "총중량: 12,480 kg")
+   */
+  SAME_LINE,
+
+  /**
+   * 라벨 다음 줄에 값 (예: "총중량:" / "12,480 kg")
+   */
+  NEXT_LINE,
+
+  /**
+   * 글자 사이를 띄어 쓴 라벨 + 띄어쓰기 천 단위 구분 (예: "총 중 량: 12 480 kg")
+   */
+  SPACED_LABEL,
+
+  /**
+   * 무게 앞에 측정 시간 (예: "총중량: 05:26:18 12,480 kg")
+   */
+  TIME_PREFIXED
+}
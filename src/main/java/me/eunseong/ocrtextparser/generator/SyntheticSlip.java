@@ -0,0 +1,18 @@
+package me.eunseong.ocrtextparser.generator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.WeighingSlip;
+
+/**
+ * 합성 OCR 문서 + 기대 파싱 결과
+ */
+@Getter
+@AllArgsConstructor
+public class SyntheticSlip {
+
+  private final OcrDocument document;
+  private final WeighingSlip expected;  // 문서에 기록된 값 (무게의 measuredAt은 문서에 적힌 측정 시간)
+  private final LayoutVariant layout;
+}
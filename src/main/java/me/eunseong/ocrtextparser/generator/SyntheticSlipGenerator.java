@@ -0,0 +1,355 @@
+package me.eunseong.ocrtextparser.generator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import lombok.Builder;
+import lombok.Getter;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.OcrWord;
+import me.eunseong.ocrtextparser.domain.WeighingSlip;
+import me.eunseong.ocrtextparser.domain.Weight;
+
+/**
+ * 합성 계근지 OCR 문서 생성기 (규모 테스트/벤치마크용)
+ * 같은 설정과 seed면 항상 같은 문서를 생성하고, 문서마다 기대 파싱 결과를 함께 반환
+ * 1. 필드 라인 (계량일자, 차량번호, 거래처, 총중량, 차중량, 실중량)을 레이아웃 변형대로 생성
+ * 2. 라벨 키워드와 겹치지 않는 어휘로 단어 수(wordCount)를 채울 때까지 잡음 라인 삽입
+ * 3. noiseRate 비율로 잡음 단어 문자 치환, 구두점 라인, 좌표 흔들림 주입
+ */
+@Getter
+@Builder
+public class SyntheticSlipGenerator {
+
+  private static final int LINE_HEIGHT = 100;
+  private static final int WORD_HEIGHT = 48;
+  private static final int WORD_GAP = 60;
+  private static final int LEFT_MARGIN = 120;
+  private static final int TOP_MARGIN = 200;
+
+  // 필드 라벨 키워드와 정확/Fuzzy 매칭되지 않는 어휘 (kg, 날짜 형식 없음)
+  private static final String[] FILLER_WORDS = {
+      "비고", "특이사항", "없음", "확인", "입고", "출고", "식물", "폐목재", "담당",
+      "서명", "구분", "품목", "메모", "운송", "기사", "연락처", "비닐", "파지", "고철",
+      "회수", "완료", "검수", "적재", "하차", "반입"
+  };
+  private static final char[] NOISE_CHARS = {'·', '.', ',', '\'', 'ㅇ', 'l', 'I', '1', 'O', '0'};
+  private static final String[] NOISE_LINES = {"·", ",", "*", "-"};
+  private static final String[] COMPANIES = {
+      "곰욕환경폐기물", "고요환경", "한빛자원", "푸른순환", "동우바이오", "새솔리사이클"
+  };
+  private static final String[] VEHICLE_MIDDLES = {"가", "나", "다", "라", "마", "구", "누", "두"};
+
+  @Builder.Default
+  private final long seed = 0L;
+
+  /**
+   * 목표 단어 수 (10 ~ 100,000)
+   * 필드 라인 단어 수보다 작으면 필드 라인만 생성
+   */
+  @Builder.Default
+  private final int wordCount = 100;
+
+  /**
+   * 레이아웃 변형 (null이면 문서마다 무작위 선택)
+   */
+  private final LayoutVariant layout;
+
+  /**
+   * 잡음 비율 (0.0 ~ 1.0)
+   */
+  @Builder.Default
+  private final double noiseRate = 0.0;
+
+  /**
+   * 첫 번째 문서 생성
+   */
+  public SyntheticSlip generate() {
+    return generate(0);
+  }
+
+  /**
+   * index번째 문서 생성 (같은 seed + index면 항상 같은 문서)
+   *
+   * @param index 문서 번호
+   * @return 합성 문서 + 기대 결과
+   */
+  public SyntheticSlip generate(int index) {
+    Random random = new Random(seed * 1_000_003L + index);
+    LayoutVariant variant = layout != null ? layout
+        : LayoutVariant.values()[random.nextInt(LayoutVariant.values().length)];
+
+    WeighingSlip expected = randomSlip(random, variant);
+    List<List<String>> fieldBlocks = fieldBlocks(expected, variant);
+    List<List<String>> lines = layoutLines(random, fieldBlocks);
+    return new SyntheticSlip(toDocument(random, lines), expected, variant);
+  }
+
+  /**
+   * 문서 여러 개 생성 (0 ~ count - 1번째)
+   *
+   * @param count 문서 수
+   * @return 합성 문서 목록
+   */
+  public List<SyntheticSlip> generateBatch(int count) {
+    List<SyntheticSlip> slips = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      slips.add(generate(i));
+    }
+    return slips;
+  }
+
+  /**
+   * OCR API 응답 형식 JSON으로 기록 (OcrDocumentLoader/OcrDocumentStreamReader 입력 형식)
+   *
+   * @param document OCR 문서
+   * @param writer   출력 대상
+   */
+  public static void writeOcrJson(OcrDocument document, Writer writer) throws IOException {
+    try (JsonGenerator json = new JsonFactory().createGenerator(writer)) {
+      json.writeStartObject();
+      json.writeArrayFieldStart("pages");
+      json.writeStartObject();
+      json.writeStringField("text", document.getText());
+      if (document.getConfidence() != null) {
+        json.writeNumberField("confidence", document.getConfidence());
+      }
+
+      json.writeArrayFieldStart("lines");
+      for (String line : document.getLines()) {
+        json.writeStartObject();
+        json.writeStringField("text", line);
+        json.writeEndObject();
+      }
+      json.writeEndArray();
+
+      json.writeArrayFieldStart("words");
+      for (OcrWord word : document.getWords()) {
+        writeWord(json, word);
+      }
+      json.writeEndArray();
+
+      json.writeEndObject();
+      json.writeEndArray();
+      json.writeEndObject();
+    }
+  }
+
+  /**
+   * OCR API 응답 형식 JSON 문자열
+   */
+  public static String toOcrJson(OcrDocument document) {
+    StringWriter writer = new StringWriter();
+    try {
+      writeOcrJson(document, writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return writer.toString();
+  }
+
+  private WeighingSlip randomSlip(Random random, LayoutVariant variant) {
+    LocalDate date = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(1000));
+    String vehicleNumber = random.nextBoolean()
+        ? String.valueOf(1000 + random.nextInt(9000))
+        : (10 + random.nextInt(90)) + VEHICLE_MIDDLES[random.nextInt(VEHICLE_MIDDLES.length)]
+            + (1000 + random.nextInt(9000));
+    String company = COMPANIES[random.nextInt(COMPANIES.length)];
+
+    int vehicle = 5_000 + random.nextInt(1_000) * 10;
+    int total = vehicle + 100 + random.nextInt(2_000) * 10;
+    LocalTime firstTime = LocalTime.of(5 + random.nextInt(12), random.nextInt(60),
+        random.nextInt(60));
+    boolean timed = variant == LayoutVariant.TIME_PREFIXED;
+
+    return WeighingSlip.builder()
+        .date(date)
+        .vehicleNumber(vehicleNumber)
+        .company(company)
+        .totalWeight(weight(total, timed ? LocalDateTime.of(date, firstTime) : null))
+        .vehicleWeight(weight(vehicle,
+            timed ? LocalDateTime.of(date, firstTime.plusMinutes(10)) : null))
+        .netWeight(weight(total - vehicle, null))
+        .build();
+  }
+
+  private Weight weight(int value, LocalDateTime measuredAt) {
+    return Weight.builder()
+        .value((double) value)
+        .unit("kg")
+        .measuredAt(measuredAt)
+        .build();
+  }
+
+  /**
+   * 필드별 라인 묶음 (NEXT_LINE은 라벨 라인 + 값 라인, 나머지는 한 라인)
+   */
+  private List<List<String>> fieldBlocks(WeighingSlip slip, LayoutVariant variant) {
+    List<List<String>> blocks = new ArrayList<>();
+    blocks.add(fieldBlock(variant, "계량일자", slip.getDate().toString()));
+    blocks.add(fieldBlock(variant, "차량번호", slip.getVehicleNumber()));
+    blocks.add(fieldBlock(variant, "거래처", slip.getCompany()));
+    blocks.add(fieldBlock(variant, "총중량", weightText(slip.getTotalWeight(), variant)));
+    blocks.add(fieldBlock(variant, "차중량", weightText(slip.getVehicleWeight(), variant)));
+    blocks.add(fieldBlock(variant, "실중량", weightText(slip.getNetWeight(), variant)));
+    return blocks;
+  }
+
+  private List<String> fieldBlock(LayoutVariant variant, String label, String value) {
+    return switch (variant) {
+      case NEXT_LINE -> List.of(label + ":", value);
+      case SPACED_LABEL -> List.of(String.join(" ", label.split("")) + ": " + value);
+      default -> List.of(label + ": " + value);
+    };
+  }
+
+  private String weightText(Weight weight, LayoutVariant variant) {
+    int value = weight.getValue().intValue();
+    String number = variant == LayoutVariant.SPACED_LABEL && value >= 1000
+        ? (value / 1000) + " " + String.format(Locale.ROOT, "%03d", value % 1000)
+        : String.format(Locale.ROOT, "%,d", value);
+    if (weight.getMeasuredAt() != null) {
+      return weight.getMeasuredAt().toLocalTime() + " " + number + " kg";
+    }
+    return number + " kg";
+  }
+
+  /**
+   * 필드 묶음 사이사이에 잡음 라인을 넣어 목표 단어 수를 채움
+   * (NEXT_LINE 라벨과 값 사이에는 넣지 않음)
+   *
+   * @return 라인별 단어 목록
+   */
+  private List<List<String>> layoutLines(Random random, List<List<String>> fieldBlocks) {
+    List<List<String>> header = List.of(List.of("계", "량", "증", "명", "서"));
+    int words = header.get(0).size();
+    for (List<String> block : fieldBlocks) {
+      for (String line : block) {
+        words += line.split(" ").length;
+      }
+    }
+
+    // 슬롯 k = k번째 필드 묶음 앞 (마지막 슬롯은 문서 끝)
+    List<List<List<String>>> slots = new ArrayList<>();
+    for (int k = 0; k <= fieldBlocks.size(); k++) {
+      slots.add(new ArrayList<>());
+    }
+    while (words < wordCount) {
+      List<String> filler = fillerLine(random, wordCount - words);
+      slots.get(random.nextInt(slots.size())).add(filler);
+      words += filler.size();
+    }
+
+    List<List<String>> lines = new ArrayList<>(header);
+    for (int k = 0; k <= fieldBlocks.size(); k++) {
+      lines.addAll(slots.get(k));
+      if (k < fieldBlocks.size()) {
+        if (random.nextDouble() < noiseRate) {
+          lines.add(List.of(NOISE_LINES[random.nextInt(NOISE_LINES.length)]));
+        }
+        for (String line : fieldBlocks.get(k)) {
+          lines.add(List.of(line.split(" ")));
+        }
+      }
+    }
+    return lines;
+  }
+
+  private List<String> fillerLine(Random random, int remaining) {
+    int size = Math.min(remaining, 3 + random.nextInt(4));
+    List<String> words = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      String word = i == size - 1 && random.nextInt(3) == 0
+          ? "NO." + random.nextInt(1000)
+          : FILLER_WORDS[random.nextInt(FILLER_WORDS.length)];
+      if (random.nextDouble() < noiseRate) {
+        char[] chars = word.toCharArray();
+        chars[random.nextInt(chars.length)] = NOISE_CHARS[random.nextInt(NOISE_CHARS.length)];
+        word = new String(chars);
+      }
+      words.add(word);
+    }
+    return words;
+  }
+
+  /**
+   * 라인별 단어 목록을 좌표가 있는 OCR 문서로 변환
+   */
+  private OcrDocument toDocument(Random random, List<List<String>> lines) {
+    List<String> lineTexts = new ArrayList<>(lines.size());
+    List<OcrWord> words = new ArrayList<>();
+    double confidenceSum = 0;
+
+    for (int row = 0; row < lines.size(); row++) {
+      List<String> tokens = lines.get(row);
+      lineTexts.add(String.join(" ", tokens));
+
+      int x = LEFT_MARGIN;
+      int y = TOP_MARGIN + row * LINE_HEIGHT;
+      for (String token : tokens) {
+        int width = textWidth(token);
+        int jitter = random.nextDouble() < noiseRate ? random.nextInt(11) - 5 : 0;
+        double confidence = random.nextDouble() < noiseRate
+            ? 0.2 + random.nextDouble() * 0.5
+            : 0.9 + random.nextDouble() * 0.09;
+        words.add(new OcrWord(token, x + jitter, y + jitter, width, WORD_HEIGHT, confidence));
+        confidenceSum += confidence;
+        x += width + WORD_GAP;
+      }
+    }
+
+    return OcrDocument.builder()
+        .text(String.join("\n", lineTexts))
+        .lines(lineTexts)
+        .words(words)
+        .confidence(words.isEmpty() ? null : confidenceSum / words.size())
+        .build();
+  }
+
+  private int textWidth(String text) {
+    int width = 0;
+    for (int i = 0; i < text.length(); i++) {
+      width += text.charAt(i) < 128 ? 24 : 44;
+    }
+    return width;
+  }
+
+  private static void writeWord(JsonGenerator json, OcrWord word) throws IOException {
+    int left = word.getX();
+    int top = word.getY();
+    int right = left + word.getWidth();
+    int bottom = top + word.getHeight();
+
+    json.writeStartObject();
+    json.writeStringField("text", word.getText());
+    if (word.getConfidence() != null) {
+      json.writeNumberField("confidence", word.getConfidence());
+    }
+    json.writeObjectFieldStart("boundingBox");
+    json.writeArrayFieldStart("vertices");
+    writeVertex(json, left, top);
+    writeVertex(json, right, top);
+    writeVertex(json, right, bottom);
+    writeVertex(json, left, bottom);
+    json.writeEndArray();
+    json.writeEndObject();
+    json.writeEndObject();
+  }
+
+  private static void writeVertex(JsonGenerator json, int x, int y) throws IOException {
+    json.writeStartObject();
+    json.writeNumberField("x", x);
+    json.writeNumberField("y", y);
+    json.writeEndObject();
+  }
+}
@@ -0,0 +1,219 @@
+package me.eunseong.ocrtextparser.pipeline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.ParsingResult;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 파싱 파이프라인
+ * 여러 문서를 전용 ForkJoinPool에서 나눠 파싱하고 결과를 입력 순서대로 반환
+ * 1. 문서 범위를 반으로 나누며 fork (작업 단위는 병렬도의 4배 정도로 분할)
+ * 2. 문서별로 예외를 잡아 실패 결과로 변환 (한 문서의 실패가 배치를 중단하지 않음)
+ * 3. 문서별 지연 시간을 고정 크기 히스토그램에 누적해 처리량/지연 통계 생성
+ * 풀은 빈 수명 동안 재사용되므로 워커 스레드의 스레드 로컬 버퍼(TextMatcher 정규화 버퍼 등)도
+ * 배치 간에 유지됨
+ */
+@Slf4j
+@Component
+public class BatchParsingPipeline implements AutoCloseable {
+
+  private static final int SPLITS_PER_THREAD = 4;
+
+  private final ParsingPipeline pipeline;
+  private final ForkJoinPool pool;
+  private final int streamChunkSize;
+
+  public BatchParsingPipeline(ParsingPipeline pipeline, ParserProperties parserProperties) {
+    ParserProperties.Batch config = parserProperties.getBatch();
+    this.pipeline = pipeline;
+    this.pool = new ForkJoinPool(Math.max(1, config.getParallelism()),
+        BatchParsingPipeline::newWorker, null, false);
+    this.streamChunkSize = Math.max(1, config.getStreamChunkSize());
+  }
+
+  /**
+   * 문서 목록을 병렬 파싱
+   *
+   * @param documents OCR 문서 목록 (null 원소는 실패 결과)
+   * @return 입력 순서의 파싱 결과 + 통계
+   */
+  public BatchParsingResult processBatch(List<OcrDocument> documents) {
+    long startNanos = System.nanoTime();
+    Chunk chunk = parseChunk(documents);
+    LatencyHistogram latencies = new LatencyHistogram();
+    chunk.recordLatencies(latencies);
+
+    BatchParsingStats stats = BatchParsingStats.of(latencies, chunk.succeeded,
+        chunk.exceptions, System.nanoTime() - startNanos);
+    return new BatchParsingResult(Arrays.asList(chunk.results), stats);
+  }
+
+  /**
+   * 문서 스트림을 streamChunkSize 단위로 나눠 병렬 파싱
+   * 메모리에는 한 묶음의 문서만 올라가며, consumer는 호출 스레드에서 입력 순서대로 호출됨
+   * 지연 통계도 히스토그램에 누적하므로 입력 크기와 관계없이 메모리가 일정
+   * (OcrDocumentLoader.loadFromJsonLines 스트림과 함께 사용)
+   *
+   * @param documents OCR 문서 스트림
+   * @param consumer  파싱 결과를 받는 콜백
+   * @return 전체 통계
+   */
+  public BatchParsingStats processStream(Stream<OcrDocument> documents,
+      Consumer<ParsingResult> consumer) {
+    long startNanos = System.nanoTime();
+    LatencyHistogram latencies = new LatencyHistogram();
+    long succeeded = 0;
+    long exceptions = 0;
+
+    Iterator<OcrDocument> iterator = documents.iterator();
+    List<OcrDocument> buffer = new ArrayList<>(streamChunkSize);
+    while (iterator.hasNext()) {
+      buffer.clear();
+      while (buffer.size() < streamChunkSize && iterator.hasNext()) {
+        buffer.add(iterator.next());
+      }
+
+      Chunk chunk = parseChunk(buffer);
+      chunk.recordLatencies(latencies);
+      succeeded += chunk.succeeded;
+      exceptions += chunk.exceptions;
+
+      for (ParsingResult result : chunk.results) {
+        consumer.accept(result);
+      }
+    }
+
+    return BatchParsingStats.of(latencies, succeeded, exceptions,
+        System.nanoTime() - startNanos);
+  }
+
+  /**
+   * ForkJoinPool 종료 (스프링 컨텍스트 종료 시 호출)
+   */
+  @Override
+  public void close() {
+    pool.shutdown();
+  }
+
+  private Chunk parseChunk(List<OcrDocument> documents) {
+    Chunk chunk = new Chunk(documents.size());
+    if (documents.isEmpty()) {
+      return chunk;
+    }
+
+    int threshold = Math.max(1,
+        documents.size() / (pool.getParallelism() * SPLITS_PER_THREAD));
+    pool.invoke(new ParseTask(documents, chunk, 0, documents.size(), threshold));
+
+    for (ParsingResult result : chunk.results) {
+      if (result.isSuccess()) {
+        chunk.succeeded++;
+      }
+    }
+    for (boolean thrown : chunk.thrown) {
+      if (thrown) {
+        chunk.exceptions++;
+      }
+    }
+    return chunk;
+  }
+
+  /**
+   * 문서 하나 파싱 후 결과와 지연 시간을 index 위치에 기록 (예외는 실패 결과로 변환)
+   */
+  private void parseInto(OcrDocument document, Chunk chunk, int index) {
+    long startNanos = System.nanoTime();
+    boolean thrown = false;
+    ParsingResult result;
+    try {
+      result = pipeline.process(document);
+      if (result == null) {
+        result = ParsingResult.failure("파싱 결과가 null입니다.");
+      }
+    } catch (Exception e) {
+      log.warn("배치 파싱 중 예외 발생: {}", e.getMessage());
+      result = ParsingResult.failure(List.of("파싱 중 예외 발생: " + e.getMessage()));
+      thrown = true;
+    }
+    chunk.results[index] = result;
+    chunk.latencies[index] = System.nanoTime() - startNanos;
+    chunk.thrown[index] = thrown;
+  }
+
+  private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+    ForkJoinWorkerThread worker =
+        ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+    worker.setName("batch-parsing-" + worker.getPoolIndex());
+    return worker;
+  }
+
+  /**
+   * 한 번에 병렬 처리하는 문서 묶음의 결과 (인덱스별로 각 태스크가 자기 구간만 기록)
+   */
+  private static final class Chunk {
+
+    private final ParsingResult[] results;
+    private final long[] latencies;
+    private final boolean[] thrown;
+    private long succeeded;
+    private long exceptions;
+
+    private Chunk(int size) {
+      this.results = new ParsingResult[size];
+      this.latencies = new long[size];
+      this.thrown = new boolean[size];
+    }
+
+    private void recordLatencies(LatencyHistogram histogram) {
+      for (long latency : latencies) {
+        histogram.record(latency);
+      }
+    }
+  }
+
+  /**
+   * 문서 구간 [from, to)를 파싱하는 fork-join 태스크
+   */
+  private final class ParseTask extends RecursiveAction {
+
+    private final List<OcrDocument> documents;
+    private final Chunk chunk;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    private ParseTask(List<OcrDocument> documents, Chunk chunk, int from, int to,
+        int threshold) {
+      this.documents = documents;
+      this.chunk = chunk;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        for (int i = from; i < to; i++) {
+          parseInto(documents.get(i), chunk, i);
+        }
+        return;
+      }
+
+      int mid = (from + to) >>> 1;
+      invokeAll(new ParseTask(documents, chunk, from, mid, threshold),
+          new ParseTask(documents, chunk, mid, to, threshold));
+    }
+  }
+}
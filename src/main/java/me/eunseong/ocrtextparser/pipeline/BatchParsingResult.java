@@ -0,0 +1,18 @@
+package me.eunseong.ocrtextparser.pipeline;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.eunseong.ocrtextparser.domain.ParsingResult;
+
+/**
+ * 배치 파싱 결과
+ * 문서별 결과 (입력 순서) + 처리량/지연 통계
+ */
+@Getter
+@AllArgsConstructor
+public class BatchParsingResult {
+
+  private final List<ParsingResult> results;
+  private final BatchParsingStats stats;
+}
@@ -0,0 +1,69 @@
+package me.eunseong.ocrtextparser.pipeline;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 배치 파싱 결과 통계
+ * 전체 처리량(documents/s)과 문서별 파싱 지연 분포
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class BatchParsingStats {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private long documents;  // 처리한 문서 수
+  private long succeeded;  // 파싱 성공 문서 수
+  private long failed;  // 파싱 실패 문서 수 (예외 포함)
+  private long exceptions;  // 파이프라인 예외가 발생한 문서 수
+  private long elapsedNanos;  // 전체 소요 시간
+  private long minLatencyNanos;  // 문서별 지연 최소값
+  private long meanLatencyNanos;  // 문서별 지연 평균
+  private long p50LatencyNanos;  // 문서별 지연 중앙값
+  private long p95LatencyNanos;  // 문서별 지연 95번째 백분위수
+  private long p99LatencyNanos;  // 문서별 지연 99번째 백분위수
+  private long maxLatencyNanos;  // 문서별 지연 최대값
+
+  /**
+   * 지연 히스토그램으로 통계 생성
+   * 백분위수는 히스토그램 버킷 기준 (상대 오차 1/32 이내), 최소/평균/최대는 정확한 값
+   *
+   * @param latencies    문서별 지연 히스토그램 (나노초)
+   * @param succeeded    파싱 성공 문서 수
+   * @param exceptions   예외 발생 문서 수
+   * @param elapsedNanos 전체 소요 시간
+   * @return 통계
+   */
+  static BatchParsingStats of(LatencyHistogram latencies, long succeeded,
+      long exceptions, long elapsedNanos) {
+    long count = latencies.getCount();
+    return BatchParsingStats.builder()
+        .documents(count)
+        .succeeded(succeeded)
+        .failed(count - succeeded)
+        .exceptions(exceptions)
+        .elapsedNanos(elapsedNanos)
+        .minLatencyNanos(latencies.getMin())
+        .meanLatencyNanos(latencies.getMean())
+        .p50LatencyNanos(latencies.percentile(0.50))
+        .p95LatencyNanos(latencies.percentile(0.95))
+        .p99LatencyNanos(latencies.percentile(0.99))
+        .maxLatencyNanos(latencies.getMax())
+        .build();
+  }
+
+  /**
+   * 초당 처리 문서 수 (성공 + 실패)
+   *
+   * @return documents/s
+   */
+  public double getDocumentsPerSecond() {
+    if (elapsedNanos <= 0) {
+      return 0.0;
+    }
+    return documents * NANOS_PER_SECOND / elapsedNanos;
+  }
+}
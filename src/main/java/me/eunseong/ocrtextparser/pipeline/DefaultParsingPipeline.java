@@ -2,35 +2,51 @@ package me.eunseong.ocrtextparser.pipeline;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.eunseong.ocrtextparser.config.ParserProperties;
 import me.eunseong.ocrtextparser.domain.OcrDocument;
 import me.eunseong.ocrtextparser.domain.ParsingResult;
 import me.eunseong.ocrtextparser.domain.Weight;
 import me.eunseong.ocrtextparser.domain.WeighingSlip;
 import me.eunseong.ocrtextparser.extractor.ExtractorRegistry;
+import me.eunseong.ocrtextparser.extractor.FieldExtractor;
+import me.eunseong.ocrtextparser.extractor.FieldLabelScanner;
 import me.eunseong.ocrtextparser.normalizer.DateNormalizer;
 import me.eunseong.ocrtextparser.normalizer.WeightNormalizer;
+import me.eunseong.ocrtextparser.template.LayoutTemplateMatcher;
 import me.eunseong.ocrtextparser.validator.Validator;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * 기본 파싱 파이프라인 구현
  * 추출 → 정규화 → 검증 단계를 순차 실행
+ * 레이아웃 템플릿이 켜져 있으면 학습된 레이아웃의 필드는 템플릿 영역에서 바로 추출
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DefaultParsingPipeline implements ParsingPipeline {
 
+  // 추출 필드 (ExtractorRegistry 이름) 및 경고 메시지용 이름, 결과 반영 순서
+  private static final String[] FIELD_NAMES = {"date", "vehicleNumber", "company", "weight"};
+  private static final String[] FIELD_LABELS = {"날짜", "차량번호", "회사명", "무게"};
+
   private final ExtractorRegistry extractorRegistry;
+  private final FieldLabelScanner fieldLabelScanner;
   private final DateNormalizer dateNormalizer;
   private final WeightNormalizer weightNormalizer;
   private final List<Validator> validators;
+  private final ParserProperties parserProperties;
+  private final LayoutTemplateMatcher layoutTemplateMatcher;
 
   @Override
   public ParsingResult process(OcrDocument document) {
@@ -39,15 +55,55 @@ public class DefaultParsingPipeline implements ParsingPipeline {
     }
 
     // 1. Context 생성
-    ParsingContext context = ParsingContext.builder()
+    ParsingContext context = newContext(document);
+    if (!layoutTemplateMatcher.isEnabled()) {
+      return parse(context, Map.of()).result;
+    }
+
+    OptionalLong fingerprint = layoutTemplateMatcher.fingerprint(context);
+    if (fingerprint.isEmpty()) {
+      return parse(context, Map.of()).result;
+    }
+
+    // 학습된 레이아웃이면 템플릿 영역 값으로 파싱, 검증에 실패하면 일반 추출로 다시 파싱
+    Optional<Map<String, Object>> templateValues =
+        layoutTemplateMatcher.lookup(context, fingerprint.getAsLong());
+    if (templateValues.isPresent()) {
+      ParsingResult result = parse(context, templateValues.get()).result;
+      layoutTemplateMatcher.recordResult(result.isSuccess());
+      if (result.isSuccess()) {
+        return result;
+      }
+      log.debug("레이아웃 템플릿 결과 검증 실패, 일반 추출로 다시 파싱");
+      context = newContext(document);
+    }
+
+    // 일반 추출에 성공하면 이 레이아웃의 값 영역 학습
+    Parsed parsed = parse(context, Map.of());
+    if (parsed.result.isSuccess()) {
+      layoutTemplateMatcher.learn(context, fingerprint.getAsLong(), parsed.extracted);
+    }
+    return parsed.result;
+  }
+
+  private ParsingContext newContext(OcrDocument document) {
+    return ParsingContext.builder()
         .document(document)
         .slipBuilder(WeighingSlip.builder())
         .errors(new ArrayList<>())
         .warnings(new ArrayList<>())
         .build();
+  }
 
+  /**
+   * 추출 → 정규화 → 검증 → 결과 생성
+   *
+   * @param context        파싱 컨텍스트
+   * @param templateValues 템플릿에서 얻은 필드 값 (없는 필드만 일반 추출)
+   */
+  private Parsed parse(ParsingContext context, Map<String, Object> templateValues) {
     // 2. 추출
-    extractFields(context);
+    Map<String, Object> extracted = extractFields(context, templateValues);
 
     // 3. 정규화
     normalizeFields(context);
@@ -56,84 +112,171 @@ public class DefaultParsingPipeline implements ParsingPipeline {
     validateFields(context);
 
     // 5. 결과 생성
-    return buildResult(context);
+    return new Parsed(buildResult(context), extracted);
   }
 
   /**
    * 필드 추출
-   * ExtractorRegistry로 모든 필드 추출
+   * ExtractorRegistry로 모든 필드 추출 (추출기들이 컨텍스트의 문서 파생 정보 공유)
+   * 병렬 추출이 켜져 있고 문서 비용이 임계값 이상이면 필드별 추출기를 fork-join으로 동시에 실행
+   * 추출 결과와 예외는 호출 스레드에서 필드 순서대로 builder와 경고에 반영
+   * 템플릿에서 얻은 필드는 추출기를 실행하지 않음 (모두 있으면 라벨 스캔도 생략)
+   *
+   * @return 필드 이름 → 추출 값 (정규화 전, 템플릿 학습에 사용)
    */
-  private void extractFields(ParsingContext context) {
+  private Map<String, Object> extractFields(ParsingContext context,
+      Map<String, Object> templateValues) {
     log.debug("필드 추출 시작");
 
-    // 날짜 추출
-    extractorRegistry.getExtractor("date").ifPresent(extractor -> {
-      try {
-        extractor.extract(context.getDocument()).ifPresent(value -> {
-          if (value instanceof LocalDate) {
-            context.getSlipBuilder().date((LocalDate) value);
-          }
-        });
-      } catch (Exception e) {
-        log.warn("날짜 추출 중 예외 발생: {}", e.getMessage());
-        context.addWarning("날짜 추출 중 예외 발생: " + e.getMessage());
+    FieldOutcome[] outcomes = new FieldOutcome[FIELD_NAMES.length];
+    boolean pending = false;
+    for (int field = 0; field < FIELD_NAMES.length; field++) {
+      Object value = templateValues.get(FIELD_NAMES[field]);
+      if (value != null) {
+        outcomes[field] = new FieldOutcome(value, null);
+      } else {
+        pending = true;
       }
-    });
-
-    // 차량번호 추출
-    extractorRegistry.getExtractor("vehicleNumber").ifPresent(extractor -> {
-      try {
-        extractor.extract(context.getDocument()).ifPresent(value -> {
-          if (value instanceof String) {
-            context.getSlipBuilder().vehicleNumber((String) value);
-          }
-        });
-      } catch (Exception e) {
-        log.warn("차량번호 추출 중 예외 발생: {}", e.getMessage());
-        context.addWarning("차량번호 추출 중 예외 발생: " + e.getMessage());
-      }
-    });
-
-    // 회사명 추출
-    extractorRegistry.getExtractor("company").ifPresent(extractor -> {
-      try {
-        extractor.extract(context.getDocument()).ifPresent(value -> {
-          if (value instanceof String) {
-            context.getSlipBuilder().company((String) value);
+    }
+
+    if (pending) {
+      // 모든 필드 라벨을 문서당 한 번 스캔 (필드별 키워드 탐색 대신 사용)
+      context.putFact(DocumentFacts.LABELS, fieldLabelScanner.scan(context));
+
+      if (shouldExtractInParallel(context.getDocument())) {
+        extractInParallel(context, outcomes);
+      } else {
+        for (int field = 0; field < FIELD_NAMES.length; field++) {
+          if (outcomes[field] == null) {
+            outcomes[field] = extractField(context, FIELD_NAMES[field]);
           }
-        });
-      } catch (Exception e) {
-        log.warn("회사명 추출 중 예외 발생: {}", e.getMessage());
-        context.addWarning("회사명 추출 중 예외 발생: " + e.getMessage());
+        }
       }
-    });
-
-    // 무게 추출
-    extractorRegistry.getExtractor("weight").ifPresent(extractor -> {
-      try {
-        extractor.extract(context.getDocument()).ifPresent(value -> {
-          if (value instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Weight> weights = (Map<String, Weight>) value;
-
-            if (weights.containsKey("total")) {
-              context.getSlipBuilder().totalWeight(weights.get("total"));
-            }
-            if (weights.containsKey("vehicle")) {
-              context.getSlipBuilder().vehicleWeight(weights.get("vehicle"));
-            }
-            if (weights.containsKey("net")) {
-              context.getSlipBuilder().netWeight(weights.get("net"));
-            }
-          }
-        });
-      } catch (Exception e) {
-        log.warn("무게 추출 중 예외 발생: {}", e.getMessage());
-        context.addWarning("무게 추출 중 예외 발생: " + e.getMessage());
+    }
+
+    Map<String, Object> extracted = new HashMap<>();
+    for (int field = 0; field < FIELD_NAMES.length; field++) {
+      applyField(context, field, outcomes[field]);
+      if (outcomes[field].value != null) {
+        extracted.put(FIELD_NAMES[field], outcomes[field].value);
       }
-    });
+    }
 
     log.debug("필드 추출 완료");
+    return extracted;
+  }
+
+  /**
+   * 병렬 추출 여부 (문서 텍스트 길이를 추출 비용으로 사용)
+   * 작은 문서는 fork/join 비용이 추출 비용보다 크므로 순차 실행
+   */
+  private boolean shouldExtractInParallel(OcrDocument document) {
+    ParserProperties.Extraction config = parserProperties.getExtraction();
+    return config.isParallel() && estimateCost(document) >= config.getParallelMinCost();
+  }
+
+  private long estimateCost(OcrDocument document) {
+    if (document.getText() != null) {
+      return document.getText().length();
+    }
+    long cost = 0;
+    if (document.getLines() != null) {
+      for (String line : document.getLines()) {
+        cost += line.length();
+      }
+    }
+    return cost;
+  }
+
+  /**
+   * 필드별 추출기를 fork-join 태스크로 동시에 실행 (템플릿에서 얻은 필드 제외)
+   * ForkJoinPool 워커(배치 파싱)에서 호출되면 같은 풀에, 아니면 공용 풀에 fork
+   */
+  private void extractInParallel(ParsingContext context, FieldOutcome[] outcomes) {
+    // 문서의 지연 생성 캐시와 공유 파생 정보를 미리 채워 태스크들이 같은 인스턴스를 공유
+    // (태스크 안에서 처음 계산하면 여러 추출기가 같은 정보를 중복 계산)
+    OcrDocument document = context.getDocument();
+    document.getTokenizedLines();
+    document.getWordStore();
+    context.getFact(DocumentFacts.DOCUMENT_DATE);
+    context.getFact(DocumentFacts.NORMALIZED_LINES);
+    context.getFact(DocumentFacts.WORD_INDEX);
+
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(FIELD_NAMES.length);
+    for (int i = 0; i < FIELD_NAMES.length; i++) {
+      if (outcomes[i] != null) {
+        continue;
+      }
+      int field = i;
+      tasks.add(ForkJoinTask.adapt(
+          () -> outcomes[field] = extractField(context, FIELD_NAMES[field])));
+    }
+    ForkJoinTask.invokeAll(tasks);
+  }
+
+  /**
+   * 필드 하나 추출 (예외는 결과에 담아 호출 스레드에서 경고로 반영)
+   */
+  private FieldOutcome extractField(ParsingContext context, String fieldName) {
+    Optional<FieldExtractor<?>> extractor = extractorRegistry.getExtractor(fieldName);
+    if (extractor.isEmpty()) {
+      return FieldOutcome.EMPTY;
+    }
+    try {
+      return new FieldOutcome(extractor.get().extract(context).orElse(null), null);
+    } catch (Exception e) {
+      return new FieldOutcome(null, e);
+    }
+  }
+
+  /**
+   * 추출 결과를 builder에 반영
+   */
+  private void applyField(ParsingContext context, int field, FieldOutcome outcome) {
+    if (outcome.exception != null) {
+      String message = outcome.exception.getMessage();
+      log.warn("{} 추출 중 예외 발생: {}", FIELD_LABELS[field], message);
+      context.addWarning(FIELD_LABELS[field] + " 추출 중 예외 발생: " + message);
+      return;
+    }
+
+    Object value = outcome.value;
+    WeighingSlip.WeighingSlipBuilder builder = context.getSlipBuilder();
+    switch (FIELD_NAMES[field]) {
+      case "date" -> {
+        if (value instanceof LocalDate) {
+          builder.date((LocalDate) value);
+        }
+      }
+      case "vehicleNumber" -> {
+        if (value instanceof String) {
+          builder.vehicleNumber((String) value);
+        }
+      }
+      case "company" -> {
+        if (value instanceof String) {
+          builder.company((String) value);
+        }
+      }
+      case "weight" -> {
+        if (value instanceof Map) {
+          @SuppressWarnings("unchecked")
+          Map<String, Weight> weights = (Map<String, Weight>) value;
+
+          if (weights.containsKey("total")) {
+            builder.totalWeight(weights.get("total"));
+          }
+          if (weights.containsKey("vehicle")) {
+            builder.vehicleWeight(weights.get("vehicle"));
+          }
+          if (weights.containsKey("net")) {
+            builder.netWeight(weights.get("net"));
+          }
+        }
+      }
+      default -> {
+      }
+    }
   }
 
   /**
@@ -214,4 +357,34 @@ public class DefaultParsingPipeline implements ParsingPipeline {
       return ParsingResult.success(slip, context.getWarnings());
     }
   }
+
+  /**
+   * 파싱 결과와 정규화 전 추출 값
+   */
+  private static final class Parsed {
+
+    private final ParsingResult result;
+    private final Map<String, Object> extracted;
+
+    private Parsed(ParsingResult result, Map<String, Object> extracted) {
+      this.result = result;
+      this.extracted = extracted;
+    }
+  }
+
+  /**
+   * 필드 추출 결과 (값 또는 예외)
+   */
+  private static final class FieldOutcome {
+
+    private static final FieldOutcome EMPTY = new FieldOutcome(null, null);
+
+    private final Object value;
+    private final Exception exception;
+
+    private FieldOutcome(Object value, Exception exception) {
+      this.value = value;
+      this.exception = exception;
+    }
+  }
 }
@@ -0,0 +1,88 @@
+package me.eunseong.ocrtextparser.pipeline;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.TokenizedLine;
+import me.eunseong.ocrtextparser.extractor.DocumentLabels;
+import me.eunseong.ocrtextparser.util.NormalizedText;
+import me.eunseong.ocrtextparser.util.TextNormalizer;
+import me.eunseong.ocrtextparser.util.WordGramIndex;
+
+/**
+ * 문서 파생 정보 키 모음
+ * 여러 추출기가 공통으로 쓰는 정보를 ParsingContext에 한 번만 계산해 공유
+ */
+public final class DocumentFacts {
+
+  private static final TextNormalizer TEXT_NORMALIZER = new TextNormalizer();
+
+  /**
+   * 문서 날짜 (날짜 토큰이 있는 첫 라인 기준)
+   */
+  public static final FactKey<Optional<LocalDate>> DOCUMENT_DATE =
+      FactKey.of("documentDate", DocumentFacts::findDocumentDate);
+
+  /**
+   * 정규화된 라인 목록 (TextNormalizer.normalizeWithOffsets 적용)
+   * 매칭은 정규화된 텍스트로, 값 추출은 원본 위치 매핑으로 하므로 라인당 한 번만 정규화
+   */
+  public static final FactKey<List<NormalizedText>> NORMALIZED_LINES =
+      FactKey.of("normalizedLines", DocumentFacts::normalizeLines);
+
+  /**
+   * 단어 텍스트 bigram 색인 (좌표 기반 라벨 찾기의 후보 단어 선별)
+   */
+  public static final FactKey<WordGramIndex> WORD_INDEX =
+      FactKey.of("wordIndex", DocumentFacts::indexWords);
+
+  /**
+   * 필드 라벨 스캔 결과 (파이프라인이 FieldLabelScanner로 한 번 스캔해 저장)
+   * 저장되지 않은 컨텍스트에서는 빈 결과 (전략이 직접 매칭)
+   */
+  public static final FactKey<DocumentLabels> LABELS =
+      FactKey.of("labels", context -> DocumentLabels.EMPTY);
+
+  private DocumentFacts() {
+  }
+
+  private static Optional<LocalDate> findDocumentDate(ParsingContext context) {
+    for (TokenizedLine line : tokenizedLines(context)) {
+      Optional<LocalDate> date = line.findDate();
+      if (date.isPresent()) {
+        return date;
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static List<NormalizedText> normalizeLines(ParsingContext context) {
+    List<String> lines = context.getDocument().getLines();
+    if (lines == null) {
+      return List.of();
+    }
+    List<NormalizedText> normalized = new ArrayList<>(lines.size());
+    for (String line : lines) {
+      normalized.add(TEXT_NORMALIZER.normalizeWithOffsets(line));
+    }
+    return normalized;
+  }
+
+  private static WordGramIndex indexWords(ParsingContext context) {
+    OcrDocument document = context.getDocument();
+    if (document == null) {
+      return WordGramIndex.EMPTY;
+    }
+    return WordGramIndex.build(document.getWordStore(), TEXT_NORMALIZER);
+  }
+
+  private static List<TokenizedLine> tokenizedLines(ParsingContext context) {
+    OcrDocument document = context.getDocument();
+    if (document == null || document.getTokenizedLines() == null) {
+      return List.of();
+    }
+    return document.getTokenizedLines();
+  }
+}
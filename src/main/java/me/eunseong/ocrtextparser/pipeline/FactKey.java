@@ -0,0 +1,39 @@
+package me.eunseong.ocrtextparser.pipeline;
+
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * 문서 파생 정보 키 (ParsingContext.getFact)
+ * 키마다 값 타입과 계산 함수를 가지며, 값은 문서당 최초 조회 시 한 번만 계산
+ *
+ * @param <T> 값 타입
+ */
+@Getter
+public final class FactKey<T> {
+
+  private final String name;
+  private final Function<ParsingContext, T> loader;
+
+  private FactKey(String name, Function<ParsingContext, T> loader) {
+    this.name = name;
+    this.loader = loader;
+  }
+
+  /**
+   * 키 생성
+   *
+   * @param name   키 이름 (metadata 키로 사용)
+   * @param loader 값 계산 함수 (null 대신 Optional 등 빈 값 반환)
+   * @return 키
+   */
+  public static <T> FactKey<T> of(String name,
+      Function<ParsingContext, T> loader) {
+    return new FactKey<>("fact." + name, loader);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
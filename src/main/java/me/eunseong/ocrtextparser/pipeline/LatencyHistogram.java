@@ -0,0 +1,90 @@
+package me.eunseong.ocrtextparser.pipeline;
+
+/**
+ * 고정 크기 지연 히스토그램 (log-linear 버킷)
+ * 2의 거듭제곱 구간마다 32개의 균등 하위 버킷으로 나눠 백분위수 상대 오차를 1/32 이내로 유지
+ * 문서 수와 관계없이 메모리가 일정하므로 스트림 파싱도 지연 분포를 누적할 수 있음
+ * 최소/최대/합계는 정확한 값 (단일 스레드에서만 기록)
+ */
+final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  // 0 ~ 31은 값 그대로, 이후 구간 (shift + 1)마다 32개 버킷 (최대 shift = 62 - SUB_BUCKET_BITS)
+  private final long[] counts = new long[(Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS];
+  private long count;
+  private long sum;
+  private long min = Long.MAX_VALUE;
+  private long max;
+
+  /**
+   * 지연 시간 기록
+   *
+   * @param nanos 지연 (나노초, 음수는 0으로 기록)
+   */
+  void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts[bucketOf(value)]++;
+    count++;
+    sum += value;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+  }
+
+  long getCount() {
+    return count;
+  }
+
+  long getMin() {
+    return count == 0 ? 0 : min;
+  }
+
+  long getMax() {
+    return max;
+  }
+
+  long getMean() {
+    return count == 0 ? 0 : sum / count;
+  }
+
+  /**
+   * nearest-rank 백분위수 (해당 버킷의 최대값, 실제 최대값을 넘지 않음)
+   *
+   * @param fraction 백분위 (0.0 ~ 1.0)
+   * @return 지연 (나노초, 기록이 없으면 0)
+   */
+  long percentile(double fraction) {
+    if (count == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(fraction * count));
+    long seen = 0;
+    for (int bucket = 0; bucket < counts.length; bucket++) {
+      seen += counts[bucket];
+      if (seen >= rank) {
+        return Math.min(highestOf(bucket), max);
+      }
+    }
+    return max;
+  }
+
+  private static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+    int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+    return (shift + 1) * SUB_BUCKETS + sub;
+  }
+
+  // 버킷에 들어가는 가장 큰 값
+  private static long highestOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+}
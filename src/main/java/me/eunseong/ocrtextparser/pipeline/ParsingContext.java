@@ -6,13 +6,15 @@ import me.eunseong.ocrtextparser.domain.OcrDocument;
 import me.eunseong.ocrtextparser.domain.WeighingSlip;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 파싱 컨텍스트
  * 파싱 과정에서 상태를 공유하고 에러/경고를 수집
+ * 메타데이터(문서 파생 정보 포함)는 병렬 추출 태스크들이 함께 읽으므로 동시성 맵에 저장
+ * (에러/경고는 호출 스레드에서만 추가)
  */
 @Getter
 @Builder
@@ -28,7 +30,7 @@ public class ParsingContext {
   private final List<String> warnings = new ArrayList<>();
 
   @Builder.Default
-  private final Map<String, Object> metadata = new HashMap<>();
+  private final Map<String, Object> metadata = new ConcurrentHashMap<>();
 
   /**
    * 에러 추가
@@ -49,10 +51,14 @@ public class ParsingContext {
   }
 
   /**
-   * 메타데이터 추가
+   * 메타데이터 추가 (value가 null이면 제거)
    */
   public void putMetadata(String key, Object value) {
-    metadata.put(key, value);
+    if (value == null) {
+      metadata.remove(key);
+    } else {
+      metadata.put(key, value);
+    }
   }
 
   /**
@@ -62,6 +68,37 @@ public class ParsingContext {
     return metadata.get(key);
   }
 
+  /**
+   * 문서 파생 정보 조회 (최초 조회 시 계산 후 metadata에 캐시)
+   * 같은 문서를 처리하는 추출기들이 날짜, 정규화 라인 등을 한 번만 계산하도록 공유
+   * 계산 중에는 잠금을 잡지 않으므로 여러 스레드가 동시에 처음 조회하면 중복 계산될 수 있고,
+   * 먼저 저장된 값을 모두가 사용 (병렬 추출은 공유 정보를 미리 계산한 뒤 시작)
+   *
+   * @param key 정보 키 (DocumentFacts 참고)
+   * @return 정보 값
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getFact(FactKey<T> key) {
+    String name = key.getName();
+    Object cached = metadata.get(name);
+    if (cached != null) {
+      return (T) cached;
+    }
+    T value = key.getLoader().apply(this);
+    Object previous = metadata.putIfAbsent(name, value);
+    return previous != null ? (T) previous : value;
+  }
+
+  /**
+   * 문서 파생 정보 저장 (파이프라인이 미리 계산한 값을 공유할 때 사용)
+   *
+   * @param key   정보 키
+   * @param value 정보 값
+   */
+  public <T> void putFact(FactKey<T> key, T value) {
+    metadata.put(key.getName(), value);
+  }
+
   /**
    * 에러가 있는지 확인
    */
@@ -4,10 +4,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.eunseong.ocrtextparser.domain.OcrDocument;
 import me.eunseong.ocrtextparser.domain.ParsingResult;
+import me.eunseong.ocrtextparser.pipeline.BatchParsingPipeline;
+import me.eunseong.ocrtextparser.pipeline.BatchParsingResult;
+import me.eunseong.ocrtextparser.pipeline.BatchParsingStats;
 import me.eunseong.ocrtextparser.pipeline.ParsingPipeline;
+import me.eunseong.ocrtextparser.template.LayoutTemplateMatcher;
+import me.eunseong.ocrtextparser.template.TemplateStats;
+import me.eunseong.ocrtextparser.util.FuzzyFilterStats;
+import me.eunseong.ocrtextparser.util.TextMatcher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 파싱 서비스
@@ -19,6 +28,9 @@ import java.util.List;
 public class ParsingService {
 
   private final ParsingPipeline pipeline;
+  private final BatchParsingPipeline batchPipeline;
+  private final LayoutTemplateMatcher layoutTemplateMatcher;
+  private final TextMatcher textMatcher;
 
   /**
    * OCR 문서 파싱
@@ -58,4 +70,53 @@ public class ParsingService {
       return ParsingResult.failure(List.of("파싱 중 예외 발생: " + e.getMessage()));
     }
   }
+
+  /**
+   * OCR 문서 목록 병렬 파싱
+   * 문서별 실패는 해당 문서의 실패 결과로만 반영
+   *
+   * @param documents OCR 문서 목록
+   * @return 입력 순서의 파싱 결과 + 처리량/지연 통계
+   */
+  public BatchParsingResult parseBatch(List<OcrDocument> documents) {
+    log.info("배치 파싱 시작: {} documents", documents.size());
+    BatchParsingResult result = batchPipeline.processBatch(documents);
+    logStats(result.getStats());
+    return result;
+  }
+
+  /**
+   * OCR 문서 스트림 병렬 파싱 (결과는 입력 순서대로 consumer에 전달)
+   *
+   * @param documents OCR 문서 스트림
+   * @param consumer  파싱 결과를 받는 콜백
+   * @return 처리량/지연 통계
+   */
+  public BatchParsingStats parseStream(Stream<OcrDocument> documents,
+      Consumer<ParsingResult> consumer) {
+    BatchParsingStats stats = batchPipeline.processStream(documents, consumer);
+    logStats(stats);
+    return stats;
+  }
+
+  private void logStats(BatchParsingStats stats) {
+    log.info("배치 파싱 완료: {} documents (성공 {}, 실패 {}, 예외 {}), {} docs/s, "
+            + "p50 {}us, p99 {}us",
+        stats.getDocuments(), stats.getSucceeded(), stats.getFailed(),
+        stats.getExceptions(), String.format("%.1f", stats.getDocumentsPerSecond()),
+        stats.getP50LatencyNanos() / 1_000, stats.getP99LatencyNanos() / 1_000);
+
+    if (layoutTemplateMatcher.isEnabled()) {
+      TemplateStats templateStats = layoutTemplateMatcher.getStats();
+      log.info("레이아웃 템플릿: 적중률 {}% (조회 {}, 적중 {}, 거부 {}, 학습 {}, 템플릿 {}개)",
+          String.format("%.1f", templateStats.getHitRate() * 100), templateStats.getLookups(),
+          templateStats.getHits(), templateStats.getRejected(), templateStats.getLearned(),
+          templateStats.getTemplates());
+    }
+
+    FuzzyFilterStats filterStats = textMatcher.getFilterStats();
+    log.info("Fuzzy 카운트 필터: 적중률 {}% (비교 {}, DP 생략 {})",
+        String.format("%.1f", filterStats.getHitRate() * 100), filterStats.getChecked(),
+        filterStats.getRejected());
+  }
 }
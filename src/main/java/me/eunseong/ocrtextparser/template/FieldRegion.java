@@ -0,0 +1,17 @@
+package me.eunseong.ocrtextparser.template;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 템플릿이 학습한 필드 값 영역 (WordLayout 라벨 프레임 기준 정규화 좌표)
+ * y 중심이 [centerY - halfHeight, centerY + halfHeight] 안이고 startX 오른쪽에서 시작하는 단어들
+ */
+@Getter
+@AllArgsConstructor
+final class FieldRegion {
+
+  private final double centerY;  // 밴드 y 중심
+  private final double halfHeight;  // 밴드 높이의 절반
+  private final double startX;  // 값 시작 x (첫 단어 좌상단)
+}
@@ -0,0 +1,52 @@
+package me.eunseong.ocrtextparser.template;
+
+import java.util.Arrays;
+
+/**
+ * 레이아웃 지문 누적기
+ * 토큰 (키워드 ID, 격자 칸 x, 격자 칸 y)을 모아 순서와 무관한 64비트 해시 (FNV-1a) 생성
+ * 값 텍스트는 포함하지 않으므로 같은 양식이면 값이 달라도 같은 지문
+ */
+final class LayoutFingerprint {
+
+  /**
+   * 라벨이 아닌 숫자 단어 토큰의 키워드 ID (오토마톤 키워드 ID와 겹치지 않음)
+   */
+  static final int NUMBER_TOKEN = -1;
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private long[] tokens = new long[16];
+  private int count;
+
+  /**
+   * 토큰 추가
+   *
+   * @param keywordId 라벨 키워드 ID (FieldLabelScanner 오토마톤 기준) 또는 NUMBER_TOKEN
+   * @param cellX     격자 칸 x
+   * @param cellY     격자 칸 y
+   */
+  void add(int keywordId, int cellX, int cellY) {
+    if (count == tokens.length) {
+      tokens = Arrays.copyOf(tokens, count * 2);
+    }
+    tokens[count++] = ((long) keywordId << 32) | ((cellY & 0xffffL) << 16) | (cellX & 0xffffL);
+  }
+
+  /**
+   * 지문 해시 (토큰 정렬 후 계산하므로 단어 순서와 무관)
+   */
+  long hash() {
+    long[] sorted = Arrays.copyOf(tokens, count);
+    Arrays.sort(sorted);
+    long hash = FNV_OFFSET;
+    for (long token : sorted) {
+      for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+        hash ^= (token >>> shift) & 0xff;
+        hash *= FNV_PRIME;
+      }
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,26 @@
+package me.eunseong.ocrtextparser.template;
+
+import java.util.Map;
+
+/**
+ * 레이아웃 템플릿 (지문 하나에 대한 필드별 값 영역)
+ * 생성 후 불변이므로 여러 스레드에서 공유 가능
+ */
+final class LayoutTemplate {
+
+  private final Map<String, FieldRegion> regions;  // 추출기 필드 이름 → 값 영역
+
+  LayoutTemplate(Map<String, FieldRegion> regions) {
+    this.regions = Map.copyOf(regions);
+  }
+
+  /**
+   * 필드 값 영역
+   *
+   * @param fieldName 추출기 필드 이름 (AbstractFieldExtractor.getFieldName)
+   * @return 값 영역 (학습하지 못한 필드면 null)
+   */
+  FieldRegion getRegion(String fieldName) {
+    return regions.get(fieldName);
+  }
+}
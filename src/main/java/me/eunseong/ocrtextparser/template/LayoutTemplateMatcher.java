@@ -0,0 +1,259 @@
+package me.eunseong.ocrtextparser.template;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.IntStream;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.domain.OcrWordStore;
+import me.eunseong.ocrtextparser.domain.Weight;
+import me.eunseong.ocrtextparser.extractor.AbstractFieldExtractor;
+import me.eunseong.ocrtextparser.extractor.FieldLabelScanner;
+import me.eunseong.ocrtextparser.pipeline.FactKey;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
+import me.eunseong.ocrtextparser.util.TextNormalizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레이아웃 템플릿 매처
+ * 1. 지문: 라벨 키워드와 정확히 매칭되는 단어의 (키워드, 라벨 프레임 격자 칸)으로 레이아웃 지문 계산
+ * 2. 학습: 일반 추출에 성공한 문서에서 추출 값을 재현하는 가장 좁은 단어 영역을 필드별로 기록
+ * 3. 조회: 같은 지문의 문서는 기록된 영역의 텍스트에 추출기 postProcess만 적용 (Fuzzy Matching 없음)
+ * 영역에서 값을 얻지 못한 필드는 파이프라인이 일반 추출로 처리
+ */
+@Component
+public class LayoutTemplateMatcher {
+
+  // 파이프라인 필드와 추출기 필드 이름이 같은 필드
+  private static final String[] SINGLE_FIELDS = {"date", "vehicleNumber", "company"};
+  // 파이프라인 무게 Map 키 → 추출기 필드 이름
+  private static final String[] WEIGHT_KEYS = {"total", "vehicle", "net"};
+  private static final String[] WEIGHT_FIELDS = {"totalWeight", "vehicleWeight", "netWeight"};
+
+  private final Map<String, AbstractFieldExtractor<?>> extractors;  // 추출기 필드 이름 → 추출기
+  private final FieldLabelScanner fieldLabelScanner;
+  private final TextNormalizer textNormalizer;
+  private final LayoutTemplateStore store;
+  private final ParserProperties.Template config;
+
+  // 지문/조회/학습이 같은 컨텍스트에서 공유하는 단어 배치
+  private final FactKey<Optional<WordLayout>> wordLayout =
+      FactKey.of("wordLayout", this::buildLayout);
+
+  public LayoutTemplateMatcher(List<AbstractFieldExtractor<?>> extractors,
+      FieldLabelScanner fieldLabelScanner, TextNormalizer textNormalizer,
+      LayoutTemplateStore store, ParserProperties parserProperties) {
+    Map<String, AbstractFieldExtractor<?>> byName = new HashMap<>();
+    for (AbstractFieldExtractor<?> extractor : extractors) {
+      byName.put(extractor.getFieldName(), extractor);
+    }
+    this.extractors = Map.copyOf(byName);
+    this.fieldLabelScanner = fieldLabelScanner;
+    this.textNormalizer = textNormalizer;
+    this.store = store;
+    this.config = parserProperties.getTemplate();
+  }
+
+  public boolean isEnabled() {
+    return config.isEnabled();
+  }
+
+  /**
+   * 레이아웃 지문 계산
+   *
+   * @param context 파싱 컨텍스트
+   * @return 지문 (단어 좌표가 없거나 라벨 단어가 없으면 empty)
+   */
+  public OptionalLong fingerprint(ParsingContext context) {
+    Optional<WordLayout> layout = layoutOf(context);
+    return layout.isEmpty()
+        ? OptionalLong.empty()
+        : OptionalLong.of(layout.get().getFingerprint());
+  }
+
+  /**
+   * 템플릿 영역에서 필드 값 추출
+   * 무게는 세 값을 모두 얻었을 때만 포함 (일부만 있으면 일반 추출)
+   *
+   * @param context     파싱 컨텍스트
+   * @param fingerprint 레이아웃 지문
+   * @return 파이프라인 필드 이름 → 값 (템플릿이 없거나 영역에서 값을 하나도 얻지 못하면 empty)
+   */
+  public Optional<Map<String, Object>> lookup(ParsingContext context, long fingerprint) {
+    Optional<LayoutTemplate> template = store.find(fingerprint);
+    if (template.isEmpty()) {
+      return Optional.empty();
+    }
+    Optional<WordLayout> layout = layoutOf(context);
+    if (layout.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Map<String, Object> values = new HashMap<>();
+    for (String field : SINGLE_FIELDS) {
+      read(template.get().getRegion(field), layout.get(), field, context)
+          .ifPresent(value -> values.put(field, value));
+    }
+
+    Map<String, Weight> weights = new HashMap<>();
+    for (int i = 0; i < WEIGHT_FIELDS.length; i++) {
+      Optional<?> weight = read(template.get().getRegion(WEIGHT_FIELDS[i]), layout.get(),
+          WEIGHT_FIELDS[i], context);
+      if (weight.isEmpty() || !(weight.get() instanceof Weight)) {
+        weights = null;
+        break;
+      }
+      weights.put(WEIGHT_KEYS[i], (Weight) weight.get());
+    }
+    if (weights != null) {
+      values.put("weight", weights);
+    }
+    return values.isEmpty() ? Optional.empty() : Optional.of(values);
+  }
+
+  /**
+   * 템플릿 값으로 파싱한 결과 기록
+   *
+   * @param accepted 검증 통과 여부 (false면 파이프라인이 일반 추출로 다시 파싱)
+   */
+  public void recordResult(boolean accepted) {
+    if (accepted) {
+      store.recordHit();
+    } else {
+      store.recordRejected();
+    }
+  }
+
+  /**
+   * 일반 추출 결과로 템플릿 학습
+   * 필드마다 y 중심 순으로 단어를 보며 그 단어부터 시작하는 영역이 추출 값을 재현하는지 확인하고,
+   * 같은 밴드의 오른쪽 단어 중 재현되는 가장 좁은 영역을 기록 (재현되지 않는 필드는 제외)
+   *
+   * @param context     일반 추출을 마친 파싱 컨텍스트
+   * @param fingerprint 레이아웃 지문
+   * @param extracted   파이프라인 필드 이름 → 추출 값 (정규화 전)
+   */
+  public void learn(ParsingContext context, long fingerprint, Map<String, Object> extracted) {
+    OcrWordStore words = context.getDocument().getWordStore();
+    if (words == null || words.size() > config.getLearnMaxWords()) {
+      return;
+    }
+    Optional<WordLayout> layout = layoutOf(context);
+    if (layout.isEmpty()) {
+      return;
+    }
+
+    Map<String, Object> expected = new HashMap<>();
+    for (String field : SINGLE_FIELDS) {
+      if (extracted.get(field) != null) {
+        expected.put(field, extracted.get(field));
+      }
+    }
+    if (extracted.get("weight") instanceof Map) {
+      Map<?, ?> weights = (Map<?, ?>) extracted.get("weight");
+      for (int i = 0; i < WEIGHT_KEYS.length; i++) {
+        if (weights.get(WEIGHT_KEYS[i]) != null) {
+          expected.put(WEIGHT_FIELDS[i], weights.get(WEIGHT_KEYS[i]));
+        }
+      }
+    }
+
+    Map<String, FieldRegion> regions = new HashMap<>();
+    expected.forEach((field, value) -> findRegion(layout.get(), field, value, context)
+        .ifPresent(region -> regions.put(field, region)));
+    if (!regions.isEmpty()) {
+      store.put(fingerprint, new LayoutTemplate(regions));
+    }
+  }
+
+  /**
+   * 누적 통계
+   */
+  public TemplateStats getStats() {
+    return store.getStats();
+  }
+
+  private Optional<FieldRegion> findRegion(WordLayout layout, String field, Object expected,
+      ParsingContext context) {
+    for (int rank = 0; rank < layout.size(); rank++) {
+      int word = layout.wordAt(rank);
+      if (layout.getText(word) == null || !reproduces(layout, word, field, expected, context)) {
+        continue;
+      }
+
+      // 같은 밴드의 오른쪽 단어부터 확인해 라벨 등이 섞이지 않은 가장 좁은 영역 선택
+      int[] band = layout.collectIndices(layout.regionOf(word));
+      for (int i = band.length - 1; i >= 0; i--) {
+        if (layout.getX(band[i]) > layout.getX(word)
+            && reproduces(layout, band[i], field, expected, context)) {
+          return Optional.of(layout.regionOf(band[i]));
+        }
+      }
+      return Optional.of(layout.regionOf(word));
+    }
+    return Optional.empty();
+  }
+
+  private boolean reproduces(WordLayout layout, int word, String field, Object expected,
+      ParsingContext context) {
+    return read(layout.regionOf(word), layout, field, context)
+        .filter(value -> sameValue(value, expected))
+        .isPresent();
+  }
+
+  private Optional<?> read(FieldRegion region, WordLayout layout, String field,
+      ParsingContext context) {
+    AbstractFieldExtractor<?> extractor = extractors.get(field);
+    if (region == null || extractor == null) {
+      return Optional.empty();
+    }
+    return extractor.parseValue(layout.collect(region), context);
+  }
+
+  private Optional<WordLayout> layoutOf(ParsingContext context) {
+    return context.getFact(wordLayout);
+  }
+
+  /**
+   * 라벨 키워드와 정확히 매칭되는 단어를 찾아 배치 생성 (Fuzzy Matching 없음)
+   */
+  private Optional<WordLayout> buildLayout(ParsingContext context) {
+    OcrWordStore words = context.getDocument() != null
+        ? context.getDocument().getWordStore()
+        : null;
+    if (words == null || words.isEmpty()) {
+      return Optional.empty();
+    }
+
+    IntStream.Builder labelWords = IntStream.builder();
+    IntStream.Builder labelKeywords = IntStream.builder();
+    for (int w = 0; w < words.size(); w++) {
+      String text = words.getText(w);
+      if (text == null) {
+        continue;
+      }
+      int word = w;
+      fieldLabelScanner.scanText(textNormalizer.normalize(text), keywordId -> {
+        labelWords.add(word);
+        labelKeywords.add(keywordId);
+      });
+    }
+    return WordLayout.of(words, config.getGrid(), labelWords.build().toArray(),
+        labelKeywords.build().toArray());
+  }
+
+  // Weight는 equals가 없으므로 필드별 비교
+  private static boolean sameValue(Object actual, Object expected) {
+    if (actual instanceof Weight && expected instanceof Weight) {
+      Weight a = (Weight) actual;
+      Weight b = (Weight) expected;
+      return Objects.equals(a.getValue(), b.getValue())
+          && Objects.equals(a.getUnit(), b.getUnit())
+          && Objects.equals(a.getMeasuredAt(), b.getMeasuredAt());
+    }
+    return Objects.equals(actual, expected);
+  }
+}
@@ -0,0 +1,80 @@
+package me.eunseong.ocrtextparser.template;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레이아웃 지문 → 템플릿 저장소 (메모리, 애플리케이션 수명 동안 유지)
+ * 배치 파싱 워커들이 동시에 조회/학습하므로 ConcurrentHashMap과 LongAdder 사용
+ */
+@Component
+public class LayoutTemplateStore {
+
+  private final Map<Long, LayoutTemplate> templates = new ConcurrentHashMap<>();
+  private final int maxTemplates;
+
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder learned = new LongAdder();
+
+  public LayoutTemplateStore(ParserProperties parserProperties) {
+    this.maxTemplates = Math.max(0, parserProperties.getTemplate().getMaxTemplates());
+  }
+
+  /**
+   * 지문으로 템플릿 조회 (조회 수 누적)
+   */
+  Optional<LayoutTemplate> find(long fingerprint) {
+    lookups.increment();
+    return Optional.ofNullable(templates.get(fingerprint));
+  }
+
+  /**
+   * 템플릿 저장 (같은 지문이면 교체, 가득 차면 새 지문은 무시)
+   */
+  void put(long fingerprint, LayoutTemplate template) {
+    if (templates.size() >= maxTemplates && !templates.containsKey(fingerprint)) {
+      return;
+    }
+    templates.put(fingerprint, template);
+    learned.increment();
+  }
+
+  void recordHit() {
+    hits.increment();
+  }
+
+  void recordRejected() {
+    rejected.increment();
+  }
+
+  public int size() {
+    return templates.size();
+  }
+
+  /**
+   * 템플릿과 통계 초기화
+   */
+  public void clear() {
+    templates.clear();
+    lookups.reset();
+    hits.reset();
+    rejected.reset();
+    learned.reset();
+  }
+
+  /**
+   * 누적 통계
+   *
+   * @return 조회/적중/거부/학습 수
+   */
+  public TemplateStats getStats() {
+    return new TemplateStats(lookups.sum(), hits.sum(), rejected.sum(), learned.sum(),
+        templates.size());
+  }
+}
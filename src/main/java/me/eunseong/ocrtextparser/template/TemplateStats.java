@@ -0,0 +1,38 @@
+package me.eunseong.ocrtextparser.template;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 레이아웃 템플릿 통계 (LayoutTemplateStore 생성 이후 누적)
+ * 적중률이 낮으면 지문/학습 비용만 추가되는 것이므로 템플릿 사용 여부 판단에 사용
+ */
+@Getter
+@AllArgsConstructor
+public class TemplateStats {
+
+  private long lookups;  // 지문으로 템플릿을 조회한 문서 수
+  private long hits;  // 템플릿 값으로 검증까지 통과한 문서 수
+  private long rejected;  // 템플릿 값이 검증에 실패해 일반 추출로 다시 파싱한 문서 수
+  private long learned;  // 일반 추출 결과로 템플릿을 학습(갱신)한 횟수
+  private int templates;  // 현재 저장된 템플릿 수
+
+  /**
+   * 템플릿이 없어 일반 추출로 파싱한 문서 수
+   */
+  public long getMisses() {
+    return lookups - hits - rejected;
+  }
+
+  /**
+   * 템플릿 적중률
+   *
+   * @return hits / lookups (조회가 없으면 0.0)
+   */
+  public double getHitRate() {
+    if (lookups == 0) {
+      return 0.0;
+    }
+    return (double) hits / lookups;
+  }
+}
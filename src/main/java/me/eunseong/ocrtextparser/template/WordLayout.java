@@ -0,0 +1,221 @@
+package me.eunseong.ocrtextparser.template;
+
+import java.util.Arrays;
+import java.util.Optional;
+import me.eunseong.ocrtextparser.domain.OcrWordStore;
+
+/**
+ * 레이아웃 템플릿의 단어 배치와 지문 (문서당 한 번 생성)
+ * 페이지 크기 정보가 없고 값 단어는 길이에 따라 범위가 달라지므로,
+ * 라벨 단어 박스 범위를 프레임으로 삼아 좌표를 정규화 (프레임 밖 값 영역은 0~1을 벗어남)
+ * 단어를 y 중심 순으로 정렬해 두고 영역 조회 시 y 밴드를 이진 탐색
+ * 학습과 조회가 같은 영역 조회를 사용하므로 학습 때 재현된 텍스트는 같은 배치에서 그대로 재현됨
+ */
+final class WordLayout {
+
+  private final OcrWordStore words;
+  private final int grid;
+  private final int minX;
+  private final int minY;
+  private final int width;
+  private final int height;
+  private final int[] byCenter;  // 단어 인덱스 (y 중심 오름차순)
+  private final int[] centers;  // byCenter 순서의 y 중심 * 2 (2y + height)
+  private final long fingerprint;
+
+  private WordLayout(OcrWordStore words, int grid, int[] labelWords, int[] labelKeywords) {
+    this.words = words;
+    this.grid = grid;
+
+    int left = Integer.MAX_VALUE;
+    int top = Integer.MAX_VALUE;
+    int right = Integer.MIN_VALUE;
+    int bottom = Integer.MIN_VALUE;
+    for (int i = 0; i < labelWords.length; i++) {
+      int word = labelWords[i];
+      left = Math.min(left, words.getX(word));
+      top = Math.min(top, words.getY(word));
+      right = Math.max(right, words.getEndX(word));
+      bottom = Math.max(bottom, words.getY(word) + words.getHeight(word));
+    }
+    this.minX = left;
+    this.minY = top;
+    this.width = right - left;
+    this.height = bottom - top;
+
+    // (y 중심 * 2) << 32 | 단어 인덱스 정렬 → y 중심 순, 같으면 단어 순
+    long[] entries = new long[words.size()];
+    for (int w = 0; w < words.size(); w++) {
+      entries[w] = ((long) (2 * words.getY(w) + words.getHeight(w)) << 32) | w;
+    }
+    Arrays.sort(entries);
+    this.byCenter = new int[entries.length];
+    this.centers = new int[entries.length];
+    for (int i = 0; i < entries.length; i++) {
+      byCenter[i] = (int) entries[i];
+      centers[i] = (int) (entries[i] >> 32);
+    }
+
+    LayoutFingerprint tokens = new LayoutFingerprint();
+    for (int i = 0; i < labelWords.length; i++) {
+      tokens.add(labelKeywords[i], cellX(labelWords[i]), cellY(labelWords[i]));
+    }
+    // 숫자 단어 수는 행별로만 반영 (시간 접두어 등 값 형식 구분, 값 길이/정렬과 무관하도록 x 제외)
+    for (int w = 0; w < words.size(); w++) {
+      if (hasDigit(words.getText(w))) {
+        tokens.add(LayoutFingerprint.NUMBER_TOKEN, 0, cellY(w));
+      }
+    }
+    this.fingerprint = tokens.hash();
+  }
+
+  /**
+   * 라벨 단어로 배치 생성
+   *
+   * @param words         단어 컬럼 저장소
+   * @param grid          지문 격자 크기
+   * @param labelWords    라벨 키워드가 정확히 매칭된 단어 인덱스 (매칭마다 하나)
+   * @param labelKeywords labelWords와 같은 순서의 키워드 ID
+   * @return 배치 (라벨 단어가 없거나 프레임 크기가 0이면 empty)
+   */
+  static Optional<WordLayout> of(OcrWordStore words, int grid, int[] labelWords,
+      int[] labelKeywords) {
+    if (words == null || words.isEmpty() || labelWords.length == 0 || grid <= 0) {
+      return Optional.empty();
+    }
+    WordLayout layout = new WordLayout(words, grid, labelWords, labelKeywords);
+    if (layout.width <= 0 || layout.height <= 0) {
+      return Optional.empty();
+    }
+    return Optional.of(layout);
+  }
+
+  /**
+   * 레이아웃 지문 (라벨 키워드 + 프레임 기준 격자 칸, 행별 숫자 단어 수)
+   */
+  long getFingerprint() {
+    return fingerprint;
+  }
+
+  int size() {
+    return byCenter.length;
+  }
+
+  /**
+   * y 중심 순서 rank번째 단어 인덱스
+   */
+  int wordAt(int rank) {
+    return byCenter[rank];
+  }
+
+  String getText(int index) {
+    return words.getText(index);
+  }
+
+  int getX(int index) {
+    return words.getX(index);
+  }
+
+  // 단어 좌상단이 속한 격자 칸 (라벨 단어는 0 ~ grid - 1, 프레임 밖 단어는 범위를 벗어남)
+  private int cellX(int index) {
+    return (int) Math.floorDiv((long) (words.getX(index) - minX) * grid, width);
+  }
+
+  private int cellY(int index) {
+    return (int) Math.floorDiv((long) (words.getY(index) - minY) * grid, height);
+  }
+
+  private static boolean hasDigit(String text) {
+    if (text == null) {
+      return false;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      if (Character.isDigit(text.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 단어에서 시작하는 값 영역 (단어 높이의 밴드, 단어 좌상단 x부터)
+   */
+  FieldRegion regionOf(int index) {
+    double centerY = words.getY(index) + words.getHeight(index) / 2.0;
+    return new FieldRegion((centerY - minY) / height,
+        words.getHeight(index) / 2.0 / height,
+        (double) (words.getX(index) - minX) / width);
+  }
+
+  /**
+   * 영역 안의 단어 (x 오름차순)
+   * 값 길이에 따라 시작 위치가 조금 움직일 수 있으므로 격자 반 칸만큼 왼쪽까지 포함
+   *
+   * @param region 값 영역
+   * @return 단어 인덱스
+   */
+  int[] collectIndices(FieldRegion region) {
+    double centerY = minY + region.getCenterY() * height;
+    double halfHeight = region.getHalfHeight() * height;
+    double startX = minX + region.getStartX() * width - width / (2.0 * grid);
+    double low = 2 * (centerY - halfHeight);
+    double high = 2 * (centerY + halfHeight);
+
+    int from = lowerBound(low);
+    long[] selected = new long[Math.min(16, byCenter.length)];
+    int count = 0;
+    for (int rank = from; rank < byCenter.length && centers[rank] <= high; rank++) {
+      int word = byCenter[rank];
+      if (words.getX(word) < startX || words.getText(word) == null) {
+        continue;
+      }
+      if (count == selected.length) {
+        selected = Arrays.copyOf(selected, count * 2);
+      }
+      selected[count++] = ((long) words.getX(word) << 32) | word;
+    }
+
+    Arrays.sort(selected, 0, count);
+    int[] indices = new int[count];
+    for (int i = 0; i < count; i++) {
+      indices[i] = (int) selected[i];
+    }
+    return indices;
+  }
+
+  /**
+   * 영역 안의 단어 텍스트를 x 순서로 이어붙인 원본 문자열
+   *
+   * @param region 값 영역
+   * @return 원본 문자열 (단어가 없으면 null)
+   */
+  String collect(FieldRegion region) {
+    int[] indices = collectIndices(region);
+    if (indices.length == 0) {
+      return null;
+    }
+    StringBuilder raw = new StringBuilder();
+    for (int index : indices) {
+      if (raw.length() > 0) {
+        raw.append(' ');
+      }
+      raw.append(words.getText(index));
+    }
+    return raw.toString();
+  }
+
+  // centers[rank] >= value인 첫 rank
+  private int lowerBound(double value) {
+    int low = 0;
+    int high = centers.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (centers[mid] < value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
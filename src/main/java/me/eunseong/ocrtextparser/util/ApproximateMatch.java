@@ -0,0 +1,16 @@
+package me.eunseong.ocrtextparser.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 근사 매칭 결과 (키워드 길이 윈도우 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class ApproximateMatch {
+
+  private final int position;  // 윈도우 시작 위치
+  private final int distance;  // 편집 거리 (Levenshtein)
+  private final double similarity;  // 유사도 = 1 - (거리 / 키워드 길이)
+}
@@ -0,0 +1,50 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.nio.file.Path;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 디렉터리 배치 로드 결과 통계
+ * 처리량(files/s, MB/s)으로 배치 작업 규모 산정에 사용
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class BatchLoadStats {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+  private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+  private long loadedFiles;  // 로드 성공 파일 수
+  private long failedFiles;  // 로드 실패 파일 수
+  private long totalBytes;  // 읽은 전체 바이트 수 (실패 포함)
+  private long elapsedNanos;  // 전체 소요 시간
+  private List<Path> failedPaths;  // 로드 실패 파일 목록
+
+  /**
+   * 초당 처리 파일 수 (성공 + 실패)
+   *
+   * @return files/s
+   */
+  public double getFilesPerSecond() {
+    if (elapsedNanos <= 0) {
+      return 0.0;
+    }
+    return (loadedFiles + failedFiles) * NANOS_PER_SECOND / elapsedNanos;
+  }
+
+  /**
+   * 초당 처리 용량
+   *
+   * @return MB/s
+   */
+  public double getMegabytesPerSecond() {
+    if (elapsedNanos <= 0) {
+      return 0.0;
+    }
+    return totalBytes / BYTES_PER_MEGABYTE * NANOS_PER_SECOND / elapsedNanos;
+  }
+}
@@ -0,0 +1,202 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 비트 병렬 근사 매칭 엔진 (Myers / Hyyrö)
+ * 키워드 길이(m) 윈도우마다 substring + Levenshtein을 계산하던 방식을 대체
+ * 1. 텍스트를 한 번 순회하며 각 위치에서 끝나는 최소 편집 거리(하한)를 계산
+ * 2. 하한이 허용 거리 이하인 윈도우만 비트 병렬로 정확한 편집 거리 검증
+ * 키워드는 최대 64자 (long 한 개에 패턴 비트 저장), 생성 후 불변
+ */
+public final class BitParallelMatcher {
+
+  public static final int MAX_PATTERN_LENGTH = Long.SIZE;
+
+  private final int length;
+  private final long highBit;
+  private final char[] peqChars;  // 패턴 문자 (오름차순)
+  private final long[] peqMasks;  // 문자별 패턴 위치 비트
+
+  private BitParallelMatcher(String pattern) {
+    this.length = pattern.length();
+    this.highBit = length == 0 ? 0 : 1L << (length - 1);
+
+    char[] chars = pattern.toCharArray();
+    Arrays.sort(chars);
+    int distinct = 0;
+    for (int i = 0; i < chars.length; i++) {
+      if (i == 0 || chars[i] != chars[i - 1]) {
+        chars[distinct++] = chars[i];
+      }
+    }
+    this.peqChars = Arrays.copyOf(chars, distinct);
+    this.peqMasks = new long[distinct];
+    for (int i = 0; i < length; i++) {
+      peqMasks[Arrays.binarySearch(peqChars, pattern.charAt(i))] |= 1L << i;
+    }
+  }
+
+  /**
+   * 비트 병렬 매칭 가능한 패턴인지 확인
+   */
+  public static boolean supports(String pattern) {
+    return pattern != null && pattern.length() <= MAX_PATTERN_LENGTH;
+  }
+
+  /**
+   * 패턴 컴파일
+   *
+   * @param pattern 패턴 (정규화된 키워드, 최대 64자)
+   * @return 매처
+   */
+  public static BitParallelMatcher compile(String pattern) {
+    if (!supports(pattern)) {
+      throw new IllegalArgumentException(
+          "Pattern longer than " + MAX_PATTERN_LENGTH + " chars");
+    }
+    return new BitParallelMatcher(pattern);
+  }
+
+  /**
+   * 유사도 임계값에서 허용되는 최대 편집 거리
+   * TextMatcher의 유사도 계산(1 - 거리 / 길이)과 같은 부동소수점 비교로 결정
+   *
+   * @param patternLength 패턴 길이
+   * @param threshold     유사도 임계값
+   * @return 최대 편집 거리 (어떤 거리도 허용되지 않으면 -1)
+   */
+  public static int maxDistance(int patternLength, double threshold) {
+    int max = -1;
+    for (int d = 0; d <= patternLength; d++) {
+      double similarity = d == 0 ? 1.0 : 1.0 - ((double) d / patternLength);
+      if (similarity < threshold) {
+        break;
+      }
+      max = d;
+    }
+    return max;
+  }
+
+  public int length() {
+    return length;
+  }
+
+  /**
+   * 허용 거리 이하인 첫 번째 윈도우 찾기 (윈도우 길이 = 패턴 길이)
+   *
+   * @param text        검색 대상 텍스트
+   * @param maxDistance 최대 편집 거리
+   * @return 매칭 결과 (없으면 empty)
+   */
+  public Optional<ApproximateMatch> findFirst(CharSequence text, int maxDistance) {
+    return find(text, maxDistance, false);
+  }
+
+  /**
+   * 허용 거리 이하인 윈도우 중 거리가 가장 작은 윈도우 찾기 (같으면 앞 위치)
+   *
+   * @param text        검색 대상 텍스트
+   * @param maxDistance 최대 편집 거리
+   * @return 매칭 결과 (없으면 empty)
+   */
+  public Optional<ApproximateMatch> findBest(CharSequence text, int maxDistance) {
+    return find(text, maxDistance, true);
+  }
+
+  /**
+   * 텍스트 구간과 패턴의 편집 거리 (Levenshtein)
+   *
+   * @param text 텍스트
+   * @param from 시작 위치 (포함)
+   * @param to   끝 위치 (미포함)
+   * @return 편집 거리
+   */
+  public int distance(CharSequence text, int from, int to) {
+    if (length == 0) {
+      return to - from;
+    }
+
+    long pv = -1L;
+    long mv = 0L;
+    int score = length;
+    for (int j = from; j < to; j++) {
+      long eq = peq(text.charAt(j));
+      long xv = eq | mv;
+      long xh = (((eq & pv) + pv) ^ pv) | eq;
+      long ph = mv | ~(xh | pv);
+      long mh = pv & xh;
+      if ((ph & highBit) != 0) {
+        score++;
+      } else if ((mh & highBit) != 0) {
+        score--;
+      }
+      ph = (ph << 1) | 1L;  // 0행은 D[0][j] = j
+      mh <<= 1;
+      pv = mh | ~(xv | ph);
+      mv = ph & xv;
+    }
+    return score;
+  }
+
+  private Optional<ApproximateMatch> find(CharSequence text, int maxDistance,
+      boolean best) {
+    if (text == null || maxDistance < 0 || length > text.length()) {
+      return Optional.empty();
+    }
+    if (length == 0) {
+      return Optional.of(new ApproximateMatch(0, 0, 1.0));
+    }
+
+    int bestPosition = -1;
+    int bestDistance = Integer.MAX_VALUE;
+
+    // 검색 모드: 0행이 모두 0 (어느 위치에서든 매칭 시작 가능)
+    long pv = -1L;
+    long mv = 0L;
+    int score = length;
+    for (int j = 0; j < text.length(); j++) {
+      long eq = peq(text.charAt(j));
+      long xv = eq | mv;
+      long xh = (((eq & pv) + pv) ^ pv) | eq;
+      long ph = mv | ~(xh | pv);
+      long mh = pv & xh;
+      if ((ph & highBit) != 0) {
+        score++;
+      } else if ((mh & highBit) != 0) {
+        score--;
+      }
+      ph <<= 1;
+      mh <<= 1;
+      pv = mh | ~(xv | ph);
+      mv = ph & xv;
+
+      // score = j에서 끝나는 모든 부분 문자열 중 최소 거리 (윈도우 거리의 하한)
+      int position = j - length + 1;
+      if (position < 0 || score > maxDistance || score >= bestDistance) {
+        continue;
+      }
+      int distance = distance(text, position, j + 1);
+      if (distance <= maxDistance && distance < bestDistance) {
+        bestPosition = position;
+        bestDistance = distance;
+        if (!best || distance == 0) {
+          break;
+        }
+      }
+    }
+
+    if (bestPosition < 0) {
+      return Optional.empty();
+    }
+    double similarity = bestDistance == 0 ? 1.0
+        : 1.0 - ((double) bestDistance / length);
+    return Optional.of(new ApproximateMatch(bestPosition, bestDistance, similarity));
+  }
+
+  private long peq(char c) {
+    int index = Arrays.binarySearch(peqChars, c);
+    return index >= 0 ? peqMasks[index] : 0L;
+  }
+}
@@ -0,0 +1,89 @@
+package me.eunseong.ocrtextparser.util;
+
+/**
+ * 최대 거리 제한 Levenshtein 커널 (Ukkonen band)
+ * 두 CharSequence 구간을 substring 없이 비교하고, 대각선 ±maxDistance 밴드만 계산
+ * 한 행의 최소값이 maxDistance를 넘으면 즉시 포기
+ * DP 행은 호출 측이 넘긴 배열을 재사용 (길이 2 * (b 구간 길이 + 1) 이상)
+ */
+public final class BoundedLevenshtein {
+
+  private BoundedLevenshtein() {
+  }
+
+  /**
+   * 커널에 필요한 DP 행 배열 길이
+   *
+   * @param length 두 번째 구간 길이
+   * @return 배열 길이
+   */
+  public static int rowsSize(int length) {
+    return 2 * (length + 1);
+  }
+
+  /**
+   * 두 구간의 편집 거리 (maxDistance 이하일 때만)
+   *
+   * @param a           첫 번째 텍스트
+   * @param aFrom       시작 위치 (포함)
+   * @param aTo         끝 위치 (미포함)
+   * @param b           두 번째 텍스트
+   * @param bFrom       시작 위치 (포함)
+   * @param bTo         끝 위치 (미포함)
+   * @param maxDistance 최대 편집 거리
+   * @param rows        DP 행 배열 (rowsSize(bTo - bFrom) 이상, 내용은 덮어씀)
+   * @return 편집 거리 (maxDistance를 넘으면 -1)
+   */
+  public static int distance(CharSequence a, int aFrom, int aTo, CharSequence b, int bFrom,
+      int bTo, int maxDistance, int[] rows) {
+    int n = aTo - aFrom;
+    int m = bTo - bFrom;
+    if (maxDistance < 0 || Math.abs(n - m) > maxDistance) {
+      return -1;
+    }
+    if (n == 0 || m == 0) {
+      return Math.max(n, m);
+    }
+
+    // 밴드 밖 칸은 maxDistance + 1로 두고 그 이상은 계산하지 않음
+    int limit = maxDistance + 1;
+    int prev = 0;
+    int cur = m + 1;
+    for (int j = 0; j <= m; j++) {
+      rows[prev + j] = Math.min(j, limit);
+    }
+
+    for (int i = 1; i <= n; i++) {
+      char ca = a.charAt(aFrom + i - 1);
+      int lo = Math.max(1, i - maxDistance);
+      int hi = Math.min(m, i + maxDistance);
+
+      rows[cur] = Math.min(i, limit);
+      if (lo > 1) {
+        rows[cur + lo - 1] = limit;
+      }
+      int rowMin = rows[cur];
+      for (int j = lo; j <= hi; j++) {
+        int cost = ca == b.charAt(bFrom + j - 1) ? 0 : 1;
+        int value = Math.min(rows[prev + j - 1] + cost,
+            Math.min(rows[prev + j], rows[cur + j - 1]) + 1);
+        value = Math.min(value, limit);
+        rows[cur + j] = value;
+        rowMin = Math.min(rowMin, value);
+      }
+      if (hi < m) {
+        rows[cur + hi + 1] = limit;
+      }
+      if (rowMin > maxDistance) {
+        return -1;
+      }
+
+      int swap = prev;
+      prev = cur;
+      cur = swap;
+    }
+
+    int distance = rows[prev + m];
+    return distance <= maxDistance ? distance : -1;
+  }
+}
@@ -0,0 +1,28 @@
+package me.eunseong.ocrtextparser.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Fuzzy Matching 카운트 필터 통계 (TextMatcher 생성 이후 누적)
+ * 적중률이 낮으면 필터 비용만 추가되는 것이므로 임계값/키워드 조정 판단에 사용
+ */
+@Getter
+@AllArgsConstructor
+public class FuzzyFilterStats {
+
+  private final long checked;  // 필터를 거친 (텍스트, 키워드) 비교 수
+  private final long rejected;  // DP 없이 매칭 실패로 확정된 비교 수
+
+  /**
+   * 필터 적중률 (DP를 건너뛴 비율)
+   *
+   * @return rejected / checked (비교가 없으면 0.0)
+   */
+  public double getHitRate() {
+    if (checked == 0) {
+      return 0.0;
+    }
+    return (double) rejected / checked;
+  }
+}
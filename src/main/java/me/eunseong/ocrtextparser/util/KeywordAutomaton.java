@@ -0,0 +1,224 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 다중 키워드 정확 매칭 오토마톤 (Aho-Corasick)
+ * 키워드 수와 관계없이 텍스트를 한 번만 순회하면서 모든 키워드 등장 위치를 보고
+ * 생성 후에는 불변이므로 여러 스레드에서 공유 가능
+ */
+public final class KeywordAutomaton {
+
+  private static final int ROOT = 0;
+
+  private final String[] keywords;
+  private final Map<String, Integer> keywordIds;
+
+  // 상태별 전이 (CSR 형식: edgeStarts[s] ~ edgeStarts[s + 1] 구간, 문자 오름차순)
+  private final int[] edgeStarts;
+  private final char[] edgeChars;
+  private final int[] edgeTargets;
+
+  private final int[] failures;  // 실패 전이
+  private final int[] outputs;  // 상태에서 끝나는 키워드 ID (없으면 -1)
+  private final int[] outputLinks;  // 실패 경로상 다음 출력 상태 (없으면 -1)
+
+  /**
+   * 매칭 결과 수신
+   */
+  @FunctionalInterface
+  public interface MatchListener {
+
+    /**
+     * @param keywordId 키워드 ID (getKeyword로 조회)
+     * @param start     시작 위치 (포함)
+     * @param end       끝 위치 (미포함)
+     */
+    void onMatch(int keywordId, int start, int end);
+  }
+
+  private KeywordAutomaton(String[] keywords, List<TreeMap<Character, Integer>> children,
+      int[] outputs) {
+    this.keywords = keywords;
+    this.keywordIds = new HashMap<>();
+    for (int id = 0; id < keywords.length; id++) {
+      keywordIds.put(keywords[id], id);
+    }
+
+    int stateCount = children.size();
+    this.outputs = outputs;
+    this.edgeStarts = new int[stateCount + 1];
+    int edgeCount = 0;
+    for (int s = 0; s < stateCount; s++) {
+      edgeStarts[s] = edgeCount;
+      edgeCount += children.get(s).size();
+    }
+    edgeStarts[stateCount] = edgeCount;
+
+    this.edgeChars = new char[edgeCount];
+    this.edgeTargets = new int[edgeCount];
+    for (int s = 0; s < stateCount; s++) {
+      int e = edgeStarts[s];
+      for (Map.Entry<Character, Integer> edge : children.get(s).entrySet()) {
+        edgeChars[e] = edge.getKey();
+        edgeTargets[e] = edge.getValue();
+        e++;
+      }
+    }
+
+    // BFS로 실패 전이/출력 링크 계산
+    this.failures = new int[stateCount];
+    this.outputLinks = new int[stateCount];
+    outputLinks[ROOT] = -1;
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int e = edgeStarts[ROOT]; e < edgeStarts[ROOT + 1]; e++) {
+      int child = edgeTargets[e];
+      failures[child] = ROOT;
+      outputLinks[child] = -1;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int e = edgeStarts[state]; e < edgeStarts[state + 1]; e++) {
+        char c = edgeChars[e];
+        int child = edgeTargets[e];
+
+        int fallback = failures[state];
+        int target = transition(fallback, c);
+        while (target < 0 && fallback != ROOT) {
+          fallback = failures[fallback];
+          target = transition(fallback, c);
+        }
+        failures[child] = target < 0 ? ROOT : target;
+
+        int failure = failures[child];
+        outputLinks[child] = outputs[failure] >= 0 ? failure : outputLinks[failure];
+        queue.add(child);
+      }
+    }
+  }
+
+  /**
+   * 키워드 목록으로 오토마톤 생성 (중복/빈 키워드는 제외)
+   *
+   * @param keywords 키워드 목록 (정규화된 형태로 전달)
+   * @return 오토마톤
+   */
+  public static KeywordAutomaton compile(Collection<String> keywords) {
+    Map<String, Integer> distinct = new LinkedHashMap<>();
+    for (String keyword : keywords) {
+      if (keyword != null && !keyword.isEmpty()) {
+        distinct.putIfAbsent(keyword, distinct.size());
+      }
+    }
+
+    List<TreeMap<Character, Integer>> children = new ArrayList<>();
+    List<Integer> outputs = new ArrayList<>();
+    children.add(new TreeMap<>());
+    outputs.add(-1);
+
+    for (Map.Entry<String, Integer> entry : distinct.entrySet()) {
+      String keyword = entry.getKey();
+      int state = ROOT;
+      for (int i = 0; i < keyword.length(); i++) {
+        Integer next = children.get(state).get(keyword.charAt(i));
+        if (next == null) {
+          next = children.size();
+          children.get(state).put(keyword.charAt(i), next);
+          children.add(new TreeMap<>());
+          outputs.add(-1);
+        }
+        state = next;
+      }
+      outputs.set(state, entry.getValue());
+    }
+
+    int[] outputArray = new int[outputs.size()];
+    for (int s = 0; s < outputArray.length; s++) {
+      outputArray[s] = outputs.get(s);
+    }
+    return new KeywordAutomaton(distinct.keySet().toArray(new String[0]),
+        children, outputArray);
+  }
+
+  /**
+   * 등록된 키워드 수
+   */
+  public int size() {
+    return keywords.length;
+  }
+
+  public String getKeyword(int keywordId) {
+    return keywords[keywordId];
+  }
+
+  /**
+   * 키워드 ID 조회
+   *
+   * @param keyword 키워드
+   * @return 키워드 ID (등록되지 않았으면 -1)
+   */
+  public int getKeywordId(String keyword) {
+    Integer id = keywordIds.get(keyword);
+    return id != null ? id : -1;
+  }
+
+  /**
+   * 텍스트를 한 번 순회하며 모든 키워드 등장 위치 보고 (겹치는 매칭 포함)
+   * 같은 끝 위치에서는 긴 키워드부터 보고
+   *
+   * @param text     검색 대상 텍스트 (정규화된 형태)
+   * @param listener 매칭 결과 수신
+   */
+  public void scan(CharSequence text, MatchListener listener) {
+    if (text == null) {
+      return;
+    }
+
+    int state = ROOT;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      int next = transition(state, c);
+      while (next < 0 && state != ROOT) {
+        state = failures[state];
+        next = transition(state, c);
+      }
+      state = next < 0 ? ROOT : next;
+
+      int output = outputs[state] >= 0 ? state : outputLinks[state];
+      while (output >= 0) {
+        int keywordId = outputs[output];
+        listener.onMatch(keywordId, i + 1 - keywords[keywordId].length(), i + 1);
+        output = outputLinks[output];
+      }
+    }
+  }
+
+  /**
+   * 상태 전이 (해당 문자 전이가 없으면 -1)
+   */
+  private int transition(int state, char c) {
+    int low = edgeStarts[state];
+    int high = edgeStarts[state + 1] - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      char midChar = edgeChars[mid];
+      if (midChar < c) {
+        low = mid + 1;
+      } else if (midChar > c) {
+        high = mid - 1;
+      } else {
+        return edgeTargets[mid];
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,207 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 사전 컴파일된 키워드 집합 (추출기당 한 번 생성)
+ * 매칭할 때마다 키워드를 다시 정규화하지 않도록 정규화 형태, 길이,
+ * q-gram 프로필, 카운트 필터, 비트 병렬 매처를 미리 계산해 둠
+ * 생성 후 불변이므로 여러 스레드에서 공유 가능
+ */
+public final class KeywordSet {
+
+  /**
+   * q-gram 길이 (bigram)
+   */
+  public static final int Q_GRAM_LENGTH = 2;
+
+  public static final KeywordSet EMPTY = new KeywordSet(new String[0], new String[0]);
+
+  private final String[] keywords;  // 원본 키워드 (선언 순서)
+  private final String[] normalized;  // 정규화된 키워드
+  private final char[][] normalizedChars;  // 정규화된 키워드 문자 배열 (벡터 매칭용)
+  private final int minLength;  // 정규화된 키워드 중 가장 짧은 길이
+  private final int[][] qGrams;  // 키워드별 bigram 코드 (오름차순, 중복 포함)
+  private final QGramFilter[] filters;  // 키워드별 카운트 필터
+  private final int maxFilterScratch;  // 필터 scratch 배열 최대 길이
+  private final BitParallelMatcher[] matchers;  // 64자 초과 키워드는 null
+
+  private volatile DistanceTable distanceTable;  // 최근 임계값의 최대 편집 거리
+
+  private KeywordSet(String[] keywords, String[] normalized) {
+    this.keywords = keywords;
+    this.normalized = normalized;
+    this.normalizedChars = new char[normalized.length][];
+    this.qGrams = new int[normalized.length][];
+    this.filters = new QGramFilter[normalized.length];
+    this.matchers = new BitParallelMatcher[normalized.length];
+
+    int min = normalized.length == 0 ? 0 : Integer.MAX_VALUE;
+    int scratch = 0;
+    for (int i = 0; i < normalized.length; i++) {
+      String keyword = normalized[i];
+      min = Math.min(min, keyword.length());
+      normalizedChars[i] = keyword.toCharArray();
+      qGrams[i] = toQGrams(keyword);
+      filters[i] = QGramFilter.compile(keyword, qGrams[i]);
+      scratch = Math.max(scratch, filters[i].scratchSize());
+      if (BitParallelMatcher.supports(keyword)) {
+        matchers[i] = BitParallelMatcher.compile(keyword);
+      }
+    }
+    this.minLength = min;
+    this.maxFilterScratch = scratch;
+  }
+
+  /**
+   * 키워드 배열 컴파일 (null 키워드는 제외)
+   *
+   * @param keywords   원본 키워드 배열
+   * @param normalizer 텍스트 정규화기
+   * @return 키워드 집합 (키워드가 없으면 EMPTY)
+   */
+  public static KeywordSet compile(String[] keywords, TextNormalizer normalizer) {
+    if (keywords == null || keywords.length == 0) {
+      return EMPTY;
+    }
+
+    List<String> raw = new ArrayList<>(keywords.length);
+    List<String> normalized = new ArrayList<>(keywords.length);
+    for (String keyword : keywords) {
+      if (keyword != null) {
+        raw.add(keyword);
+        normalized.add(normalizer.normalize(keyword));
+      }
+    }
+    if (raw.isEmpty()) {
+      return EMPTY;
+    }
+    return new KeywordSet(raw.toArray(new String[0]),
+        normalized.toArray(new String[0]));
+  }
+
+  public int size() {
+    return keywords.length;
+  }
+
+  public boolean isEmpty() {
+    return keywords.length == 0;
+  }
+
+  /**
+   * 원본 키워드
+   */
+  public String getKeyword(int index) {
+    return keywords[index];
+  }
+
+  /**
+   * 정규화된 키워드
+   */
+  public String getNormalized(int index) {
+    return normalized[index];
+  }
+
+  /**
+   * 정규화된 키워드 문자 배열 (반환 배열은 수정하지 말 것)
+   */
+  public char[] getNormalizedChars(int index) {
+    return normalizedChars[index];
+  }
+
+  /**
+   * 정규화된 키워드 길이
+   */
+  public int getLength(int index) {
+    return normalized[index].length();
+  }
+
+  /**
+   * 정규화된 키워드 중 가장 짧은 길이 (키워드가 없으면 0)
+   */
+  public int getMinLength() {
+    return minLength;
+  }
+
+  /**
+   * 키워드의 bigram 프로필 (두 문자를 (c1 << 16) | c2로 인코딩, 오름차순, 중복 포함)
+   * 반환 배열은 수정하지 말 것
+   */
+  public int[] getQGrams(int index) {
+    return qGrams[index];
+  }
+
+  /**
+   * 키워드의 카운트 필터 (근사 매칭 전 후보 없는 텍스트 제외)
+   */
+  public QGramFilter getFilter(int index) {
+    return filters[index];
+  }
+
+  /**
+   * 모든 키워드 필터에 공통으로 쓸 수 있는 scratch 배열 길이
+   */
+  public int getMaxFilterScratch() {
+    return maxFilterScratch;
+  }
+
+  /**
+   * 키워드의 비트 병렬 매처
+   *
+   * @return 매처 (키워드가 64자를 넘으면 null)
+   */
+  public BitParallelMatcher getMatcher(int index) {
+    return matchers[index];
+  }
+
+  /**
+   * 유사도 임계값에서 허용되는 최대 편집 거리
+   * 임계값별로 한 번만 계산 (설정값은 실행 중 거의 바뀌지 않음)
+   *
+   * @param index     키워드 인덱스
+   * @param threshold 유사도 임계값
+   * @return 최대 편집 거리 (어떤 거리도 허용되지 않으면 -1)
+   */
+  public int getMaxDistance(int index, double threshold) {
+    DistanceTable table = distanceTable;
+    if (table == null || table.threshold != threshold) {
+      int[] distances = new int[normalized.length];
+      for (int i = 0; i < normalized.length; i++) {
+        distances[i] = BitParallelMatcher.maxDistance(normalized[i].length(), threshold);
+      }
+      table = new DistanceTable(threshold, distances);
+      distanceTable = table;
+    }
+    return table.distances[index];
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(keywords);
+  }
+
+  private static int[] toQGrams(String keyword) {
+    if (keyword.length() < Q_GRAM_LENGTH) {
+      return new int[0];
+    }
+    int[] codes = new int[keyword.length() - 1];
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = (keyword.charAt(i) << 16) | keyword.charAt(i + 1);
+    }
+    Arrays.sort(codes);
+    return codes;
+  }
+
+  private static final class DistanceTable {
+
+    private final double threshold;
+    private final int[] distances;
+
+    private DistanceTable(double threshold, int[] distances) {
+      this.threshold = threshold;
+      this.distances = distances;
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import me.eunseong.ocrtextparser.domain.LineToken;
+import me.eunseong.ocrtextparser.domain.LineToken.Type;
+import me.eunseong.ocrtextparser.domain.TokenizedLine;
+
+/**
+ * 라인 토크나이저 (정규식 없이 한 번의 순회로 토큰 분리)
+ * 숫자/날짜/시간/단위/한글 단어/기호를 원본 위치와 함께 반환
+ * 문서 라인은 OcrDocument.getTokenizedLines()에서 한 번만 토큰화 후 재사용
+ */
+public final class LineTokenizer {
+
+  private LineTokenizer() {
+  }
+
+  /**
+   * 라인 토큰화
+   * - TIME: 2자리 숫자 + ':' + 2자리 숫자 (+ ':' + 2자리 숫자), ':' 앞뒤 공백 허용
+   * - DATE: 4자리 숫자 + [-.]? + 2자리 숫자 + [-.]? + 2자리 숫자
+   * - NUMBER: 숫자 (숫자 사이 쉼표 포함)
+   * - UNIT: kg (대소문자 무시)
+   *
+   * @param line 라인 텍스트
+   * @return 토큰화된 라인
+   */
+  public static TokenizedLine tokenize(String line) {
+    String text = line != null ? line : "";
+    List<LineToken> tokens = new ArrayList<>();
+
+    int length = text.length();
+    int i = 0;
+    while (i < length) {
+      char c = text.charAt(i);
+      if (isWhitespace(c)) {
+        i++;
+        continue;
+      }
+
+      Type type;
+      int end;
+      if (isDigit(c)) {
+        int digitsEnd = skipDigits(text, i);
+        int timeEnd = digitsEnd - i == 2 ? scanTime(text, digitsEnd) : -1;
+        int dateEnd = digitsEnd - i >= 4 ? scanDate(text, i) : -1;
+        if (timeEnd > 0) {
+          type = Type.TIME;
+          end = timeEnd;
+        } else if (dateEnd > 0) {
+          type = Type.DATE;
+          end = dateEnd;
+        } else {
+          type = Type.NUMBER;
+          end = scanNumber(text, digitsEnd);
+        }
+      } else if (isHangul(c)) {
+        type = Type.HANGUL_WORD;
+        end = i + 1;
+        while (end < length && isHangul(text.charAt(end))) {
+          end++;
+        }
+      } else if (Character.isLetter(c)) {
+        if (isUnitAt(text, i)) {
+          type = Type.UNIT;
+          end = i + 2;
+        } else {
+          type = Type.WORD;
+          end = i + 1;
+          while (end < length && Character.isLetter(text.charAt(end))
+              && !isHangul(text.charAt(end))) {
+            end++;
+          }
+        }
+      } else {
+        type = Type.PUNCT;
+        end = i + 1;
+      }
+
+      tokens.add(new LineToken(type, i, end, text.substring(i, end)));
+      i = end;
+    }
+
+    return new TokenizedLine(text, tokens);
+  }
+
+  /**
+   * 라인 목록 토큰화
+   *
+   * @param lines 라인 목록
+   * @return 토큰화된 라인 목록 (라인 순서 유지)
+   */
+  public static List<TokenizedLine> tokenizeAll(List<String> lines) {
+    List<TokenizedLine> result = new ArrayList<>(lines.size());
+    for (String line : lines) {
+      result.add(tokenize(line));
+    }
+    return result;
+  }
+
+  /**
+   * HH 이후 ":MM(:SS)" 탐색
+   *
+   * @return 시간 끝 위치 (시간이 아니면 -1)
+   */
+  private static int scanTime(String text, int from) {
+    int end = scanTimePart(text, from);
+    if (end < 0) {
+      return -1;
+    }
+    int secondsEnd = scanTimePart(text, end);
+    return secondsEnd > 0 ? secondsEnd : end;
+  }
+
+  /**
+   * "\s*:\s*\d{2}" 탐색
+   */
+  private static int scanTimePart(String text, int from) {
+    int p = skipWhitespace(text, from);
+    if (p >= text.length() || text.charAt(p) != ':') {
+      return -1;
+    }
+    p = skipWhitespace(text, p + 1);
+    return hasTwoDigits(text, p) ? p + 2 : -1;
+  }
+
+  /**
+   * YYYY[-.]?MM[-.]?DD 탐색 (from 위치에 4자리 이상 숫자가 있는 경우만 호출)
+   *
+   * @return 날짜 끝 위치 (날짜가 아니면 -1)
+   */
+  private static int scanDate(String text, int from) {
+    int p = from + 4;
+    for (int part = 0; part < 2; part++) {
+      if (p < text.length() && isDateSeparator(text.charAt(p))) {
+        p++;
+      }
+      if (!hasTwoDigits(text, p)) {
+        return -1;
+      }
+      p += 2;
+    }
+    return p;
+  }
+
+  /**
+   * 숫자 이후 ",숫자" 반복 탐색
+   */
+  private static int scanNumber(String text, int digitsEnd) {
+    int p = digitsEnd;
+    while (p + 1 < text.length() && text.charAt(p) == ','
+        && isDigit(text.charAt(p + 1))) {
+      p = skipDigits(text, p + 1);
+    }
+    return p;
+  }
+
+  private static boolean isUnitAt(String text, int i) {
+    return i + 1 < text.length()
+        && (text.charAt(i) == 'k' || text.charAt(i) == 'K')
+        && (text.charAt(i + 1) == 'g' || text.charAt(i + 1) == 'G');
+  }
+
+  private static boolean hasTwoDigits(String text, int p) {
+    return p + 1 < text.length() && isDigit(text.charAt(p))
+        && isDigit(text.charAt(p + 1));
+  }
+
+  private static int skipDigits(String text, int from) {
+    int p = from;
+    while (p < text.length() && isDigit(text.charAt(p))) {
+      p++;
+    }
+    return p;
+  }
+
+  private static int skipWhitespace(String text, int from) {
+    int p = from;
+    while (p < text.length() && isWhitespace(text.charAt(p))) {
+      p++;
+    }
+    return p;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isHangul(char c) {
+    return c >= '가' && c <= '힣';
+  }
+
+  private static boolean isDateSeparator(char c) {
+    return c == '-' || c == '.';
+  }
+
+  /**
+   * 정규식 \s와 같은 공백 문자
+   */
+  public static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B'
+        || c == '\f' || c == '\r';
+  }
+}
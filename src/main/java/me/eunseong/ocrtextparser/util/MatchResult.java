@@ -0,0 +1,18 @@
+package me.eunseong.ocrtextparser.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 키워드 매칭 결과 (정규화된 텍스트 기준 위치)
+ */
+@Getter
+@AllArgsConstructor
+public class MatchResult {
+
+  private final int keywordIndex;  // KeywordSet 내 키워드 인덱스
+  private final int start;  // 시작 위치 (포함)
+  private final int end;  // 끝 위치 (미포함)
+  private final double similarity;  // 유사도 (정확 매칭이면 1.0)
+  private final boolean exact;  // 정확 매칭 여부
+}
@@ -0,0 +1,74 @@
+package me.eunseong.ocrtextparser.util;
+
+import lombok.Getter;
+
+/**
+ * 정규화된 텍스트 + 원본 위치 매핑 (TextNormalizer.normalizeWithOffsets)
+ * 정규화된 텍스트에서 찾은 위치를 원본 텍스트 위치로 변환할 때 사용
+ * CharSequence로는 정규화된 텍스트이므로 TextMatcher.findNormalizedMatch에 그대로 전달 가능
+ */
+public class NormalizedText implements CharSequence {
+
+  @Getter
+  private final String original;
+  @Getter
+  private final String text;
+  private final int[] offsets;  // 정규화된 문자 i의 원본 위치
+
+  NormalizedText(String original, String text, int[] offsets) {
+    this.original = original;
+    this.text = text;
+    this.offsets = offsets;
+  }
+
+  @Override
+  public int length() {
+    return text.length();
+  }
+
+  @Override
+  public char charAt(int index) {
+    return text.charAt(index);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return text.subSequence(start, end);
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+
+  /**
+   * 정규화된 시작 위치 → 원본 시작 위치
+   *
+   * @param index 정규화된 텍스트 위치 (0 ~ length)
+   * @return 원본 위치 (index가 length면 원본 길이)
+   */
+  public int toOriginalStart(int index) {
+    return index < offsets.length ? offsets[index] : original.length();
+  }
+
+  /**
+   * 정규화된 끝 위치(미포함) → 원본 끝 위치(미포함)
+   * 원본에서 매칭 구간 뒤에 있던 제거 문자(공백, 콜론 등)는 포함하지 않음
+   *
+   * @param end 정규화된 텍스트 끝 위치 (0 ~ length)
+   * @return 원본 끝 위치
+   */
+  public int toOriginalEnd(int end) {
+    return end > 0 ? offsets[end - 1] + 1 : 0;
+  }
+
+  /**
+   * 원본에서 정규화된 끝 위치 이후 텍스트
+   *
+   * @param end 정규화된 텍스트 끝 위치
+   * @return 원본의 해당 위치 이후 텍스트 (공백/특수문자 유지)
+   */
+  public String originalAfter(int end) {
+    return original.substring(toOriginalEnd(end));
+  }
+}
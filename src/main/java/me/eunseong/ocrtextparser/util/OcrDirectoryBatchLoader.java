@@ -0,0 +1,135 @@
+package me.eunseong.ocrtextparser.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import org.springframework.stereotype.Component;
+
+/**
+ * 디렉터리 단위 OCR 문서 배치 로더
+ * 디렉터리의 *.json 파일을 메모리 매핑(FileChannel.map)하여 스트리밍 리더로 병렬 디코딩
+ * 스레드 수와 대기 큐 크기는 app.parser.loader 설정으로 제한
+ */
+@Slf4j
+@Component
+public class OcrDirectoryBatchLoader {
+
+  private static final String JSON_EXTENSION = ".json";
+
+  private final JsonFactory jsonFactory = new JsonFactory();
+  private final OcrDocumentStreamReader streamReader = new OcrDocumentStreamReader();
+  private final ParserProperties parserProperties;
+
+  public OcrDirectoryBatchLoader(ParserProperties parserProperties) {
+    this.parserProperties = parserProperties;
+  }
+
+  /**
+   * 디렉터리(하위 디렉터리 포함)의 모든 OCR JSON 파일을 병렬 로드
+   * consumer는 여러 스레드에서 동시에 호출되므로 thread-safe 해야 하며, 호출 순서는 보장하지 않음
+   * 로드에 실패한 파일은 로그를 남기고 통계에 포함한 뒤 계속 진행
+   *
+   * @param directory 대상 디렉터리
+   * @param consumer  로드된 파일 경로와 문서를 받는 콜백
+   * @return 처리량 통계
+   * @throws IOException 디렉터리 탐색 실패 또는 대기 중 인터럽트
+   */
+  public BatchLoadStats loadDirectory(Path directory,
+      BiConsumer<Path, OcrDocument> consumer) throws IOException {
+    ParserProperties.Loader config = parserProperties.getLoader();
+    int threads = Math.max(1, config.getBatchThreads());
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(Math.max(1, config.getBatchQueueSize())),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+
+    LongAdder loadedFiles = new LongAdder();
+    LongAdder totalBytes = new LongAdder();
+    List<Path> failedPaths = Collections.synchronizedList(new ArrayList<>());
+    long startNanos = System.nanoTime();
+
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.filter(Files::isRegularFile)
+          .filter(path -> path.getFileName().toString().endsWith(JSON_EXTENSION))
+          .forEach(path -> executor.execute(() -> {
+            try {
+              OcrDocument document = loadMapped(path, totalBytes);
+              consumer.accept(path, document);
+              loadedFiles.increment();
+            } catch (Exception e) {
+              log.warn("배치 로드 실패: {} - {}", path, e.getMessage());
+              failedPaths.add(path);
+            }
+          }));
+    } finally {
+      executor.shutdown();
+      awaitTermination(executor);
+    }
+
+    return BatchLoadStats.builder()
+        .loadedFiles(loadedFiles.sum())
+        .failedFiles(failedPaths.size())
+        .totalBytes(totalBytes.sum())
+        .elapsedNanos(System.nanoTime() - startNanos)
+        .failedPaths(List.copyOf(failedPaths))
+        .build();
+  }
+
+  /**
+   * 파일을 메모리 매핑하여 OcrDocument로 디코딩
+   * 매핑된 버퍼를 힙 byte[]로 복사하지 않고 파서에 직접 전달
+   *
+   * @param path       파일 경로
+   * @param totalBytes 읽은 바이트 누적 카운터
+   * @return OCR 문서
+   */
+  private OcrDocument loadMapped(Path path, LongAdder totalBytes)
+      throws IOException {
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("File too large to map: " + size + " bytes");
+      }
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      totalBytes.add(size);
+    }
+
+    try (JsonParser parser = jsonFactory.createParser(
+        new ByteBufferBackedInputStream(buffer))) {
+      return streamReader.read(parser);
+    }
+  }
+
+  private void awaitTermination(ThreadPoolExecutor executor)
+      throws InterruptedIOException {
+    try {
+      while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+        log.debug("배치 로드 진행 중: 완료 {}건", executor.getCompletedTaskCount());
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("배치 로드 대기 중 인터럽트 발생");
+    }
+  }
+}
@@ -1,21 +1,33 @@
 package me.eunseong.ocrtextparser.util;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 
-import java.util.List;
-import me.eunseong.ocrtextparser.domain.OcrWord;
-import me.eunseong.ocrtextparser.dto.OcrResponseDto;
+import lombok.extern.slf4j.Slf4j;
 import me.eunseong.ocrtextparser.domain.OcrDocument;
 import org.springframework.stereotype.Component;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.stream.Collectors;
-
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Slf4j
 @Component
 public class OcrDocumentLoader {
 
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final JsonFactory jsonFactory = new JsonFactory();
+  private final OcrDocumentStreamReader streamReader = new OcrDocumentStreamReader();
 
   /**
    * 파일에서 OCR 문서 로드
@@ -26,8 +38,9 @@ public class OcrDocumentLoader {
    */
   public OcrDocument loadFromFile(String filePath) throws IOException {
     File file = new File(filePath);
-    OcrResponseDto response = objectMapper.readValue(file, OcrResponseDto.class);
-    return convertToOcrDocument(response);
+    try (JsonParser parser = jsonFactory.createParser(file)) {
+      return streamReader.read(parser);
+    }
   }
 
   /**
@@ -46,79 +59,110 @@ public class OcrDocumentLoader {
       throw new IOException("Resource not found: " + resourcePath);
     }
 
-    OcrResponseDto response = objectMapper.readValue(inputStream,
-        OcrResponseDto.class);
-    return convertToOcrDocument(response);
+    try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+      return streamReader.read(parser);
+    }
   }
 
   /**
-   * 응답을 도메인 모델로 변환
+   * JSON Lines 파일에서 OCR 문서를 한 줄씩 스트리밍 로드
+   * 한 줄 = OCR 응답 JSON 하나, 한 번에 한 줄만 메모리에 유지
+   * 파싱에 실패한 줄은 로그만 남기고 건너뜀
+   * 사용 후 반드시 close 필요 (try-with-resources)
    *
-   * @param response
-   * @return
+   * @param filePath JSON Lines 파일 경로
+   * @return OCR 문서 스트림 (parsingService::parse에 바로 연결 가능)
+   * @throws IOException 파일 열기 실패
    */
-  private OcrDocument convertToOcrDocument(OcrResponseDto response) {
-    if (response.getPages() == null || response.getPages().isEmpty()) {
-      throw new IllegalArgumentException("No pages in OCR response");
-    }
-
-    OcrResponseDto.Page firstPage = response.getPages().get(0); // 현재 문서는 단일 page
-
-    // Lines 변환
-    List<String> lines = firstPage.getLines().stream()
-        .map(OcrResponseDto.Line::getText)
-        .collect(Collectors.toList());
-
-    // Words 변환 (좌표 포함)
-    List<OcrWord> words = firstPage.getWords().stream()
-        .map(this::convertToOcrWord)
-        .collect(Collectors.toList());
+  public Stream<OcrDocument> loadFromJsonLines(String filePath) throws IOException {
+    return loadFromJsonLines(filePath, (lineNumber, e) ->
+        log.warn("JSON Lines {}번째 줄 로드 실패: {}", lineNumber, e.getMessage()));
+  }
 
-    return OcrDocument.builder()
-        .text(firstPage.getText())
-        .lines(lines)
-        .words(words)
-        .confidence(firstPage.getConfidence())
-        .build();
+  /**
+   * JSON Lines 파일에서 OCR 문서를 한 줄씩 스트리밍 로드
+   * 파싱에 실패한 줄은 onError로 전달하고 스트림은 계속 진행
+   * 사용 후 반드시 close 필요 (try-with-resources)
+   *
+   * @param filePath JSON Lines 파일 경로
+   * @param onError  실패한 줄 번호(1부터 시작)와 예외를 받는 콜백
+   * @return OCR 문서 스트림
+   * @throws IOException 파일 열기 실패
+   */
+  public Stream<OcrDocument> loadFromJsonLines(String filePath,
+      BiConsumer<Long, Exception> onError) throws IOException {
+    BufferedReader reader = Files.newBufferedReader(Path.of(filePath),
+        StandardCharsets.UTF_8);
+    Iterator<OcrDocument> iterator = new JsonLinesIterator(reader, onError);
+
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(() -> {
+          try {
+            reader.close();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
   }
 
   /**
-   * API Word를 OcrWord로 변환
+   * JSON Lines 순회자
+   * 다음 문서를 미리 하나만 읽어두고, 빈 줄과 실패한 줄은 건너뜀
    */
-  private OcrWord convertToOcrWord(OcrResponseDto.Word apiWord) {
-    if (apiWord.getBoundingBox() == null ||
-        apiWord.getBoundingBox().getVertices() == null ||
-        apiWord.getBoundingBox().getVertices().isEmpty()) {
-      // BoundingBox 없으면 기본값
-      return OcrWord.builder()
-          .text(apiWord.getText())
-          .x(0)
-          .y(0)
-          .width(0)
-          .height(0)
-          .confidence(apiWord.getConfidence())
-          .build();
+  private class JsonLinesIterator implements Iterator<OcrDocument> {
+
+    private final BufferedReader reader;
+    private final BiConsumer<Long, Exception> onError;
+    private long lineNumber;
+    private OcrDocument next;
+
+    private JsonLinesIterator(BufferedReader reader,
+        BiConsumer<Long, Exception> onError) {
+      this.reader = reader;
+      this.onError = onError;
     }
 
-    List<OcrResponseDto.Vertex> vertices = apiWord.getBoundingBox().getVertices();
-
-    // vertices[0] = 좌상단, vertices[2] = 우하단
-    OcrResponseDto.Vertex topLeft = vertices.get(0);
-    OcrResponseDto.Vertex bottomRight = vertices.size() > 2 ? vertices.get(2) : topLeft;
-
-    int x = topLeft.getX();
-    int y = topLeft.getY();
-    int width = bottomRight.getX() - topLeft.getX();
-    int height = bottomRight.getY() - topLeft.getY();
-
-    return OcrWord.builder()
-        .text(apiWord.getText())
-        .x(x)
-        .y(y)
-        .width(width)
-        .height(height)
-        .confidence(apiWord.getConfidence())
-        .build();
-  }
+    @Override
+    public boolean hasNext() {
+      if (next != null) {
+        return true;
+      }
+
+      try {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          lineNumber++;
+          if (line.isBlank()) {
+            continue;
+          }
+
+          try (JsonParser parser = jsonFactory.createParser(line)) {
+            OcrDocument document = streamReader.read(parser);
+            if (parser.nextToken() != null) {
+              throw new IOException("Unexpected content after JSON object");
+            }
+            next = document;
+            return true;
+          } catch (IOException | RuntimeException e) {
+            onError.accept(lineNumber, e);
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return false;
+    }
 
+    @Override
+    public OcrDocument next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      OcrDocument document = next;
+      next = null;
+      return document;
+    }
+  }
 }
@@ -0,0 +1,271 @@
+package me.eunseong.ocrtextparser.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.OcrWordStore;
+
+/**
+ * OCR 응답 JSON 스트리밍 리더
+ * JsonParser 토큰을 직접 읽어 OcrDocument로 변환 (OcrResponseDto 객체 그래프 생성 없음)
+ * 단어는 OcrWordStore 컬럼 저장소에 바로 기록
+ * 첫 번째 page만 변환하고, 이후 page와 사용하지 않는 필드는 건너뜀
+ * 응답 필드 구조는 OcrResponseDto 참조
+ */
+public class OcrDocumentStreamReader {
+
+  private static final int INITIAL_WORD_CAPACITY = 64;
+
+  /**
+   * JsonParser에서 OCR 응답 객체 하나를 읽어 OcrDocument로 변환
+   * parser는 객체 시작 전 또는 START_OBJECT 위치에 있어야 하며,
+   * 읽기가 끝나면 해당 객체의 END_OBJECT 위치에 있음
+   *
+   * @param parser JSON 파서
+   * @return 변환된 OCR 문서
+   * @throws IOException JSON 읽기 실패
+   */
+  public OcrDocument read(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == null) {
+      token = parser.nextToken();
+    }
+    if (token != JsonToken.START_OBJECT) {
+      throw new IOException("OCR response must be a JSON object: " + token);
+    }
+
+    OcrDocument document = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if ("pages".equals(field) && value == JsonToken.START_ARRAY) {
+        document = readPages(parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+
+    if (document == null) {
+      throw new IllegalArgumentException("No pages in OCR response");
+    }
+    return document;
+  }
+
+  /**
+   * pages 배열 읽기 (첫 번째 page만 변환, 나머지는 건너뜀)
+   */
+  private OcrDocument readPages(JsonParser parser) throws IOException {
+    OcrDocument firstPage = null;
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (firstPage == null && token == JsonToken.START_OBJECT) {
+        firstPage = readPage(parser);  // 현재 문서는 단일 page
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return firstPage;
+  }
+
+  /**
+   * page 객체 읽기
+   */
+  private OcrDocument readPage(JsonParser parser) throws IOException {
+    String text = null;
+    Double confidence = null;
+    List<String> lines = new ArrayList<>();
+    OcrWordStore.Builder words = OcrWordStore.builder(INITIAL_WORD_CAPACITY);
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      switch (field) {
+        case "text" -> text = readString(parser, value);
+        case "confidence" -> confidence = readDouble(parser, value);
+        case "lines" -> readLines(parser, value, lines);
+        case "words" -> readWords(parser, value, words);
+        default -> parser.skipChildren();
+      }
+    }
+
+    return OcrDocument.ofWordStore(text, lines, words.build(), confidence);
+  }
+
+  /**
+   * lines 배열 읽기 (라인 텍스트만 사용, 라인 내부 words/boundingBox는 건너뜀)
+   */
+  private void readLines(JsonParser parser, JsonToken value, List<String> lines)
+      throws IOException {
+    if (value != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return;
+    }
+
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      String text = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        JsonToken token = parser.nextToken();
+        if ("text".equals(field)) {
+          text = readString(parser, token);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      lines.add(text);
+    }
+  }
+
+  /**
+   * words 배열 읽기 (컬럼 저장소에 바로 기록)
+   */
+  private void readWords(JsonParser parser, JsonToken value,
+      OcrWordStore.Builder words) throws IOException {
+    if (value != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return;
+    }
+
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      readWord(parser, words);
+    }
+  }
+
+  /**
+   * word 객체 읽기
+   * 텍스트는 String 생성 없이 파서의 문자 버퍼에서 저장소 버퍼로 바로 복사
+   * boundingBox.vertices[0] = 좌상단, vertices[2] = 우하단 (나머지 vertex는 건너뜀)
+   */
+  private void readWord(JsonParser parser, OcrWordStore.Builder words)
+      throws IOException {
+    int textStart = 0;
+    int textLength = -1;
+    Double confidence = null;
+    int[] box = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+      switch (field) {
+        case "text" -> {
+          if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+            textLength = parser.getTextLength();
+            textStart = words.appendText(parser.getTextCharacters(),
+                parser.getTextOffset(), textLength);
+          } else {
+            parser.skipChildren();
+          }
+        }
+        case "confidence" -> confidence = readDouble(parser, token);
+        case "boundingBox" -> box = readBoundingBox(parser, token);
+        default -> parser.skipChildren();
+      }
+    }
+
+    if (box == null) {
+      // BoundingBox 없으면 기본값
+      words.add(textStart, textLength, 0, 0, 0, 0, confidence);
+      return;
+    }
+
+    words.add(textStart, textLength, box[0], box[1], box[2] - box[0],
+        box[3] - box[1], confidence);
+  }
+
+  /**
+   * boundingBox 객체 읽기
+   *
+   * @return {좌상단 x, 좌상단 y, 우하단 x, 우하단 y} (vertex가 없으면 null)
+   */
+  private int[] readBoundingBox(JsonParser parser, JsonToken value)
+      throws IOException {
+    if (value != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+
+    int[] box = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+      if ("vertices".equals(field) && token == JsonToken.START_ARRAY) {
+        box = readVertices(parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return box;
+  }
+
+  /**
+   * vertices 배열 읽기 (0번, 2번 vertex만 읽음)
+   * 2번 vertex가 없으면 우하단 = 좌상단
+   */
+  private int[] readVertices(JsonParser parser) throws IOException {
+    int[] box = null;
+    int index = 0;
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (token == JsonToken.START_OBJECT && (index == 0 || index == 2)) {
+        if (box == null) {
+          box = new int[4];
+        }
+        readVertex(parser, box, index == 0 ? 0 : 2);
+        if (index == 0) {
+          box[2] = box[0];
+          box[3] = box[1];
+        }
+      } else {
+        parser.skipChildren();
+      }
+      index++;
+    }
+    return box;
+  }
+
+  /**
+   * vertex 객체의 x, y를 box[offset], box[offset + 1]에 기록
+   */
+  private void readVertex(JsonParser parser, int[] box, int offset)
+      throws IOException {
+    int x = 0;
+    int y = 0;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      if ("x".equals(field)) {
+        x = parser.getValueAsInt();
+      } else if ("y".equals(field)) {
+        y = parser.getValueAsInt();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    box[offset] = x;
+    box[offset + 1] = y;
+  }
+
+  private String readString(JsonParser parser, JsonToken token)
+      throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (token.isStructStart()) {
+      parser.skipChildren();
+      return null;
+    }
+    return parser.getText();
+  }
+
+  private Double readDouble(JsonParser parser, JsonToken token)
+      throws IOException {
+    if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+      return parser.getDoubleValue();
+    }
+    parser.skipChildren();
+    return null;
+  }
+}
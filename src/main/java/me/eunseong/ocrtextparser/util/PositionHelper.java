@@ -1,16 +1,12 @@
 package me.eunseong.ocrtextparser.util;
 
 import me.eunseong.ocrtextparser.config.ParserProperties;
-import me.eunseong.ocrtextparser.domain.OcrWord;
+import me.eunseong.ocrtextparser.domain.OcrWordStore;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
-
 /**
  * 좌표 기반 추출 헬퍼 유틸리티
- * OcrWord의 x, y 좌표를 이용한 위치 판단 로직 제공
+ * 단어 저장소의 x, y 좌표와 공간 인덱스를 이용한 위치 판단 로직 제공
  */
 @Component
 public class PositionHelper {
@@ -22,93 +18,55 @@ public class PositionHelper {
   }
 
   /**
-   * 두 단어가 같은 줄에 있는지 판단 (y좌표 기준)
+   * 라벨의 오른쪽에서 같은 줄에 있는 값을 찾기 (공간 인덱스 조회)
    *
-   * @param word1 단어 1
-   * @param word2 단어 2
-   * @return 같은 줄이면 true
+   * @param store      단어 컬럼 저장소
+   * @param labelIndex 라벨 단어 인덱스
+   * @return 조건을 만족하는 단어 중 인덱스가 가장 작은 단어 인덱스 (없으면 -1)
    */
-  public boolean isSameLine(OcrWord word1, OcrWord word2) {
-    if (word1 == null || word2 == null) {
-      return false;
-    }
-
-    int yTolerance = parserProperties.getPosition().getYTolerance();
-    return Math.abs(word1.getY() - word2.getY()) <= yTolerance;
+  public int findValueOnRight(OcrWordStore store, int labelIndex) {
+    int[] values = findAllValuesOnRight(store, labelIndex);
+    return values.length == 0 ? -1 : values[0];
   }
 
   /**
-   * 단어2가 단어1의 오른쪽에 있는지 판단
+   * 라벨의 오른쪽에서 같은 줄에 있는 모든 값 찾기 (공간 인덱스 조회)
    *
-   * @param leftWord 왼쪽 단어 (라벨)
-   * @param rightWord 오른쪽 단어 (값 후보)
-   * @return 오른쪽에 있고, 최소 거리 조건을 만족하면 true
+   * @param store      단어 컬럼 저장소
+   * @param labelIndex 라벨 단어 인덱스
+   * @return 찾은 값 단어 인덱스 (인덱스 오름차순, 없으면 빈 배열)
    */
-  public boolean isRightOf(OcrWord leftWord, OcrWord rightWord) {
-    if (leftWord == null || rightWord == null) {
-      return false;
+  public int[] findAllValuesOnRight(OcrWordStore store, int labelIndex) {
+    if (store == null || labelIndex < 0 || labelIndex >= store.size()) {
+      return new int[0];
     }
 
-    int xMinOffset = parserProperties.getPosition().getXMinOffset();
-    int leftWordEndX = leftWord.getX() + leftWord.getWidth();
-
-    return rightWord.getX() >= leftWordEndX + xMinOffset;
-  }
-
-  /**
-   * 라벨의 오른쪽에서 같은 줄에 있는 값을 찾기
-   *
-   * @param labelWord 라벨 단어
-   * @param allWords 전체 단어 목록
-   * @return 찾은 값 단어 (없으면 Optional.empty())
-   */
-  public Optional<OcrWord> findValueOnRight(OcrWord labelWord,
-      List<OcrWord> allWords) {
-    if (labelWord == null || allWords == null || allWords.isEmpty()) {
-      return Optional.empty();
-    }
+    int yTolerance = parserProperties.getPosition().getYTolerance();
+    int minX = store.getEndX(labelIndex) +
+        parserProperties.getPosition().getXMinOffset();
 
-    return allWords.stream()
-        .filter(word -> isSameLine(labelWord, word))
-        .filter(word -> isRightOf(labelWord, word))
-        .findFirst();
+    return store.getSpatialIndex(yTolerance)
+        .findAllOnRight(store.getY(labelIndex), minX, yTolerance);
   }
 
   /**
-   * 라벨의 오른쪽에서 같은 줄에 있는 모든 값 찾기
+   * 라벨 단어 바로 다음에 오는 값 단어 찾기 (공간 인덱스 조회)
+   * 문서의 y 밴드 인덱스에서 같은 줄 버킷만 보고, 버킷 내부는 x 이진 탐색
    *
-   * @param labelWord 라벨 단어
-   * @param allWords 전체 단어 목록
-   * @return 찾은 값 단어들 (없으면 빈 리스트)
+   * @param store      단어 컬럼 저장소
+   * @param labelIndex 라벨 단어 인덱스
+   * @return 가장 가까운 값 단어 인덱스 (없으면 -1)
    */
-  public List<OcrWord> findAllValuesOnRight(OcrWord labelWord,
-      List<OcrWord> allWords) {
-    if (labelWord == null || allWords == null || allWords.isEmpty()) {
-      return List.of();
+  public int findClosestValueOnRight(OcrWordStore store, int labelIndex) {
+    if (store == null || labelIndex < 0 || labelIndex >= store.size()) {
+      return -1;
     }
 
-    return allWords.stream()
-        .filter(word -> isSameLine(labelWord, word))
-        .filter(word -> isRightOf(labelWord, word))
-        .collect(Collectors.toList());
-  }
-
-  /**
-   * 라벨 단어 바로 다음에 오는 값 단어 찾기 (가장 가까운 것)
-   *
-   * @param labelWord 라벨 단어
-   * @param allWords 전체 단어 목록
-   * @return 가장 가까운 값 단어 (없으면 Optional.empty())
-   */
-  public Optional<OcrWord> findClosestValueOnRight(OcrWord labelWord,
-      List<OcrWord> allWords) {
-    if (labelWord == null || allWords == null || allWords.isEmpty()) {
-      return Optional.empty();
-    }
+    int yTolerance = parserProperties.getPosition().getYTolerance();
+    int minX = store.getEndX(labelIndex) +
+        parserProperties.getPosition().getXMinOffset();
 
-    return allWords.stream()
-        .filter(word -> isSameLine(labelWord, word))
-        .filter(word -> isRightOf(labelWord, word))
-        .min((w1, w2) -> Integer.compare(w1.getX(), w2.getX()));
+    return store.getSpatialIndex(yTolerance)
+        .findClosestOnRight(store.getY(labelIndex), minX, yTolerance);
   }
 }
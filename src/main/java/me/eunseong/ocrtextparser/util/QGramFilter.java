@@ -0,0 +1,135 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Arrays;
+
+/**
+ * 근사 매칭 전 단계의 카운트 필터 (q-gram lemma)
+ * 키워드 길이(m) 윈도우가 편집 거리 k 이내이려면
+ * 1. 문자 멀티셋 교집합이 m - k개 이상
+ * 2. 공유 bigram이 (m - 1) - 2k개 이상
+ * 이어야 하므로, 두 조건을 모두 만족하는 윈도우가 없으면 DP 없이 매칭 실패를 확정
+ * 키워드당 한 번 생성, 생성 후 불변 (윈도우 카운터는 호출 측 scratch 배열 사용)
+ */
+public final class QGramFilter {
+
+  private final int length;
+  private final char[] chars;  // 키워드 문자 (중복 제거, 오름차순)
+  private final int[] charCounts;  // 문자별 키워드 내 개수
+  private final int[] grams;  // 키워드 bigram 코드 (중복 제거, 오름차순)
+  private final int[] gramCounts;  // bigram별 키워드 내 개수
+
+  private QGramFilter(String keyword, int[] sortedGrams) {
+    this.length = keyword.length();
+
+    char[] sortedChars = keyword.toCharArray();
+    Arrays.sort(sortedChars);
+    int distinct = 0;
+    int[] counts = new int[sortedChars.length];
+    for (int i = 0; i < sortedChars.length; i++) {
+      if (i == 0 || sortedChars[i] != sortedChars[i - 1]) {
+        sortedChars[distinct++] = sortedChars[i];
+      }
+      counts[distinct - 1]++;
+    }
+    this.chars = Arrays.copyOf(sortedChars, distinct);
+    this.charCounts = Arrays.copyOf(counts, distinct);
+
+    int[] distinctGrams = new int[sortedGrams.length];
+    int[] distinctGramCounts = new int[sortedGrams.length];
+    int gramDistinct = 0;
+    for (int i = 0; i < sortedGrams.length; i++) {
+      if (i == 0 || sortedGrams[i] != sortedGrams[i - 1]) {
+        distinctGrams[gramDistinct++] = sortedGrams[i];
+      }
+      distinctGramCounts[gramDistinct - 1]++;
+    }
+    this.grams = Arrays.copyOf(distinctGrams, gramDistinct);
+    this.gramCounts = Arrays.copyOf(distinctGramCounts, gramDistinct);
+  }
+
+  /**
+   * 필터 컴파일
+   *
+   * @param keyword     정규화된 키워드
+   * @param sortedGrams 키워드의 bigram 코드 (KeywordSet.getQGrams와 같은 형식)
+   * @return 필터
+   */
+  public static QGramFilter compile(String keyword, int[] sortedGrams) {
+    return new QGramFilter(keyword, sortedGrams);
+  }
+
+  /**
+   * mayMatch에 필요한 scratch 배열 길이
+   */
+  public int scratchSize() {
+    return chars.length + grams.length;
+  }
+
+  /**
+   * 거리 maxDistance 이내로 매칭될 수 있는 윈도우가 있는지 확인
+   * false면 어떤 윈도우도 임계값에 도달할 수 없음이 보장됨 (true는 후보가 있다는 뜻일 뿐)
+   *
+   * @param text        정규화된 텍스트
+   * @param maxDistance 최대 편집 거리
+   * @param scratch     윈도우 카운터 (scratchSize() 이상, 내용은 덮어씀)
+   * @return 후보 윈도우가 있으면 true
+   */
+  public boolean mayMatch(CharSequence text, int maxDistance, int[] scratch) {
+    int textLen = text.length();
+    if (maxDistance < 0 || length > textLen) {
+      return false;
+    }
+    int charThreshold = length - maxDistance;
+    int gramThreshold = length - 1 - KeywordSet.Q_GRAM_LENGTH * maxDistance;
+    if (charThreshold <= 0) {
+      return true;
+    }
+
+    int gramBase = chars.length;
+    Arrays.fill(scratch, 0, scratchSize(), 0);
+    int sharedChars = 0;
+    int sharedGrams = 0;
+    for (int j = 0; j < textLen; j++) {
+      char c = text.charAt(j);
+      sharedChars += add(charCounts, scratch, 0, Arrays.binarySearch(chars, c));
+      if (j > 0 && length > 1) {
+        int code = (text.charAt(j - 1) << 16) | c;
+        sharedGrams += add(gramCounts, scratch, gramBase,
+            Arrays.binarySearch(grams, code));
+      }
+
+      // 윈도우 [start, j]를 벗어난 문자와 bigram 제거
+      int start = j - length + 1;
+      if (start > 0) {
+        char out = text.charAt(start - 1);
+        sharedChars -= remove(charCounts, scratch, 0, Arrays.binarySearch(chars, out));
+        if (length > 1) {
+          int code = (out << 16) | text.charAt(start);
+          sharedGrams -= remove(gramCounts, scratch, gramBase,
+              Arrays.binarySearch(grams, code));
+        }
+      }
+
+      if (start >= 0 && sharedChars >= charThreshold && sharedGrams >= gramThreshold) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // 윈도우에 추가, 키워드 개수 안에서 공유가 늘면 1
+  private static int add(int[] counts, int[] scratch, int base, int index) {
+    if (index < 0) {
+      return 0;
+    }
+    return scratch[base + index]++ < counts[index] ? 1 : 0;
+  }
+
+  // 윈도우에서 제거, 키워드 개수 안에서 공유가 줄면 1
+  private static int remove(int[] counts, int[] scratch, int base, int index) {
+    if (index < 0) {
+      return 0;
+    }
+    return --scratch[base + index] < counts[index] ? 1 : 0;
+  }
+}
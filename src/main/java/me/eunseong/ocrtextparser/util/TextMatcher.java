@@ -1,164 +1,368 @@
 package me.eunseong.ocrtextparser.util;
 
+import lombok.extern.slf4j.Slf4j;
 import me.eunseong.ocrtextparser.config.ParserProperties;
 import org.apache.commons.text.similarity.LevenshteinDistance;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * 텍스트 매칭 유틸리티
  */
+@Slf4j
 @Component
 public class TextMatcher {
 
+  // Vector API 스캐너 (jdk.incubator.vector 모듈이 없으면 null, 스칼라 경로)
+  private static final WindowScanner VECTOR_SCANNER = WindowScanner.loadVector().orElse(null);
+
   private final TextNormalizer textNormalizer;
   private final ParserProperties parserProperties;
   private final LevenshteinDistance levenshteinDistance;
 
+  // 정규화 결과를 기록할 스레드별 버퍼 (매칭 중에만 사용하므로 String 생성 없음)
+  private final ThreadLocal<StringBuilder> normalizeBuffer =
+      ThreadLocal.withInitial(StringBuilder::new);
+
+  // 카운트 필터의 윈도우 카운터 (스레드별, 키워드 집합 최대 길이에 맞춰 확장)
+  private final ThreadLocal<int[]> filterScratch =
+      ThreadLocal.withInitial(() -> new int[32]);
+
+  // 최대 거리 제한 커널의 DP 행 (스레드별, 키워드 길이에 맞춰 확장)
+  private final ThreadLocal<int[]> distanceRows =
+      ThreadLocal.withInitial(() -> new int[BoundedLevenshtein.rowsSize(128)]);
+
+  // 벡터 매칭용 텍스트 문자 배열 (스레드별, 텍스트 길이에 맞춰 확장)
+  private final ThreadLocal<char[]> textChars =
+      ThreadLocal.withInitial(() -> new char[256]);
+
+  private final LongAdder filterChecked = new LongAdder();
+  private final LongAdder filterRejected = new LongAdder();
+
   public TextMatcher(TextNormalizer textNormalizer,
       ParserProperties parserProperties) {
     this.textNormalizer = textNormalizer;
     this.parserProperties = parserProperties;
     this.levenshteinDistance = LevenshteinDistance.getDefaultInstance();
+    if (parserProperties.isVectorMatching() && VECTOR_SCANNER == null) {
+      log.warn("app.parser.vector-matching=true지만 Vector API를 사용할 수 없어 스칼라 경로 사용 "
+          + "(--add-modules jdk.incubator.vector로 실행 필요)");
+    }
   }
 
   /**
    * 텍스트에서 키워드 매칭 (정규화 + Fuzzy)
    *
    * @param text     검색 대상 텍스트
-   * @param keywords 키워드 배열
+   * @param keywords 컴파일된 키워드 집합
    * @return 매칭 성공 시 true
    */
-  public boolean matches(String text, String[] keywords) {
-    if (text == null || text.isEmpty() || keywords == null ||
-        keywords.length == 0) {
-      return false;
-    }
-
-    // 1차: 정규화 후 정확 매칭
-    String normalizedText = textNormalizer.normalize(text);
-    for (String keyword : keywords) {
-      String normalizedKeyword = textNormalizer.normalize(keyword);
-      if (normalizedText.contains(normalizedKeyword)) {
-        return true;
-      }
-    }
-
-    // 2차: Fuzzy Matching (유사도 기반)
-    for (String keyword : keywords) {
-      if (fuzzyMatch(text, keyword)) {
-        return true;
-      }
-    }
+  public boolean matches(String text, KeywordSet keywords) {
+    return findMatch(text, keywords).isPresent();
+  }
 
-    return false;
+  /**
+   * Fuzzy Matching만 수행 (정확 매칭은 호출 측에서 이미 확인한 경우)
+   *
+   * @param text     검색 대상 텍스트
+   * @param keywords 컴파일된 키워드 집합
+   * @return 하나라도 유사도가 threshold 이상이면 true
+   */
+  public boolean fuzzyMatches(String text, KeywordSet keywords) {
+    return findFuzzyMatch(text, keywords).isPresent();
   }
 
   /**
    * 키워드의 인덱스 찾기 (정규화된 텍스트 기준) 정확 매칭 시도 → 실패 시 Fuzzy Matching 시도
    *
    * @param text     검색 대상 텍스트
-   * @param keywords 키워드 배열
+   * @param keywords 컴파일된 키워드 집합
    * @return 매칭된 키워드의 시작 인덱스 (없으면 -1)
    */
-  public int findKeywordIndex(String text, String[] keywords) {
-    if (text == null || text.isEmpty() || keywords == null ||
-        keywords.length == 0) {
-      return -1;
+  public int findKeywordIndex(String text, KeywordSet keywords) {
+    return findMatch(text, keywords).map(MatchResult::getStart).orElse(-1);
+  }
+
+  /**
+   * 키워드 매칭 결과 찾기 (정규화된 텍스트 기준) 정확 매칭 시도 → 실패 시 Fuzzy Matching 시도
+   *
+   * @param text     검색 대상 텍스트
+   * @param keywords 컴파일된 키워드 집합
+   * @return 매칭된 키워드, 시작/끝 위치, 유사도 (없으면 empty)
+   */
+  public Optional<MatchResult> findMatch(String text, KeywordSet keywords) {
+    if (text == null || text.isEmpty()) {
+      return Optional.empty();
     }
+    return findNormalizedMatch(normalizeView(text), keywords);
+  }
 
-    String normalizedText = textNormalizer.normalize(text);
+  /**
+   * 이미 정규화된 텍스트에서 키워드 매칭 결과 찾기 (정확 매칭 → Fuzzy Matching)
+   * 문서 라인처럼 한 번 정규화해 여러 키워드 집합에 재사용하는 경우 사용
+   * (DocumentFacts.NORMALIZED_LINES의 NormalizedText를 그대로 전달)
+   *
+   * @param normalizedText TextNormalizer.normalize 또는 normalizeWithOffsets 결과
+   * @param keywords       컴파일된 키워드 집합
+   * @return 매칭된 키워드, 시작/끝 위치, 유사도, 정확 매칭 여부 (없으면 empty)
+   */
+  public Optional<MatchResult> findNormalizedMatch(CharSequence normalizedText,
+      KeywordSet keywords) {
+    if (normalizedText == null || normalizedText.length() == 0 || keywords == null ||
+        keywords.isEmpty()) {
+      return Optional.empty();
+    }
 
     // 1차: 정확 매칭
-    for (String keyword : keywords) {
-      String normalizedKeyword = textNormalizer.normalize(keyword);
-      int index = normalizedText.indexOf(normalizedKeyword);
+    for (int i = 0; i < keywords.size(); i++) {
+      int index = indexOf(normalizedText, keywords.getNormalized(i));
       if (index >= 0) {
-        return index;
+        return Optional.of(new MatchResult(i, index,
+            index + keywords.getLength(i), 1.0, true));
       }
     }
 
     // 2차: Fuzzy Matching
-    for (String keyword : keywords) {
-      int fuzzyIndex = findFuzzyKeywordIndex(text, keyword);
-      if (fuzzyIndex >= 0) {
-        return fuzzyIndex;
-      }
-    }
+    return findFuzzyMatchNormalized(normalizedText, keywords);
+  }
 
-    return -1;
+  /**
+   * Fuzzy Matching으로만 키워드 인덱스 찾기 (정확 매칭은 호출 측에서 이미 확인한 경우)
+   *
+   * @param text     검색 대상 텍스트
+   * @param keywords 컴파일된 키워드 집합
+   * @return 매칭된 키워드의 시작 인덱스 (없으면 -1)
+   */
+  public int findFuzzyKeywordIndex(String text, KeywordSet keywords) {
+    return findFuzzyMatch(text, keywords).map(MatchResult::getStart).orElse(-1);
+  }
+
+  /**
+   * Fuzzy Matching으로만 매칭 결과 찾기 (정확 매칭은 호출 측에서 이미 확인한 경우)
+   *
+   * @param text     검색 대상 텍스트
+   * @param keywords 컴파일된 키워드 집합
+   * @return 매칭 결과 (끝 위치 = 시작 위치 + 키워드 길이, 없으면 empty)
+   */
+  public Optional<MatchResult> findFuzzyMatch(String text, KeywordSet keywords) {
+    if (text == null || text.isEmpty()) {
+      return Optional.empty();
+    }
+    return findNormalizedFuzzyMatch(normalizeView(text), keywords);
   }
 
   /**
-   * Fuzzy Matching으로 키워드 인덱스 찾기
+   * 이미 정규화된 텍스트에서 Fuzzy Matching으로만 매칭 결과 찾기
    *
-   * @param text    검색 대상 텍스트
-   * @param keyword 키워드
-   * @return 매칭된 시작 인덱스 (없으면 -1)
+   * @param normalizedText TextNormalizer.normalize 또는 normalizeWithOffsets 결과
+   * @param keywords       컴파일된 키워드 집합
+   * @return 매칭 결과 (끝 위치 = 시작 위치 + 키워드 길이, 없으면 empty)
    */
-  private int findFuzzyKeywordIndex(String text, String keyword) {
-    if (text == null || keyword == null) {
-      return -1;
+  public Optional<MatchResult> findNormalizedFuzzyMatch(CharSequence normalizedText,
+      KeywordSet keywords) {
+    if (normalizedText == null || normalizedText.length() == 0 || keywords == null) {
+      return Optional.empty();
     }
+    return findFuzzyMatchNormalized(normalizedText, keywords);
+  }
+
+  /**
+   * 현재 Fuzzy Matching 유사도 임계값
+   */
+  public double getFuzzyMatchThreshold() {
+    return parserProperties.getFuzzyMatchThreshold();
+  }
+
+  /**
+   * 짧은 키워드 Fuzzy Matching에 Vector API 경로를 사용하는지 확인
+   *
+   * @return vectorMatching 설정이 켜져 있고 jdk.incubator.vector 모듈을 사용할 수 있으면 true
+   */
+  public boolean isVectorMatchingActive() {
+    return VECTOR_SCANNER != null && parserProperties.isVectorMatching();
+  }
 
-    String normalizedText = textNormalizer.normalize(text);
-    String normalizedKeyword = textNormalizer.normalize(keyword);
+  /**
+   * Fuzzy Matching 카운트 필터 누적 통계
+   *
+   * @return 필터를 거친 비교 수, DP 없이 제외된 비교 수, 적중률
+   */
+  public FuzzyFilterStats getFilterStats() {
+    return new FuzzyFilterStats(filterChecked.sum(), filterRejected.sum());
+  }
 
+  /**
+   * 키워드 순서대로 Fuzzy Matching 시도 (텍스트는 이미 정규화된 상태)
+   *
+   * @return 처음 매칭된 키워드의 매칭 결과 (없으면 empty)
+   */
+  private Optional<MatchResult> findFuzzyMatchNormalized(CharSequence normalizedText,
+      KeywordSet keywords) {
+    for (int i = 0; i < keywords.size(); i++) {
+      Optional<ApproximateMatch> match = findApproximateMatch(normalizedText, keywords, i);
+      if (match.isPresent()) {
+        int start = match.get().getPosition();
+        return Optional.of(new MatchResult(i, start, start + keywords.getLength(i),
+            match.get().getSimilarity(), false));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * 키워드 길이 윈도우 중 유사도가 threshold 이상인 첫 번째 윈도우 찾기
+   * 카운트 필터(QGramFilter)로 후보 윈도우가 없음이 확인되면 DP 없이 실패,
+   * 64자 이하 키워드는 미리 컴파일된 비트 병렬 매처로 텍스트를 한 번 순회
+   * (최대 거리 1 이하이고 vectorMatching 설정 시 Vector API로 여러 윈도우를 한 번에 비교),
+   * 더 긴 키워드는 윈도우마다 유사도 계산 (슬라이딩 윈도우, boundedDistance 설정 시
+   * substring 없이 최대 거리 제한 커널로 계산)
+   *
+   * @param normalizedText 정규화된 텍스트
+   * @param keywords       컴파일된 키워드 집합
+   * @param index          키워드 인덱스
+   * @return 매칭 결과 (위치, 거리, 유사도)
+   */
+  private Optional<ApproximateMatch> findApproximateMatch(CharSequence normalizedText,
+      KeywordSet keywords, int index) {
+    String normalizedKeyword = keywords.getNormalized(index);
     int keywordLen = normalizedKeyword.length();
     int textLen = normalizedText.length();
 
     if (keywordLen > textLen) {
-      return -1;
+      return Optional.empty();
     }
 
     double threshold = parserProperties.getFuzzyMatchThreshold();
+    int maxDistance = keywords.getMaxDistance(index, threshold);
+    if (maxDistance < 0) {
+      return Optional.empty();
+    }
+
+    filterChecked.increment();
+    if (!keywords.getFilter(index).mayMatch(normalizedText, maxDistance,
+        filterScratch(keywords.getMaxFilterScratch()))) {
+      filterRejected.increment();
+      return Optional.empty();
+    }
+
+    BitParallelMatcher matcher = keywords.getMatcher(index);
+    if (matcher != null && maxDistance <= WindowScanner.MAX_DISTANCE
+        && isVectorMatchingActive()) {
+      char[] chars = textChars(normalizedText);
+      int start = VECTOR_SCANNER.findFirst(chars, textLen,
+          keywords.getNormalizedChars(index), maxDistance);
+      if (start < 0) {
+        return Optional.empty();
+      }
+      int distance = matcher.distance(normalizedText, start, start + keywordLen);
+      double similarity = distance == 0 ? 1.0 : 1.0 - ((double) distance / keywordLen);
+      return Optional.of(new ApproximateMatch(start, distance, similarity));
+    }
+    if (matcher != null) {
+      return matcher.findFirst(normalizedText, maxDistance);
+    }
+
+    if (parserProperties.isBoundedDistance()) {
+      int[] rows = distanceRows(BoundedLevenshtein.rowsSize(keywordLen));
+      for (int i = 0; i <= textLen - keywordLen; i++) {
+        int distance = BoundedLevenshtein.distance(normalizedText, i, i + keywordLen,
+            normalizedKeyword, 0, keywordLen, maxDistance, rows);
+        if (distance >= 0) {
+          double similarity = distance == 0 ? 1.0 : 1.0 - ((double) distance / keywordLen);
+          return Optional.of(new ApproximateMatch(i, distance, similarity));
+        }
+      }
+      return Optional.empty();
+    }
 
     for (int i = 0; i <= textLen - keywordLen; i++) {
-      String window = normalizedText.substring(i, i + keywordLen);
+      String window = normalizedText.subSequence(i, i + keywordLen).toString();
       double similarity = calculateSimilarity(window, normalizedKeyword);
 
       if (similarity >= threshold) {
-        return i;  // 매칭된 시작 인덱스 반환
+        int distance = levenshteinDistance.apply(window, normalizedKeyword);
+        return Optional.of(new ApproximateMatch(i, distance, similarity));
       }
     }
 
-    return -1;
+    return Optional.empty();
   }
 
   /**
-   * Fuzzy Matching (Levenshtein Distance 기반) 유사도 = 1 - (거리 / 긴 문자열 길이)
-   *
-   * @param text    검색 대상 텍스트
-   * @param keyword 키워드
-   * @return 유사도가 threshold 이상이면 true
+   * 텍스트를 스레드별 버퍼에 정규화 (다음 normalizeView 호출 전까지 유효)
    */
-  public boolean fuzzyMatch(String text, String keyword) {
-    if (text == null || keyword == null) {
-      return false;
-    }
-
-    String normalizedText = textNormalizer.normalize(text);
-    String normalizedKeyword = textNormalizer.normalize(keyword);
-
-    // 슬라이딩 윈도우 방식: 키워드 길이만큼 잘라서 비교
-    int keywordLen = normalizedKeyword.length();
-    int textLen = normalizedText.length();
+  private CharSequence normalizeView(String text) {
+    return textNormalizer.normalize(text, normalizeBuffer.get());
+  }
 
-    if (keywordLen > textLen) {
-      return false;
+  /**
+   * 스레드별 필터 scratch 배열 (size 이상으로 확장)
+   */
+  private int[] filterScratch(int size) {
+    int[] scratch = filterScratch.get();
+    if (scratch.length < size) {
+      scratch = new int[Math.max(size, scratch.length * 2)];
+      filterScratch.set(scratch);
     }
+    return scratch;
+  }
 
-    double threshold = parserProperties.getFuzzyMatchThreshold();
+  /**
+   * 텍스트를 스레드별 문자 배열에 복사 (다음 textChars 호출 전까지 유효)
+   */
+  private char[] textChars(CharSequence text) {
+    char[] chars = textChars.get();
+    if (chars.length < text.length()) {
+      chars = new char[Math.max(text.length(), chars.length * 2)];
+      textChars.set(chars);
+    }
+    if (text instanceof StringBuilder builder) {
+      builder.getChars(0, text.length(), chars, 0);
+    } else {
+      for (int i = 0; i < text.length(); i++) {
+        chars[i] = text.charAt(i);
+      }
+    }
+    return chars;
+  }
 
-    for (int i = 0; i <= textLen - keywordLen; i++) {
-      String window = normalizedText.substring(i, i + keywordLen);
-      double similarity = calculateSimilarity(window, normalizedKeyword);
+  /**
+   * 스레드별 DP 행 배열 (size 이상으로 확장)
+   */
+  private int[] distanceRows(int size) {
+    int[] rows = distanceRows.get();
+    if (rows.length < size) {
+      rows = new int[Math.max(size, rows.length * 2)];
+      distanceRows.set(rows);
+    }
+    return rows;
+  }
 
-      if (similarity >= threshold) {
-        return true;
+  /**
+   * CharSequence에서 키워드 첫 위치 찾기 (String.indexOf와 같은 결과)
+   */
+  private static int indexOf(CharSequence text, String keyword) {
+    int keywordLen = keyword.length();
+    if (keywordLen == 0) {
+      return 0;
+    }
+    char first = keyword.charAt(0);
+    int last = text.length() - keywordLen;
+    for (int i = 0; i <= last; i++) {
+      if (text.charAt(i) != first) {
+        continue;
+      }
+      int j = 1;
+      while (j < keywordLen && text.charAt(i + j) == keyword.charAt(j)) {
+        j++;
+      }
+      if (j == keywordLen) {
+        return i;
       }
     }
-
-    return false;
+    return -1;
   }
 
   /**
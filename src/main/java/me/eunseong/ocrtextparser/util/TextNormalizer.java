@@ -2,11 +2,13 @@ package me.eunseong.ocrtextparser.util;
 
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
 import java.util.regex.Pattern;
 
 /**
  * OCR 텍스트 노이즈 제거 전담 유틸리티
  * 공백, 특수문자, 시간 패턴 등 다양한 노이즈를 제거/정규화
+ * 공백/특수문자 제거는 문자 분류 테이블로 한 번만 순회 (정규식 미사용)
  */
 @Component
 public class TextNormalizer {
@@ -17,24 +19,80 @@ public class TextNormalizer {
   private static final Pattern NUMBER_SEPARATOR_PATTERN =
       Pattern.compile("[,\\s]+");
 
-  private static final Pattern SPECIAL_CHAR_PATTERN =
-      Pattern.compile("[:\\-_/\\\\]");
+  // 문자 분류 테이블 (ASCII 범위만 제거 대상)
+  private static final byte WHITESPACE = 1;  // 정규식 \s와 같은 집합
+  private static final byte SPECIAL_CHAR = 2;  // : - _ / \
+  private static final byte NOISE = WHITESPACE | SPECIAL_CHAR;
+  private static final byte[] CHAR_CLASSES = new byte[128];
+
+  static {
+    for (char c : new char[]{' ', '\t', '\n', '\u000B', '\f', '\r'}) {
+      CHAR_CLASSES[c] = WHITESPACE;
+    }
+    for (char c : new char[]{':', '-', '_', '/', '\\'}) {
+      CHAR_CLASSES[c] = SPECIAL_CHAR;
+    }
+  }
 
   /**
    * 모든 노이즈 제거 (종합 정규화)
+   * 제거할 문자가 없으면 원본 문자열을 그대로 반환 (할당 없음)
    *
    * @param text 원본 텍스트
    * @return 정규화된 텍스트
    */
   public String normalize(String text) {
-    if (text == null || text.isEmpty()) {
-      return text;
+    return remove(text, NOISE);
+  }
+
+  /**
+   * 모든 노이즈 제거 결과를 버퍼에 기록 (String 생성 없음)
+   * 반환값은 버퍼 자체이므로 버퍼를 다시 사용하기 전까지만 유효
+   * 결과를 보관해야 하면 호출 측에서 toString()
+   *
+   * @param text   원본 텍스트
+   * @param buffer 재사용 버퍼 (기존 내용은 지워짐)
+   * @return 정규화된 텍스트 뷰 (buffer)
+   */
+  public CharSequence normalize(CharSequence text, StringBuilder buffer) {
+    buffer.setLength(0);
+    if (text == null) {
+      return buffer;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (!is(c, NOISE)) {
+        buffer.append(c);
+      }
+    }
+    return buffer;
+  }
+
+  /**
+   * 모든 노이즈 제거 + 원본 위치 매핑
+   * 정규화된 텍스트에서 찾은 키워드 위치로 원본 텍스트를 바로 자를 때 사용
+   *
+   * @param text 원본 텍스트
+   * @return 정규화된 텍스트와 원본 위치 매핑 (text가 null이면 빈 텍스트)
+   */
+  public NormalizedText normalizeWithOffsets(String text) {
+    if (text == null) {
+      return new NormalizedText("", "", new int[0]);
     }
 
-    String result = text;
-    result = removeWhitespace(result);
-    result = removeSpecialChars(result);
-    return result;
+    char[] chars = new char[text.length()];
+    int[] offsets = new int[text.length()];
+    int size = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (!is(c, NOISE)) {
+        chars[size] = c;
+        offsets[size] = i;
+        size++;
+      }
+    }
+    return new NormalizedText(text, new String(chars, 0, size),
+        size == offsets.length ? offsets : Arrays.copyOf(offsets, size));
   }
 
   /**
@@ -44,10 +102,7 @@ public class TextNormalizer {
    * @return 공백이 제거된 텍스트
    */
   public String removeWhitespace(String text) {
-    if (text == null || text.isEmpty()) {
-      return text;
-    }
-    return text.replaceAll("\\s+", "");
+    return remove(text, WHITESPACE);
   }
 
   /**
@@ -57,10 +112,7 @@ public class TextNormalizer {
    * @return 특수문자가 제거된 텍스트
    */
   public String removeSpecialChars(String text) {
-    if (text == null || text.isEmpty()) {
-      return text;
-    }
-    return SPECIAL_CHAR_PATTERN.matcher(text).replaceAll("");
+    return remove(text, SPECIAL_CHAR);
   }
 
   /**
@@ -108,4 +160,38 @@ public class TextNormalizer {
     }
     return normalized;
   }
+
+  /**
+   * 분류에 해당하는 문자를 한 번의 순회로 제거
+   * 첫 제거 대상 문자가 나오기 전까지는 복사하지 않음
+   */
+  private static String remove(String text, byte classes) {
+    if (text == null || text.isEmpty()) {
+      return text;
+    }
+
+    int length = text.length();
+    int first = 0;
+    while (first < length && !is(text.charAt(first), classes)) {
+      first++;
+    }
+    if (first == length) {
+      return text;
+    }
+
+    char[] result = new char[length - 1];
+    text.getChars(0, first, result, 0);
+    int size = first;
+    for (int i = first + 1; i < length; i++) {
+      char c = text.charAt(i);
+      if (!is(c, classes)) {
+        result[size++] = c;
+      }
+    }
+    return new String(result, 0, size);
+  }
+
+  private static boolean is(char c, byte classes) {
+    return c < CHAR_CLASSES.length && (CHAR_CLASSES[c] & classes) != 0;
+  }
 }
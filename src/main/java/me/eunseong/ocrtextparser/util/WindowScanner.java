@@ -0,0 +1,48 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Optional;
+
+/**
+ * 키워드 길이 윈도우를 불일치 문자 수(해밍 거리)로 비교하는 스캐너
+ * 길이가 같은 두 문자열의 편집 거리가 1 이하이면 편집 거리 = 해밍 거리이므로
+ * 최대 거리 1 이하에서만 정확한 결과 (그 이상은 BitParallelMatcher 사용)
+ * Vector API 구현(VectorWindowScanner)은 jdk.incubator.vector 모듈이 필요해
+ * 별도 소스셋(src/vector/java)에서 컴파일하고 실행 시 리플렉션으로 로드
+ */
+public interface WindowScanner {
+
+  /**
+   * 해밍 거리 = 편집 거리가 보장되는 최대 거리
+   */
+  int MAX_DISTANCE = 1;
+
+  /**
+   * 키워드 길이 윈도우 중 불일치 문자 수가 maxMismatches 이하인 첫 번째 윈도우 찾기
+   *
+   * @param text          텍스트 문자 배열
+   * @param textLength    text 중 유효한 길이
+   * @param keyword       키워드 문자 배열
+   * @param maxMismatches 최대 불일치 문자 수 (MAX_DISTANCE 이하)
+   * @return 윈도우 시작 위치 (없으면 -1)
+   */
+  int findFirst(char[] text, int textLength, char[] keyword, int maxMismatches);
+
+  /**
+   * Vector API 스캐너 로드
+   * 클래스가 클래스패스에 없거나 jdk.incubator.vector 모듈 없이 실행됐거나
+   * 레인이 하나뿐인 환경이면 empty
+   *
+   * @return Vector API 스캐너 (사용할 수 없으면 empty)
+   */
+  static Optional<WindowScanner> loadVector() {
+    try {
+      Class<? extends WindowScanner> type = Class
+          .forName("me.eunseong.ocrtextparser.util.VectorWindowScanner")
+          .asSubclass(WindowScanner.class);
+      WindowScanner scanner = type.getDeclaredConstructor().newInstance();
+      return Optional.of(scanner);
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return Optional.empty();
+    }
+  }
+}
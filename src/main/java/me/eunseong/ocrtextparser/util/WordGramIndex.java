@@ -0,0 +1,164 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import me.eunseong.ocrtextparser.domain.OcrWordStore;
+
+/**
+ * 단어 텍스트 bigram 역색인 (문서당 한 번 생성)
+ * 정규화된 단어 텍스트의 bigram → 단어 인덱스 목록 (CSR 배열)
+ * 키워드 길이(m) 윈도우가 편집 거리 k 이내이려면 키워드와 bigram을 (m - 1) - 2k개 이상 공유하므로
+ * 라벨 찾기에서 이 조건을 만족하는 단어만 TextMatcher로 확인
+ * 생성 후 불변이므로 여러 추출기/스레드에서 공유 가능
+ */
+public final class WordGramIndex {
+
+  public static final WordGramIndex EMPTY =
+      new WordGramIndex(new String[0], new int[0], new int[1], new int[0]);
+
+  private final int wordCount;
+  private final String[] normalizedTexts;  // 정규화된 단어 텍스트 (텍스트가 없으면 null)
+  private final int[] grams;  // bigram 코드 (중복 제거, 오름차순)
+  private final int[] offsets;  // grams[i]의 단어 목록 = postings[offsets[i], offsets[i + 1])
+  private final int[] postings;  // 단어 인덱스 (bigram 등장마다 하나, bigram별 오름차순)
+
+  private WordGramIndex(String[] normalizedTexts, int[] grams, int[] offsets,
+      int[] postings) {
+    this.wordCount = normalizedTexts.length;
+    this.normalizedTexts = normalizedTexts;
+    this.grams = grams;
+    this.offsets = offsets;
+    this.postings = postings;
+  }
+
+  /**
+   * 단어 저장소의 텍스트로 색인 생성
+   *
+   * @param words      단어 컬럼 저장소
+   * @param normalizer 텍스트 정규화기 (TextMatcher와 같은 정규화)
+   * @return 색인
+   */
+  public static WordGramIndex build(OcrWordStore words, TextNormalizer normalizer) {
+    if (words == null || words.isEmpty()) {
+      return EMPTY;
+    }
+
+    // (bigram 코드 << 32 | 단어 인덱스) 정렬 → bigram별 단어 인덱스 오름차순
+    long[] entries = new long[16];
+    int count = 0;
+    String[] normalizedTexts = new String[words.size()];
+    for (int w = 0; w < words.size(); w++) {
+      String text = words.getText(w);
+      if (text == null) {
+        continue;
+      }
+      String normalized = normalizer.normalize(text);
+      normalizedTexts[w] = normalized;
+      for (int j = 1; j < normalized.length(); j++) {
+        if (count == entries.length) {
+          entries = Arrays.copyOf(entries, count * 2);
+        }
+        int code = (normalized.charAt(j - 1) << 16) | normalized.charAt(j);
+        entries[count++] = ((long) code << 32) | w;
+      }
+    }
+    Arrays.sort(entries, 0, count);
+
+    int[] grams = new int[count];
+    int[] offsets = new int[count + 1];
+    int[] postings = new int[count];
+    int distinct = 0;
+    for (int i = 0; i < count; i++) {
+      int code = (int) (entries[i] >>> 32);
+      if (i == 0 || code != grams[distinct - 1]) {
+        grams[distinct] = code;
+        offsets[distinct] = i;
+        distinct++;
+      }
+      postings[i] = (int) entries[i];
+    }
+    offsets[distinct] = count;
+    return new WordGramIndex(normalizedTexts, Arrays.copyOf(grams, distinct),
+        Arrays.copyOf(offsets, distinct + 1), postings);
+  }
+
+  /**
+   * 키워드 중 하나라도 매칭될 수 있는 단어 찾기
+   * 후보가 아닌 단어는 정확 매칭/Fuzzy Matching 모두 실패함이 보장됨
+   *
+   * @param keywords  컴파일된 키워드 집합
+   * @param threshold 유사도 임계값
+   * @return 후보 단어 인덱스 (가지치기할 수 없는 짧은 키워드가 있으면 모든 단어)
+   */
+  public BitSet findCandidates(KeywordSet keywords, double threshold) {
+    BitSet candidates = new BitSet(wordCount);
+    int[] shared = null;
+    for (int i = 0; i < keywords.size(); i++) {
+      // 정확 매칭은 거리 0과 같으므로 Fuzzy가 허용되지 않아도 0으로 계산
+      int maxDistance = Math.max(0, keywords.getMaxDistance(i, threshold));
+      int required = keywords.getLength(i) - 1 - KeywordSet.Q_GRAM_LENGTH * maxDistance;
+      if (required <= 0) {
+        candidates.set(0, wordCount);
+        return candidates;
+      }
+
+      if (shared == null) {
+        shared = new int[wordCount];
+      } else {
+        Arrays.fill(shared, 0);
+      }
+      collect(keywords.getQGrams(i), required, shared, candidates);
+    }
+    return candidates;
+  }
+
+  public int getWordCount() {
+    return wordCount;
+  }
+
+  /**
+   * 정규화된 단어 텍스트 (라벨 매칭 시 단어를 다시 정규화하지 않도록 색인 생성 때 보관)
+   *
+   * @param index 단어 인덱스
+   * @return 정규화된 텍스트 (텍스트가 없으면 null)
+   */
+  public String getNormalizedText(int index) {
+    return normalizedTexts[index];
+  }
+
+  /**
+   * 키워드 bigram을 공유 횟수만큼(키워드 내 개수까지) 단어별로 누적하고 required에 도달한 단어 표시
+   */
+  private void collect(int[] keywordGrams, int required, int[] shared, BitSet candidates) {
+    int i = 0;
+    while (i < keywordGrams.length) {
+      int code = keywordGrams[i];
+      int need = 1;
+      while (i + need < keywordGrams.length && keywordGrams[i + need] == code) {
+        need++;
+      }
+      i += need;
+
+      int gram = Arrays.binarySearch(grams, code);
+      if (gram < 0) {
+        continue;
+      }
+      int p = offsets[gram];
+      int end = offsets[gram + 1];
+      while (p < end) {
+        int word = postings[p];
+        int run = 1;
+        while (p + run < end && postings[p + run] == word) {
+          run++;
+        }
+        p += run;
+
+        int before = shared[word];
+        shared[word] = before + Math.min(run, need);
+        if (before < required && shared[word] >= required) {
+          candidates.set(word);
+        }
+      }
+    }
+  }
+}
@@ -9,6 +9,7 @@ import me.eunseong.ocrtextparser.extractor.weight.NetWeightExtractor;
 import me.eunseong.ocrtextparser.extractor.weight.TotalWeightExtractor;
 import me.eunseong.ocrtextparser.extractor.weight.VehicleWeightExtractor;
 import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.generator.SyntheticSlipGenerator;
 import me.eunseong.ocrtextparser.util.OcrDocumentLoader;
 import me.eunseong.ocrtextparser.util.PositionHelper;
 import me.eunseong.ocrtextparser.util.TextMatcher;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,6 +32,9 @@ class FieldExtractorIntegrationTest {
   private VehicleNumberExtractor vehicleExtractor;
   private WeightExtractor weightExtractor;
   private CompanyExtractor companyExtractor;
+  private TotalWeightExtractor totalWeightExtractor;
+  private VehicleWeightExtractor vehicleWeightExtractor;
+  private NetWeightExtractor netWeightExtractor;
 
   @BeforeEach
   void setUp() {
@@ -45,7 +50,7 @@ class FieldExtractorIntegrationTest {
 
     // 전략 생성
     List<ExtractionStrategy> strategies = List.of(
-        new TextBasedStrategy(textMatcher, textNormalizer),
+        new TextBasedStrategy(textMatcher),
         new PositionBasedStrategy(textMatcher, positionHelper)
     );
 
@@ -55,12 +60,9 @@ class FieldExtractorIntegrationTest {
     companyExtractor = new CompanyExtractor(strategies, textNormalizer);
 
     // Weight Extractor 생성
-    TotalWeightExtractor totalWeightExtractor =
-        new TotalWeightExtractor(strategies, textNormalizer);
-    VehicleWeightExtractor vehicleWeightExtractor =
-        new VehicleWeightExtractor(strategies, textNormalizer);
-    NetWeightExtractor netWeightExtractor =
-        new NetWeightExtractor(strategies, textNormalizer);
+    totalWeightExtractor = new TotalWeightExtractor(strategies, textNormalizer);
+    vehicleWeightExtractor = new VehicleWeightExtractor(strategies, textNormalizer);
+    netWeightExtractor = new NetWeightExtractor(strategies, textNormalizer);
 
     weightExtractor = new WeightExtractor(
         totalWeightExtractor,
@@ -125,6 +127,38 @@ class FieldExtractorIntegrationTest {
     }
   }
 
+  @Test
+  void weightExtractorMatchesIndividualExtractors() throws Exception {
+    // given
+    List<OcrDocument> documents = new ArrayList<>();
+    for (int i = 1; i <= 4; i++) {
+      documents.add(loader.loadFromResource("samples/sample_0" + i + ".json"));
+    }
+    SyntheticSlipGenerator.builder()
+        .seed(17L)
+        .wordCount(300)
+        .noiseRate(0.2)
+        .build()
+        .generateBatch(20)
+        .forEach(slip -> documents.add(slip.getDocument()));
+
+    for (OcrDocument document : documents) {
+      // when
+      Map<String, Weight> weights = weightExtractor.extract(document).orElseThrow();
+
+      // then (세 무게를 한 번에 추출해도 추출기별 결과와 같음)
+      assertSameWeight(weights.get("total"), totalWeightExtractor.extract(document));
+      assertSameWeight(weights.get("vehicle"), vehicleWeightExtractor.extract(document));
+      assertSameWeight(weights.get("net"), netWeightExtractor.extract(document));
+    }
+  }
+
+  private void assertSameWeight(Weight actual, Optional<Weight> expected) {
+    assertThat(actual).isNotNull();
+    assertThat(actual.getValue()).isEqualTo(expected.get().getValue());
+    assertThat(actual.getMeasuredAt()).isEqualTo(expected.get().getMeasuredAt());
+  }
+
   /**
    * 추출 결과 출력
    */
@@ -2,6 +2,10 @@ package me.eunseong.ocrtextparser.extractor.strategy;
 
 import me.eunseong.ocrtextparser.config.ParserProperties;
 import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.pipeline.DocumentFacts;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
+import me.eunseong.ocrtextparser.util.KeywordSet;
+import me.eunseong.ocrtextparser.util.NormalizedText;
 import me.eunseong.ocrtextparser.util.TextMatcher;
 import me.eunseong.ocrtextparser.util.TextNormalizer;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +30,7 @@ class TextBasedStrategyTest {
     ParserProperties parserProperties = new ParserProperties();
     parserProperties.setFuzzyMatchThreshold(0.75);
     textMatcher = new TextMatcher(textNormalizer, parserProperties);
-    strategy = new TextBasedStrategy(textMatcher, textNormalizer);
+    strategy = new TextBasedStrategy(textMatcher);
   }
 
   @Test
@@ -41,7 +45,7 @@ class TextBasedStrategyTest {
     OcrDocument document = OcrDocument.builder()
         .lines(lines)
         .build();
-    String[] keywords = {"차량번호"};
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
 
     // when
     Optional<String> result = strategy.extract(document, keywords);
@@ -61,7 +65,7 @@ class TextBasedStrategyTest {
     OcrDocument document = OcrDocument.builder()
         .lines(lines)
         .build();
-    String[] keywords = {"차량번호", "차량 번호"};
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호", "차량 번호"}, textNormalizer);
 
     // when
     Optional<String> result = strategy.extract(document, keywords);
@@ -81,7 +85,7 @@ class TextBasedStrategyTest {
     OcrDocument document = OcrDocument.builder()
         .lines(lines)
         .build();
-    String[] keywords = {"차량번호"};
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
 
     // when
     Optional<String> result = strategy.extract(document, keywords);
@@ -91,6 +95,25 @@ class TextBasedStrategyTest {
     assertThat(result.get()).contains("5678");
   }
 
+  @Test
+  @DisplayName("띄어 쓴 라벨 뒤의 값은 원본 라인 위치에서 바로 추출")
+  void extractAfterSpacedLabel() {
+    // given
+    List<String> lines = Arrays.asList(
+        "거 래 처: 곰욕환경폐기물"
+    );
+    OcrDocument document = OcrDocument.builder()
+        .lines(lines)
+        .build();
+    KeywordSet keywords = KeywordSet.compile(new String[]{"거래처", "상호"}, textNormalizer);
+
+    // when
+    Optional<String> result = strategy.extract(document, keywords);
+
+    // then
+    assertThat(result).contains("곰욕환경폐기물");
+  }
+
   @Test
   @DisplayName("키워드가 없으면 추출 실패")
   void noKeywordFound() {
@@ -102,7 +125,7 @@ class TextBasedStrategyTest {
     OcrDocument document = OcrDocument.builder()
         .lines(lines)
         .build();
-    String[] keywords = {"차량번호"};
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
 
     // when
     Optional<String> result = strategy.extract(document, keywords);
@@ -139,4 +162,61 @@ class TextBasedStrategyTest {
     // when & then
     assertThat(strategy.getPriority()).isEqualTo(1);
   }
+
+  @Test
+  @DisplayName("여러 키워드 집합을 한 번에 추출하면 집합별 추출과 같은 결과")
+  void extractAllMatchesSingleExtract() {
+    // given
+    OcrDocument document = OcrDocument.builder()
+        .lines(Arrays.asList(
+            "계 량 증 명 서",
+            "실 중 량: 5,010 kg",
+            "차중량:",
+            "05:36:01 7,470 kg",
+            "총중량: 05:26:18 12,480 kg"
+        ))
+        .build();
+    List<KeywordSet> keywordSets = List.of(
+        KeywordSet.compile(new String[]{"실중량"}, textNormalizer),
+        KeywordSet.compile(new String[]{"차중량", "공차"}, textNormalizer),
+        KeywordSet.compile(new String[]{"총중량"}, textNormalizer),
+        KeywordSet.compile(new String[]{"거래처"}, textNormalizer),
+        KeywordSet.EMPTY);
+
+    // when
+    List<Optional<String>> values = strategy.extractAll(
+        ParsingContext.builder().document(document).build(), keywordSets);
+
+    // then
+    assertThat(values.get(0).get()).isEqualTo("5,010 kg");
+    assertThat(values.get(1).get()).isEqualTo("7,470 kg");
+    assertThat(values.get(2).get()).isEqualTo("12,480 kg");
+    assertThat(values.get(3)).isEmpty();
+    assertThat(values.get(4)).isEmpty();
+    for (int i = 0; i < 4; i++) {
+      assertThat(values.get(i)).isEqualTo(strategy.extract(document, keywordSets.get(i)));
+    }
+  }
+
+  @Test
+  @DisplayName("컨텍스트의 정규화된 라인(원본 위치 매핑)에서 값을 자름")
+  void slicesFromSharedNormalizedLines() {
+    // given
+    OcrDocument document = OcrDocument.builder()
+        .lines(List.of("계근표", "차 량 번 호: 8713"))
+        .build();
+    ParsingContext context = ParsingContext.builder().document(document).build();
+    List<NormalizedText> normalizedLines = List.of(
+        textNormalizer.normalizeWithOffsets("계근표"),
+        textNormalizer.normalizeWithOffsets("차 량 번 호: 9999"));
+    context.putFact(DocumentFacts.NORMALIZED_LINES, normalizedLines);
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
+
+    // when
+    Optional<String> result = strategy.extract(context, keywords);
+
+    // then
+    // 라인을 다시 정규화하지 않고 공유된 매핑으로 원본을 자름
+    assertThat(result).contains("9999");
+  }
 }
@@ -0,0 +1,184 @@
+package me.eunseong.ocrtextparser.generator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import java.util.List;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.ParsingResult;
+import me.eunseong.ocrtextparser.domain.WeighingSlip;
+import me.eunseong.ocrtextparser.domain.Weight;
+import me.eunseong.ocrtextparser.extractor.AbstractFieldExtractor;
+import me.eunseong.ocrtextparser.extractor.CompanyExtractor;
+import me.eunseong.ocrtextparser.extractor.DateExtractor;
+import me.eunseong.ocrtextparser.extractor.ExtractorRegistry;
+import me.eunseong.ocrtextparser.extractor.FieldLabelScanner;
+import me.eunseong.ocrtextparser.extractor.VehicleNumberExtractor;
+import me.eunseong.ocrtextparser.extractor.WeightExtractor;
+import me.eunseong.ocrtextparser.extractor.strategy.ExtractionStrategy;
+import me.eunseong.ocrtextparser.extractor.strategy.PositionBasedStrategy;
+import me.eunseong.ocrtextparser.extractor.strategy.TextBasedStrategy;
+import me.eunseong.ocrtextparser.extractor.weight.NetWeightExtractor;
+import me.eunseong.ocrtextparser.extractor.weight.TotalWeightExtractor;
+import me.eunseong.ocrtextparser.extractor.weight.VehicleWeightExtractor;
+import me.eunseong.ocrtextparser.normalizer.DateNormalizer;
+import me.eunseong.ocrtextparser.normalizer.WeightNormalizer;
+import me.eunseong.ocrtextparser.pipeline.DefaultParsingPipeline;
+import me.eunseong.ocrtextparser.template.LayoutTemplateMatcher;
+import me.eunseong.ocrtextparser.template.LayoutTemplateStore;
+import me.eunseong.ocrtextparser.util.OcrDocumentStreamReader;
+import me.eunseong.ocrtextparser.util.PositionHelper;
+import me.eunseong.ocrtextparser.util.TextMatcher;
+import me.eunseong.ocrtextparser.util.TextNormalizer;
+import me.eunseong.ocrtextparser.validator.BusinessRuleValidator;
+import me.eunseong.ocrtextparser.validator.RequiredFieldValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticSlipGeneratorTest {
+
+  private DefaultParsingPipeline pipeline;
+
+  @BeforeEach
+  void setUp() {
+    TextNormalizer textNormalizer = new TextNormalizer();
+    ParserProperties properties = new ParserProperties();
+    properties.setFuzzyMatchThreshold(0.75);
+
+    TextMatcher textMatcher = new TextMatcher(textNormalizer, properties);
+    PositionHelper positionHelper = new PositionHelper(properties);
+    List<ExtractionStrategy> strategies = List.of(
+        new TextBasedStrategy(textMatcher),
+        new PositionBasedStrategy(textMatcher, positionHelper)
+    );
+
+    DateExtractor date = new DateExtractor(strategies, textNormalizer);
+    VehicleNumberExtractor vehicleNumber = new VehicleNumberExtractor(strategies, textNormalizer);
+    CompanyExtractor company = new CompanyExtractor(strategies, textNormalizer);
+    TotalWeightExtractor totalWeight = new TotalWeightExtractor(strategies, textNormalizer);
+    VehicleWeightExtractor vehicleWeight = new VehicleWeightExtractor(strategies, textNormalizer);
+    NetWeightExtractor netWeight = new NetWeightExtractor(strategies, textNormalizer);
+
+    List<AbstractFieldExtractor<?>> fieldExtractors =
+        List.of(date, vehicleNumber, company, totalWeight, vehicleWeight, netWeight);
+    FieldLabelScanner labelScanner = new FieldLabelScanner(fieldExtractors);
+
+    pipeline = new DefaultParsingPipeline(
+        new ExtractorRegistry(date, vehicleNumber,
+            new WeightExtractor(totalWeight, vehicleWeight, netWeight), company),
+        labelScanner,
+        new DateNormalizer(),
+        new WeightNormalizer(),
+        List.of(new RequiredFieldValidator(), new BusinessRuleValidator(properties)),
+        properties,
+        new LayoutTemplateMatcher(fieldExtractors, labelScanner, textNormalizer,
+            new LayoutTemplateStore(properties), properties));
+  }
+
+  @Test
+  @DisplayName("같은 seed와 index면 같은 문서 생성")
+  void deterministic() {
+    // given
+    SyntheticSlipGenerator generator = SyntheticSlipGenerator.builder()
+        .seed(42L)
+        .wordCount(300)
+        .noiseRate(0.2)
+        .build();
+
+    // when
+    SyntheticSlip first = generator.generate(7);
+    SyntheticSlip second = generator.generate(7);
+    SyntheticSlip other = generator.generate(8);
+
+    // then
+    assertThat(first.getDocument().getText()).isEqualTo(second.getDocument().getText());
+    assertThat(SyntheticSlipGenerator.toOcrJson(first.getDocument()))
+        .isEqualTo(SyntheticSlipGenerator.toOcrJson(second.getDocument()));
+    assertThat(first.getDocument().getText()).isNotEqualTo(other.getDocument().getText());
+  }
+
+  @Test
+  @DisplayName("목표 단어 수만큼 단어 생성")
+  void wordCount() {
+    for (int wordCount : new int[]{10, 1_000, 100_000}) {
+      // when
+      OcrDocument document = SyntheticSlipGenerator.builder()
+          .wordCount(wordCount)
+          .layout(LayoutVariant.SAME_LINE)
+          .build()
+          .generate()
+          .getDocument();
+
+      // then
+      assertThat(document.getWords().size()).isGreaterThanOrEqualTo(Math.min(wordCount, 10));
+      assertThat(document.getWords().size()).isLessThanOrEqualTo(Math.max(wordCount, 30));
+      assertThat(document.getLines().size()).isGreaterThanOrEqualTo(7);
+    }
+  }
+
+  @Test
+  @DisplayName("모든 레이아웃 변형에서 파싱 결과가 기대값과 일치")
+  void parsesToExpectedSlip() {
+    for (LayoutVariant layout : LayoutVariant.values()) {
+      // given
+      SyntheticSlipGenerator generator = SyntheticSlipGenerator.builder()
+          .seed(layout.ordinal())
+          .wordCount(400)
+          .layout(layout)
+          .noiseRate(0.15)
+          .build();
+
+      for (SyntheticSlip slip : generator.generateBatch(20)) {
+        // when
+        ParsingResult result = pipeline.process(slip.getDocument());
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertSlip(result.getData(), slip.getExpected());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("OCR 응답 JSON으로 기록 후 다시 읽으면 같은 문서")
+  void jsonRoundTrip() throws Exception {
+    // given
+    SyntheticSlip slip = SyntheticSlipGenerator.builder()
+        .seed(3L)
+        .noiseRate(0.1)
+        .build()
+        .generate();
+    String json = SyntheticSlipGenerator.toOcrJson(slip.getDocument());
+
+    // when
+    OcrDocument document;
+    try (JsonParser parser = new JsonFactory().createParser(json)) {
+      document = new OcrDocumentStreamReader().read(parser);
+    }
+
+    // then
+    assertThat(document.getText()).isEqualTo(slip.getDocument().getText());
+    assertThat(document.getLines()).isEqualTo(slip.getDocument().getLines());
+    assertThat(document.getWords().size()).isEqualTo(slip.getDocument().getWords().size());
+    assertThat(document.getWords().get(5).getX())
+        .isEqualTo(slip.getDocument().getWords().get(5).getX());
+    assertSlip(pipeline.process(document).getData(), slip.getExpected());
+  }
+
+  private void assertSlip(WeighingSlip actual, WeighingSlip expected) {
+    assertThat(actual.getDate()).isEqualTo(expected.getDate());
+    assertThat(actual.getVehicleNumber()).isEqualTo(expected.getVehicleNumber());
+    assertThat(actual.getCompany()).isEqualTo(expected.getCompany());
+    assertWeight(actual.getTotalWeight(), expected.getTotalWeight());
+    assertWeight(actual.getVehicleWeight(), expected.getVehicleWeight());
+    assertWeight(actual.getNetWeight(), expected.getNetWeight());
+  }
+
+  // 라벨과 같은 줄의 시간은 값 추출 시 제거되므로 무게 값만 비교
+  private void assertWeight(Weight actual, Weight expected) {
+    assertThat(actual.getValue()).isEqualTo(expected.getValue());
+  }
+}
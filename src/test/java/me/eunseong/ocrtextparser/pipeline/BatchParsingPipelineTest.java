@@ -0,0 +1,129 @@
+package me.eunseong.ocrtextparser.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.ParsingResult;
+import me.eunseong.ocrtextparser.domain.WeighingSlip;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchParsingPipelineTest {
+
+  private final Set<String> workerThreads = ConcurrentHashMap.newKeySet();
+
+  private BatchParsingPipeline batchPipeline;
+
+  @BeforeEach
+  void setUp() {
+    ParserProperties properties = new ParserProperties();
+    properties.getBatch().setParallelism(4);
+    properties.getBatch().setStreamChunkSize(16);
+
+    // 문서 텍스트를 회사명으로 돌려주고, "boom" 문서는 예외 발생
+    ParsingPipeline pipeline = document -> {
+      workerThreads.add(Thread.currentThread().getName());
+      if ("boom".equals(document.getText())) {
+        throw new IllegalStateException("boom");
+      }
+      if ("invalid".equals(document.getText())) {
+        return ParsingResult.failure("필수 필드 누락");
+      }
+      return ParsingResult.success(
+          WeighingSlip.builder().company(document.getText()).build());
+    };
+    batchPipeline = new BatchParsingPipeline(pipeline, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    batchPipeline.close();
+  }
+
+  @Test
+  @DisplayName("입력 순서대로 결과 반환 + 문서별 실패 격리")
+  void processBatch() {
+    // given
+    List<OcrDocument> documents = new ArrayList<>(documents(100));
+    documents.set(10, document("boom"));
+    documents.set(20, document("invalid"));
+
+    // when
+    BatchParsingResult result = batchPipeline.processBatch(documents);
+
+    // then
+    List<ParsingResult> results = result.getResults();
+    assertThat(results).hasSize(100);
+    assertThat(results.get(0).getData().getCompany()).isEqualTo("doc-0");
+    assertThat(results.get(99).getData().getCompany()).isEqualTo("doc-99");
+    assertThat(results.get(10).isSuccess()).isFalse();
+    assertThat(results.get(10).getErrors().get(0)).contains("boom");
+    assertThat(results.get(20).isSuccess()).isFalse();
+    assertThat(results.get(11).getData().getCompany()).isEqualTo("doc-11");
+
+    BatchParsingStats stats = result.getStats();
+    assertThat(stats.getDocuments()).isEqualTo(100L);
+    assertThat(stats.getSucceeded()).isEqualTo(98L);
+    assertThat(stats.getFailed()).isEqualTo(2L);
+    assertThat(stats.getExceptions()).isEqualTo(1L);
+    assertThat(stats.getDocumentsPerSecond()).isGreaterThan(0.0);
+    assertThat(stats.getMinLatencyNanos()).isLessThanOrEqualTo(stats.getP50LatencyNanos());
+    assertThat(stats.getP50LatencyNanos()).isLessThanOrEqualTo(stats.getP99LatencyNanos());
+    assertThat(stats.getP99LatencyNanos()).isLessThanOrEqualTo(stats.getMaxLatencyNanos());
+
+    assertThat(workerThreads).allMatch(name -> name.startsWith("batch-parsing-"));
+  }
+
+  @Test
+  @DisplayName("스트림을 묶음 단위로 파싱하고 입력 순서대로 전달")
+  void processStream() {
+    // given
+    List<String> companies = new ArrayList<>();
+
+    // when
+    BatchParsingStats stats = batchPipeline.processStream(documents(50).stream(),
+        result -> companies.add(result.getData().getCompany()));
+
+    // then
+    assertThat(companies).hasSize(50);
+    assertThat(companies.get(0)).isEqualTo("doc-0");
+    assertThat(companies.get(17)).isEqualTo("doc-17");
+    assertThat(companies.get(49)).isEqualTo("doc-49");
+    assertThat(stats.getDocuments()).isEqualTo(50L);
+    assertThat(stats.getSucceeded()).isEqualTo(50L);
+  }
+
+  @Test
+  @DisplayName("빈 배치는 빈 결과와 0 통계")
+  void emptyBatch() {
+    // when
+    BatchParsingResult result = batchPipeline.processBatch(List.of());
+
+    // then
+    assertThat(result.getResults()).isEmpty();
+    assertThat(result.getStats().getDocuments()).isEqualTo(0L);
+    assertThat(result.getStats().getMaxLatencyNanos()).isEqualTo(0L);
+  }
+
+  private List<OcrDocument> documents(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> document("doc-" + i))
+        .toList();
+  }
+
+  private OcrDocument document(String text) {
+    return OcrDocument.builder()
+        .text(text)
+        .lines(List.of(text))
+        .words(List.of())
+        .build();
+  }
+}
@@ -0,0 +1,231 @@
+package me.eunseong.ocrtextparser.pipeline;
+
+import java.util.List;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.ParsingResult;
+import me.eunseong.ocrtextparser.domain.WeighingSlip;
+import me.eunseong.ocrtextparser.extractor.AbstractFieldExtractor;
+import me.eunseong.ocrtextparser.extractor.CompanyExtractor;
+import me.eunseong.ocrtextparser.extractor.DateExtractor;
+import me.eunseong.ocrtextparser.extractor.ExtractorRegistry;
+import me.eunseong.ocrtextparser.extractor.FieldLabelScanner;
+import me.eunseong.ocrtextparser.extractor.VehicleNumberExtractor;
+import me.eunseong.ocrtextparser.extractor.WeightExtractor;
+import me.eunseong.ocrtextparser.extractor.strategy.ExtractionStrategy;
+import me.eunseong.ocrtextparser.extractor.strategy.PositionBasedStrategy;
+import me.eunseong.ocrtextparser.extractor.strategy.TextBasedStrategy;
+import me.eunseong.ocrtextparser.extractor.weight.NetWeightExtractor;
+import me.eunseong.ocrtextparser.extractor.weight.TotalWeightExtractor;
+import me.eunseong.ocrtextparser.extractor.weight.VehicleWeightExtractor;
+import me.eunseong.ocrtextparser.generator.LayoutVariant;
+import me.eunseong.ocrtextparser.generator.SyntheticSlip;
+import me.eunseong.ocrtextparser.generator.SyntheticSlipGenerator;
+import me.eunseong.ocrtextparser.normalizer.DateNormalizer;
+import me.eunseong.ocrtextparser.normalizer.WeightNormalizer;
+import me.eunseong.ocrtextparser.template.LayoutTemplateMatcher;
+import me.eunseong.ocrtextparser.template.LayoutTemplateStore;
+import me.eunseong.ocrtextparser.template.TemplateStats;
+import me.eunseong.ocrtextparser.util.OcrDocumentLoader;
+import me.eunseong.ocrtextparser.util.PositionHelper;
+import me.eunseong.ocrtextparser.util.TextMatcher;
+import me.eunseong.ocrtextparser.util.TextNormalizer;
+import me.eunseong.ocrtextparser.validator.BusinessRuleValidator;
+import me.eunseong.ocrtextparser.validator.RequiredFieldValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultParsingPipelineTest {
+
+  @Test
+  @DisplayName("병렬 필드 추출은 순차 추출과 같은 결과")
+  void parallelExtractionMatchesSequential() throws Exception {
+    // given
+    DefaultParsingPipeline sequential = pipeline(properties(false, 0));
+    DefaultParsingPipeline parallel = pipeline(properties(true, 0));
+    List<SyntheticSlip> slips = SyntheticSlipGenerator.builder()
+        .seed(16L)
+        .wordCount(2_000)
+        .noiseRate(0.1)
+        .build()
+        .generateBatch(8);
+
+    for (SyntheticSlip slip : slips) {
+      // when
+      ParsingResult expected = sequential.process(slip.getDocument());
+      ParsingResult actual = parallel.process(copy(slip.getDocument()));
+
+      // then
+      assertSameResult(actual, expected);
+    }
+
+    OcrDocument sample = new OcrDocumentLoader().loadFromResource("samples/sample_01.json");
+    assertSameResult(parallel.process(sample), sequential.process(copy(sample)));
+  }
+
+  @Test
+  @DisplayName("배치 파싱 워커 안에서도 병렬 필드 추출")
+  void parallelExtractionInsideBatch() {
+    // given
+    ParserProperties properties = properties(true, 0);
+    properties.getBatch().setParallelism(2);
+    List<OcrDocument> documents = SyntheticSlipGenerator.builder()
+        .seed(17L)
+        .wordCount(500)
+        .build()
+        .generateBatch(20)
+        .stream()
+        .map(SyntheticSlip::getDocument)
+        .toList();
+
+    // when
+    BatchParsingResult result;
+    try (BatchParsingPipeline batch = new BatchParsingPipeline(pipeline(properties), properties)) {
+      result = batch.processBatch(documents);
+    }
+
+    // then
+    assertThat(result.getStats().getSucceeded()).isEqualTo(20L);
+    assertThat(result.getStats().getExceptions()).isEqualTo(0L);
+  }
+
+  @Test
+  @DisplayName("학습된 레이아웃은 템플릿 영역에서 추출해도 일반 추출과 같은 결과")
+  void layoutTemplateMatchesGenericExtraction() {
+    // given
+    ParserProperties properties = properties(false, 0);
+    properties.getTemplate().setEnabled(true);
+    LayoutTemplateStore store = new LayoutTemplateStore(properties);
+    DefaultParsingPipeline templated = pipeline(properties, store);
+    DefaultParsingPipeline generic = pipeline(properties(false, 0));
+
+    for (LayoutVariant layout : List.of(LayoutVariant.SAME_LINE, LayoutVariant.NEXT_LINE,
+        LayoutVariant.TIME_PREFIXED)) {
+      List<SyntheticSlip> slips = SyntheticSlipGenerator.builder()
+          .seed(18L)
+          .wordCount(10)
+          .layout(layout)
+          .build()
+          .generateBatch(5);
+
+      for (SyntheticSlip slip : slips) {
+        // when
+        ParsingResult expected = generic.process(slip.getDocument());
+        ParsingResult actual = templated.process(copy(slip.getDocument()));
+
+        // then
+        assertSameResult(actual, expected);
+      }
+    }
+
+    // 레이아웃마다 첫 문서로 학습, 나머지는 템플릿 적중
+    TemplateStats stats = store.getStats();
+    assertThat(stats.getLookups()).isEqualTo(15L);
+    assertThat(stats.getLearned()).isEqualTo(3L);
+    assertThat(stats.getHits()).isEqualTo(12L);
+    assertThat(stats.getRejected()).isEqualTo(0L);
+    assertThat(stats.getTemplates()).isEqualTo(3);
+    assertThat(stats.getHitRate()).isEqualTo(0.8);
+  }
+
+  @Test
+  @DisplayName("라벨 단어가 없는 문서는 지문 없이 일반 추출")
+  void layoutTemplateSkipsDocumentsWithoutLabelWords() {
+    // given
+    ParserProperties properties = properties(false, 0);
+    properties.getTemplate().setEnabled(true);
+    LayoutTemplateStore store = new LayoutTemplateStore(properties);
+    DefaultParsingPipeline templated = pipeline(properties, store);
+    DefaultParsingPipeline generic = pipeline(properties(false, 0));
+    SyntheticSlip slip = SyntheticSlipGenerator.builder()
+        .seed(19L)
+        .wordCount(10)
+        .layout(LayoutVariant.SPACED_LABEL)
+        .build()
+        .generate();
+
+    // when
+    ParsingResult actual = templated.process(slip.getDocument());
+
+    // then
+    assertSameResult(actual, generic.process(copy(slip.getDocument())));
+    assertThat(store.getStats().getLookups()).isEqualTo(0L);
+    assertThat(store.size()).isEqualTo(0);
+  }
+
+  private void assertSameResult(ParsingResult actual, ParsingResult expected) {
+    assertThat(actual.isSuccess()).isEqualTo(expected.isSuccess());
+    assertThat(actual.getWarnings()).isEqualTo(expected.getWarnings());
+
+    WeighingSlip actualSlip = actual.getData();
+    WeighingSlip expectedSlip = expected.getData();
+    assertThat(actualSlip.getDate()).isEqualTo(expectedSlip.getDate());
+    assertThat(actualSlip.getVehicleNumber()).isEqualTo(expectedSlip.getVehicleNumber());
+    assertThat(actualSlip.getCompany()).isEqualTo(expectedSlip.getCompany());
+    assertThat(actualSlip.getTotalWeight().getValue())
+        .isEqualTo(expectedSlip.getTotalWeight().getValue());
+    assertThat(actualSlip.getTotalWeight().getMeasuredAt())
+        .isEqualTo(expectedSlip.getTotalWeight().getMeasuredAt());
+    assertThat(actualSlip.getVehicleWeight().getValue())
+        .isEqualTo(expectedSlip.getVehicleWeight().getValue());
+    assertThat(actualSlip.getNetWeight().getValue())
+        .isEqualTo(expectedSlip.getNetWeight().getValue());
+  }
+
+  // 토큰/단어 저장소 캐시가 없는 사본
+  private OcrDocument copy(OcrDocument document) {
+    return OcrDocument.builder()
+        .text(document.getText())
+        .lines(document.getLines())
+        .words(document.getWords())
+        .confidence(document.getConfidence())
+        .build();
+  }
+
+  private ParserProperties properties(boolean parallel, int minCost) {
+    ParserProperties properties = new ParserProperties();
+    properties.setFuzzyMatchThreshold(0.75);
+    properties.getExtraction().setParallel(parallel);
+    properties.getExtraction().setParallelMinCost(minCost);
+    return properties;
+  }
+
+  private DefaultParsingPipeline pipeline(ParserProperties properties) {
+    return pipeline(properties, new LayoutTemplateStore(properties));
+  }
+
+  private DefaultParsingPipeline pipeline(ParserProperties properties,
+      LayoutTemplateStore templateStore) {
+    TextNormalizer textNormalizer = new TextNormalizer();
+    TextMatcher textMatcher = new TextMatcher(textNormalizer, properties);
+    PositionHelper positionHelper = new PositionHelper(properties);
+    List<ExtractionStrategy> strategies = List.of(
+        new TextBasedStrategy(textMatcher),
+        new PositionBasedStrategy(textMatcher, positionHelper)
+    );
+
+    DateExtractor date = new DateExtractor(strategies, textNormalizer);
+    VehicleNumberExtractor vehicleNumber = new VehicleNumberExtractor(strategies, textNormalizer);
+    CompanyExtractor company = new CompanyExtractor(strategies, textNormalizer);
+    TotalWeightExtractor totalWeight = new TotalWeightExtractor(strategies, textNormalizer);
+    VehicleWeightExtractor vehicleWeight = new VehicleWeightExtractor(strategies, textNormalizer);
+    NetWeightExtractor netWeight = new NetWeightExtractor(strategies, textNormalizer);
+
+    List<AbstractFieldExtractor<?>> fieldExtractors =
+        List.of(date, vehicleNumber, company, totalWeight, vehicleWeight, netWeight);
+    FieldLabelScanner labelScanner = new FieldLabelScanner(fieldExtractors);
+
+    return new DefaultParsingPipeline(
+        new ExtractorRegistry(date, vehicleNumber,
+            new WeightExtractor(totalWeight, vehicleWeight, netWeight), company),
+        labelScanner,
+        new DateNormalizer(),
+        new WeightNormalizer(),
+        List.of(new RequiredFieldValidator(), new BusinessRuleValidator(properties)),
+        properties,
+        new LayoutTemplateMatcher(fieldExtractors, labelScanner, textNormalizer,
+            templateStore, properties));
+  }
+}
@@ -0,0 +1,62 @@
+package me.eunseong.ocrtextparser.pipeline;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+  @Test
+  @DisplayName("백분위수는 정렬 결과와 상대 오차 1/32 이내, 최소/평균/최대는 정확한 값")
+  void percentilesWithinBucketError() {
+    // given
+    Random random = new Random(15);
+    long[] latencies = new long[20_000];
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < latencies.length; i++) {
+      // 수 마이크로초 ~ 수십 밀리초 (로그 분포)
+      latencies[i] = (long) Math.exp(7 + random.nextDouble() * 10);
+      histogram.record(latencies[i]);
+    }
+
+    // when
+    Arrays.sort(latencies);
+
+    // then
+    for (double fraction : new double[]{0.50, 0.95, 0.99}) {
+      long expected = latencies[(int) Math.ceil(fraction * latencies.length) - 1];
+      long actual = histogram.percentile(fraction);
+      assertThat(actual).isGreaterThanOrEqualTo(expected);
+      assertThat(actual - expected).isLessThanOrEqualTo(expected / 32);
+    }
+    assertThat(histogram.getCount()).isEqualTo((long) latencies.length);
+    assertThat(histogram.getMin()).isEqualTo(latencies[0]);
+    assertThat(histogram.getMax()).isEqualTo(latencies[latencies.length - 1]);
+    assertThat(histogram.getMean())
+        .isEqualTo(Arrays.stream(latencies).sum() / latencies.length);
+  }
+
+  @Test
+  @DisplayName("작은 값은 정확히 기록, 기록이 없으면 0")
+  void smallValuesAndEmpty() {
+    // given
+    LatencyHistogram histogram = new LatencyHistogram();
+    LatencyHistogram empty = new LatencyHistogram();
+
+    // when
+    for (long nanos = 1; nanos <= 10; nanos++) {
+      histogram.record(nanos);
+    }
+
+    // then
+    assertThat(histogram.percentile(0.50)).isEqualTo(5L);
+    assertThat(histogram.percentile(0.99)).isEqualTo(10L);
+    assertThat(histogram.getMin()).isEqualTo(1L);
+    assertThat(empty.percentile(0.99)).isEqualTo(0L);
+    assertThat(empty.getMin()).isEqualTo(0L);
+    assertThat(empty.getMean()).isEqualTo(0L);
+  }
+}
@@ -0,0 +1,89 @@
+package me.eunseong.ocrtextparser.pipeline;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.util.NormalizedText;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParsingContextTest {
+
+  @Test
+  @DisplayName("문서 파생 정보는 최초 조회 시 한 번만 계산")
+  void factIsComputedOnce() {
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    FactKey<Integer> lineCount = FactKey.of("lineCount", context -> {
+      calls.incrementAndGet();
+      return context.getDocument().getLines().size();
+    });
+    ParsingContext context = contextOf(List.of("a", "b"));
+
+    // when
+    int first = context.getFact(lineCount);
+    int second = context.getFact(lineCount);
+
+    // then
+    assertThat(first).isEqualTo(2);
+    assertThat(second).isEqualTo(2);
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("문서 날짜, 정규화 라인")
+  void documentFacts() {
+    // given
+    ParsingContext context = contextOf(List.of(
+        "계량일자: 2026-02-02 0016",
+        "품종명랑 05:26:18 12,480 kg",
+        "중 량:",
+        "05:36:01 7,470 kg",
+        "실 중 량: 5,010 kg"
+    ));
+
+    // when
+    List<NormalizedText> normalizedLines = context.getFact(DocumentFacts.NORMALIZED_LINES);
+
+    // then
+    assertThat(context.getFact(DocumentFacts.DOCUMENT_DATE))
+        .contains(LocalDate.of(2026, 2, 2));
+    assertThat(normalizedLines).hasSize(5);
+    assertThat(normalizedLines.get(2).getText()).isEqualTo("중량");
+    assertThat(normalizedLines.get(4).originalAfter(3)).isEqualTo(": 5,010 kg");
+  }
+
+  @Test
+  @DisplayName("여러 스레드가 메타데이터와 파생 정보를 동시에 기록/조회")
+  void concurrentMetadata() {
+    // given
+    ParsingContext context = contextOf(List.of("차량번호: 8713"));
+    FactKey<Integer> lineCount = FactKey.of("lineCount",
+        c -> c.getDocument().getLines().size());
+
+    // when
+    List<Integer> counts = IntStream.range(0, 1000).parallel()
+        .mapToObj(i -> {
+          context.putMetadata("key" + i, i);
+          return context.getFact(lineCount);
+        })
+        .toList();
+
+    // then
+    assertThat(counts).hasSize(1000);
+    assertThat(counts.stream().distinct().toList()).containsExactly(1);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(context.getMetadata("key" + i)).isEqualTo(i);
+    }
+  }
+
+  private ParsingContext contextOf(List<String> lines) {
+    return ParsingContext.builder()
+        .document(OcrDocument.builder().lines(lines).build())
+        .build();
+  }
+}
@@ -0,0 +1,200 @@
+package me.eunseong.ocrtextparser.template;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.Weight;
+import me.eunseong.ocrtextparser.extractor.AbstractFieldExtractor;
+import me.eunseong.ocrtextparser.extractor.CompanyExtractor;
+import me.eunseong.ocrtextparser.extractor.DateExtractor;
+import me.eunseong.ocrtextparser.extractor.FieldLabelScanner;
+import me.eunseong.ocrtextparser.extractor.VehicleNumberExtractor;
+import me.eunseong.ocrtextparser.extractor.WeightExtractor;
+import me.eunseong.ocrtextparser.extractor.strategy.ExtractionStrategy;
+import me.eunseong.ocrtextparser.extractor.strategy.PositionBasedStrategy;
+import me.eunseong.ocrtextparser.extractor.strategy.TextBasedStrategy;
+import me.eunseong.ocrtextparser.extractor.weight.NetWeightExtractor;
+import me.eunseong.ocrtextparser.extractor.weight.TotalWeightExtractor;
+import me.eunseong.ocrtextparser.extractor.weight.VehicleWeightExtractor;
+import me.eunseong.ocrtextparser.generator.LayoutVariant;
+import me.eunseong.ocrtextparser.generator.SyntheticSlip;
+import me.eunseong.ocrtextparser.generator.SyntheticSlipGenerator;
+import me.eunseong.ocrtextparser.pipeline.ParsingContext;
+import me.eunseong.ocrtextparser.util.OcrDocumentLoader;
+import me.eunseong.ocrtextparser.util.PositionHelper;
+import me.eunseong.ocrtextparser.util.TextMatcher;
+import me.eunseong.ocrtextparser.util.TextNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LayoutTemplateMatcherTest {
+
+  private DateExtractor date;
+  private VehicleNumberExtractor vehicleNumber;
+  private CompanyExtractor company;
+  private WeightExtractor weight;
+  private LayoutTemplateStore store;
+  private LayoutTemplateMatcher matcher;
+
+  @BeforeEach
+  void setUp() {
+    TextNormalizer textNormalizer = new TextNormalizer();
+    ParserProperties properties = new ParserProperties();
+    properties.getTemplate().setEnabled(true);
+
+    TextMatcher textMatcher = new TextMatcher(textNormalizer, properties);
+    List<ExtractionStrategy> strategies = List.of(
+        new TextBasedStrategy(textMatcher),
+        new PositionBasedStrategy(textMatcher, new PositionHelper(properties))
+    );
+
+    date = new DateExtractor(strategies, textNormalizer);
+    vehicleNumber = new VehicleNumberExtractor(strategies, textNormalizer);
+    company = new CompanyExtractor(strategies, textNormalizer);
+    TotalWeightExtractor totalWeight = new TotalWeightExtractor(strategies, textNormalizer);
+    VehicleWeightExtractor vehicleWeight = new VehicleWeightExtractor(strategies, textNormalizer);
+    NetWeightExtractor netWeight = new NetWeightExtractor(strategies, textNormalizer);
+    weight = new WeightExtractor(totalWeight, vehicleWeight, netWeight);
+
+    List<AbstractFieldExtractor<?>> extractors =
+        List.of(date, vehicleNumber, company, totalWeight, vehicleWeight, netWeight);
+    store = new LayoutTemplateStore(properties);
+    matcher = new LayoutTemplateMatcher(extractors, new FieldLabelScanner(extractors),
+        textNormalizer, store, properties);
+  }
+
+  @Test
+  @DisplayName("같은 양식이면 값이 달라도 같은 지문, 양식이 다르면 다른 지문")
+  void fingerprint() {
+    // given
+    List<SyntheticSlip> sameLine = slips(LayoutVariant.SAME_LINE, 3);
+
+    // when
+    long first = fingerprint(sameLine.get(0).getDocument());
+
+    // then
+    assertThat(fingerprint(sameLine.get(1).getDocument())).isEqualTo(first);
+    assertThat(fingerprint(sameLine.get(2).getDocument())).isEqualTo(first);
+    // 라벨 위치가 같아도 무게 앞 시간 단어가 있으면 다른 양식
+    assertThat(fingerprint(slips(LayoutVariant.TIME_PREFIXED, 1).get(0).getDocument()))
+        .isNotEqualTo(first);
+    assertThat(fingerprint(slips(LayoutVariant.NEXT_LINE, 1).get(0).getDocument()))
+        .isNotEqualTo(first);
+  }
+
+  @Test
+  @DisplayName("학습한 영역에서 다른 문서의 필드 값을 바로 추출")
+  void lookupLearnedRegions() {
+    for (LayoutVariant layout : List.of(LayoutVariant.SAME_LINE, LayoutVariant.NEXT_LINE,
+        LayoutVariant.TIME_PREFIXED)) {
+      // given
+      List<SyntheticSlip> slips = slips(layout, 2);
+      ParsingContext learned = context(slips.get(0).getDocument());
+      long fingerprint = matcher.fingerprint(learned).getAsLong();
+      matcher.learn(learned, fingerprint, extract(learned));
+
+      // when
+      ParsingContext context = context(slips.get(1).getDocument());
+      Optional<Map<String, Object>> values = matcher.lookup(context, fingerprint);
+
+      // then
+      assertThat(values).isPresent();
+      assertSameValues(values.get(), extract(context(slips.get(1).getDocument())));
+    }
+    assertThat(store.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("실제 OCR 샘플에서 학습한 영역이 일반 추출 값을 재현")
+  void lookupSample() throws Exception {
+    // given
+    OcrDocument sample = new OcrDocumentLoader().loadFromResource("samples/sample_01.json");
+    ParsingContext learned = context(sample);
+    OptionalLong fingerprint = matcher.fingerprint(learned);
+    Map<String, Object> expected = extract(learned);
+
+    // when
+    matcher.learn(learned, fingerprint.getAsLong(), expected);
+    Optional<Map<String, Object>> values =
+        matcher.lookup(context(sample), fingerprint.getAsLong());
+
+    // then
+    assertThat(values).isPresent();
+    assertSameValues(values.get(), expected);
+  }
+
+  @Test
+  @DisplayName("학습하지 않은 지문은 조회 실패로 집계")
+  void stats() {
+    // given
+    ParsingContext context = context(slips(LayoutVariant.SAME_LINE, 1).get(0).getDocument());
+    long fingerprint = matcher.fingerprint(context).getAsLong();
+
+    // when
+    Optional<Map<String, Object>> miss = matcher.lookup(context, fingerprint);
+    matcher.learn(context, fingerprint, extract(context));
+    matcher.lookup(context, fingerprint);
+    matcher.recordResult(true);
+
+    // then
+    assertThat(miss).isEmpty();
+    TemplateStats stats = matcher.getStats();
+    assertThat(stats.getLookups()).isEqualTo(2L);
+    assertThat(stats.getHits()).isEqualTo(1L);
+    assertThat(stats.getMisses()).isEqualTo(1L);
+    assertThat(stats.getLearned()).isEqualTo(1L);
+    assertThat(stats.getHitRate()).isEqualTo(0.5);
+  }
+
+  // 템플릿이 채운 필드는 일반 추출 값과 같아야 함 (무게는 세 값 모두)
+  private void assertSameValues(Map<String, Object> actual, Map<String, Object> expected) {
+    assertThat(actual.get("date")).isEqualTo(expected.get("date"));
+    assertThat(actual.get("vehicleNumber")).isEqualTo(expected.get("vehicleNumber"));
+    assertThat(actual.get("company")).isEqualTo(expected.get("company"));
+
+    @SuppressWarnings("unchecked")
+    Map<String, Weight> actualWeights = (Map<String, Weight>) actual.get("weight");
+    @SuppressWarnings("unchecked")
+    Map<String, Weight> expectedWeights = (Map<String, Weight>) expected.get("weight");
+    for (String key : List.of("total", "vehicle", "net")) {
+      assertThat(actualWeights.get(key).getValue())
+          .isEqualTo(expectedWeights.get(key).getValue());
+      assertThat(actualWeights.get(key).getMeasuredAt())
+          .isEqualTo(expectedWeights.get(key).getMeasuredAt());
+    }
+  }
+
+  // 파이프라인과 같은 형식의 일반 추출 값
+  private Map<String, Object> extract(ParsingContext context) {
+    Map<String, Object> values = new HashMap<>();
+    date.extract(context).ifPresent(value -> values.put("date", value));
+    vehicleNumber.extract(context).ifPresent(value -> values.put("vehicleNumber", value));
+    company.extract(context).ifPresent(value -> values.put("company", value));
+    weight.extract(context).ifPresent(value -> values.put("weight", value));
+    return values;
+  }
+
+  private long fingerprint(OcrDocument document) {
+    return matcher.fingerprint(context(document)).getAsLong();
+  }
+
+  private ParsingContext context(OcrDocument document) {
+    return ParsingContext.builder().document(document).build();
+  }
+
+  private List<SyntheticSlip> slips(LayoutVariant layout, int count) {
+    return SyntheticSlipGenerator.builder()
+        .seed(20L)
+        .wordCount(10)
+        .layout(layout)
+        .build()
+        .generateBatch(count);
+  }
+}
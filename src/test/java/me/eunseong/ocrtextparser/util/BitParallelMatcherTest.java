@@ -0,0 +1,84 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Optional;
+import java.util.Random;
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BitParallelMatcherTest {
+
+  private final LevenshteinDistance levenshtein = LevenshteinDistance.getDefaultInstance();
+
+  @Test
+  @DisplayName("오탈자가 있는 윈도우의 위치와 유사도")
+  void findFirstWithTypo() {
+    // given
+    BitParallelMatcher matcher = BitParallelMatcher.compile("차량번호");
+    int maxDistance = BitParallelMatcher.maxDistance(4, 0.75);
+
+    // when
+    Optional<ApproximateMatch> match = matcher.findFirst("입고차랑번호1234", maxDistance);
+
+    // then
+    assertThat(maxDistance).isEqualTo(1);
+    assertThat(match).isPresent();
+    assertThat(match.get().getPosition()).isEqualTo(2);
+    assertThat(match.get().getDistance()).isEqualTo(1);
+    assertThat(match.get().getSimilarity()).isEqualTo(0.75);
+  }
+
+  @Test
+  @DisplayName("가장 가까운 윈도우 찾기")
+  void findBest() {
+    // given
+    BitParallelMatcher matcher = BitParallelMatcher.compile("총중량");
+
+    // when
+    Optional<ApproximateMatch> match = matcher.findBest("총중랑kg총중량", 2);
+
+    // then
+    assertThat(match.get().getPosition()).isEqualTo(5);
+    assertThat(match.get().getDistance()).isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("슬라이딩 윈도우 Levenshtein과 같은 결과")
+  void matchesSlidingWindow() {
+    Random random = new Random(11);
+
+    for (int round = 0; round < 2000; round++) {
+      // given
+      String pattern = RandomTexts.randomText(random, random.nextInt(8));
+      String text = RandomTexts.randomText(random, random.nextInt(30));
+      double threshold = random.nextInt(11) / 10.0;
+      BitParallelMatcher matcher = BitParallelMatcher.compile(pattern);
+      int maxDistance = BitParallelMatcher.maxDistance(pattern.length(), threshold);
+
+      // when
+      int actual = matcher.findFirst(text, maxDistance)
+          .map(ApproximateMatch::getPosition).orElse(-1);
+
+      // then
+      assertThat(actual).isEqualTo(slidingWindow(text, pattern, threshold));
+      if (pattern.length() <= text.length()) {
+        assertThat(matcher.distance(text, 0, pattern.length()))
+            .isEqualTo(levenshtein.apply(text.substring(0, pattern.length()), pattern));
+      }
+    }
+  }
+
+  private int slidingWindow(String text, String pattern, double threshold) {
+    for (int i = 0; i + pattern.length() <= text.length(); i++) {
+      String window = text.substring(i, i + pattern.length());
+      double similarity = window.equals(pattern) ? 1.0
+          : 1.0 - ((double) levenshtein.apply(window, pattern) / pattern.length());
+      if (similarity >= threshold) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,51 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Random;
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedLevenshteinTest {
+
+  private final LevenshteinDistance levenshtein = LevenshteinDistance.getDefaultInstance();
+
+  @Test
+  @DisplayName("허용 거리 안이면 거리, 넘으면 -1")
+  void distanceWithinBound() {
+    // given
+    int[] rows = new int[BoundedLevenshtein.rowsSize(4)];
+    String text = "입고차랑번호1234";
+
+    // when & then
+    assertThat(BoundedLevenshtein.distance(text, 2, 6, "차량번호", 0, 4, 1, rows)).isEqualTo(1);
+    assertThat(BoundedLevenshtein.distance(text, 2, 6, "차량번호", 0, 4, 0, rows)).isEqualTo(-1);
+    assertThat(BoundedLevenshtein.distance(text, 6, 10, "차량번호", 0, 4, 3, rows)).isEqualTo(-1);
+    assertThat(BoundedLevenshtein.distance("", 0, 0, "차량", 0, 2, 2, rows)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("구간 비교 결과가 LevenshteinDistance와 같음")
+  void matchesLevenshteinDistance() {
+    Random random = new Random(22);
+
+    for (int round = 0; round < 5000; round++) {
+      // given
+      String a = RandomTexts.randomText(random, random.nextInt(12));
+      String b = RandomTexts.randomText(random, random.nextInt(12));
+      int aFrom = a.isEmpty() ? 0 : random.nextInt(a.length());
+      int bFrom = b.isEmpty() ? 0 : random.nextInt(b.length());
+      int maxDistance = random.nextInt(6);
+      int[] rows = new int[BoundedLevenshtein.rowsSize(b.length() - bFrom)];
+
+      // when
+      int actual = BoundedLevenshtein.distance(a, aFrom, a.length(), b, bFrom, b.length(),
+          maxDistance, rows);
+
+      // then
+      int expected = levenshtein.apply(a.substring(aFrom), b.substring(bFrom));
+      assertThat(actual).isEqualTo(expected <= maxDistance ? expected : -1);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordAutomatonTest {
+
+  @Test
+  @DisplayName("한 번의 순회로 모든 키워드 위치 보고 (겹치는 키워드 포함)")
+  void scanReportsAllKeywords() {
+    // given
+    KeywordAutomaton automaton = KeywordAutomaton.compile(
+        List.of("총중량", "중량", "차중량", "공차중량", "차량", "총중량"));
+    List<String> matches = new ArrayList<>();
+
+    // when
+    automaton.scan("공차중량13950kg총중량", (id, start, end) ->
+        matches.add(automaton.getKeyword(id) + "@" + start));
+
+    // then
+    assertThat(automaton.size()).isEqualTo(5);
+    assertThat(matches).containsExactly(
+        "공차중량@0", "차중량@1", "중량@2", "총중량@11", "중량@12");
+  }
+
+  @Test
+  @DisplayName("키워드별 첫 위치가 indexOf 결과와 같음")
+  void firstPositionsMatchIndexOf() {
+    Random random = new Random(7);
+    char[] alphabet = {'총', '중', '량', '차', '공', 'a', 'b'};
+
+    for (int round = 0; round < 200; round++) {
+      // given
+      List<String> keywords = new ArrayList<>();
+      for (int k = 0; k < 1 + random.nextInt(6); k++) {
+        keywords.add(RandomTexts.randomText(random, alphabet, 1 + random.nextInt(4)));
+      }
+      String text = RandomTexts.randomText(random, alphabet, random.nextInt(40));
+      KeywordAutomaton automaton = KeywordAutomaton.compile(keywords);
+      int[] first = new int[automaton.size()];
+      Arrays.fill(first, -1);
+
+      // when
+      automaton.scan(text, (id, start, end) -> {
+        if (first[id] < 0) {
+          first[id] = start;
+        }
+      });
+
+      // then
+      for (int id = 0; id < automaton.size(); id++) {
+        assertThat(first[id]).isEqualTo(text.indexOf(automaton.getKeyword(id)));
+      }
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package me.eunseong.ocrtextparser.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordSetTest {
+
+  private final TextNormalizer textNormalizer = new TextNormalizer();
+
+  @Test
+  @DisplayName("컴파일 시 정규화 형태와 최소 길이 계산")
+  void compileNormalizesOnce() {
+    // when
+    KeywordSet keywords = KeywordSet.compile(
+        new String[]{"총 중량", "차량-번호", null}, textNormalizer);
+
+    // then
+    assertThat(keywords.size()).isEqualTo(2);
+    assertThat(keywords.getKeyword(0)).isEqualTo("총 중량");
+    assertThat(keywords.getNormalized(0)).isEqualTo("총중량");
+    assertThat(keywords.getNormalized(1)).isEqualTo("차량번호");
+    assertThat(keywords.getMinLength()).isEqualTo(3);
+    assertThat(keywords.getMatcher(1)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("bigram 프로필과 임계값별 최대 편집 거리")
+  void qGramsAndMaxDistance() {
+    // given
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
+
+    // when
+    int[] qGrams = keywords.getQGrams(0);
+
+    // then
+    assertThat(qGrams.length).isEqualTo(3);
+    assertThat(keywords.getMaxDistance(0, 0.75)).isEqualTo(1);
+    assertThat(keywords.getMaxDistance(0, 0.5)).isEqualTo(2);
+    assertThat(keywords.getMaxDistance(0, 1.0)).isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("키워드가 없으면 EMPTY")
+  void emptyKeywords() {
+    // when & then
+    assertThat(KeywordSet.compile(null, textNormalizer)).isSameAs(KeywordSet.EMPTY);
+    assertThat(KeywordSet.compile(new String[]{}, textNormalizer).isEmpty()).isTrue();
+  }
+}
@@ -0,0 +1,179 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import me.eunseong.ocrtextparser.domain.LineToken;
+import me.eunseong.ocrtextparser.domain.LineToken.Type;
+import me.eunseong.ocrtextparser.domain.TokenizedLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class LineTokenizerTest {
+
+  @Test
+  @DisplayName("라인을 종류별 토큰과 원본 위치로 분리")
+  void tokenizeLine() {
+    // when
+    TokenizedLine line = LineTokenizer.tokenize("품종명랑 05:26:18 12,480 kg");
+
+    // then
+    List<LineToken> tokens = line.getTokens();
+    assertThat(tokens).hasSize(4);
+    assertToken(tokens.get(0), Type.HANGUL_WORD, "품종명랑", 0);
+    assertToken(tokens.get(1), Type.TIME, "05:26:18", 5);
+    assertToken(tokens.get(2), Type.NUMBER, "12,480", 14);
+    assertToken(tokens.get(3), Type.UNIT, "kg", 21);
+  }
+
+  @Test
+  @DisplayName("날짜/시간/숫자 구분")
+  void tokenizeDateAndTime() {
+    // when
+    List<LineToken> tokens =
+        LineTokenizer.tokenize("날 짜: 2026-02-02-00004 02 : 13 031-354").getTokens();
+
+    // then
+    assertThat(tokens.get(3).getType()).isEqualTo(Type.DATE);
+    assertThat(tokens.get(3).getText()).isEqualTo("2026-02-02");
+    assertThat(tokens.get(4).isPunct('-')).isTrue();
+    assertThat(tokens.get(5).getType()).isEqualTo(Type.NUMBER);
+    assertThat(tokens.get(6).getType()).isEqualTo(Type.TIME);
+    assertThat(tokens.get(6).getText()).isEqualTo("02 : 13");
+    assertThat(tokens.get(6).isCompactTime()).isFalse();
+    assertThat(tokens.get(7).getText()).isEqualTo("031");
+  }
+
+  @Test
+  @DisplayName("첫 번째 날짜/시간 토큰 변환")
+  void findDateAndTime() {
+    assertThat(LineTokenizer.tokenize("계량일자: 2026-02-02 0016").findDate())
+        .contains(LocalDate.of(2026, 2, 2));
+    assertThat(LineTokenizer.tokenize("일 시 20251201").findDate())
+        .contains(LocalDate.of(2025, 12, 1));
+    assertThat(LineTokenizer.tokenize("경기도 포승향남로 2960-19").findDate()).isEmpty();
+    assertThat(LineTokenizer.tokenize("2026-13-45").findDate()).isEmpty();
+
+    assertThat(LineTokenizer.tokenize("총 중 량 14,230 kg (09:09)").findTime())
+        .contains(LocalTime.of(9, 9));
+    assertThat(LineTokenizer.tokenize("2026-02-02 05:37:55").findTime())
+        .contains(LocalTime.of(5, 37, 55));
+    assertThat(LineTokenizer.tokenize("차중량: 02 : 13 7 560 kg").findTime()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("날짜/시간 범위 검증이 java.time 파싱과 같은 결과")
+  void dateAndTimeMatchJavaTime() {
+    for (int year : new int[]{1900, 2000, 2024, 2025, 2100}) {
+      for (int month = 0; month <= 13; month++) {
+        for (int day = 0; day <= 32; day++) {
+          String text = String.format("%04d-%02d-%02d", year, month, day);
+          Optional<LocalDate> expected;
+          try {
+            expected = Optional.of(LocalDate.of(year, month, day));
+          } catch (DateTimeException e) {
+            expected = Optional.empty();
+          }
+          assertThat(LineTokenizer.tokenize(text).findDate()).as(text).isEqualTo(expected);
+        }
+      }
+    }
+
+    DateTimeFormatter withSeconds = DateTimeFormatter.ofPattern("HH:mm:ss");
+    for (int hour = 0; hour <= 25; hour++) {
+      for (int minute = 0; minute <= 61; minute++) {
+        for (int second : new int[]{0, 1, 59, 60}) {
+          String text = String.format("%02d:%02d:%02d", hour, minute, second);
+          Optional<LocalTime> expected;
+          try {
+            expected = Optional.of(LocalTime.parse(text, withSeconds));
+          } catch (DateTimeException e) {
+            expected = Optional.empty();
+          }
+          LineToken token = new LineToken(Type.TIME, 0, text.length(), text);
+          assertThat(TokenizedLine.parseTime(token)).as(text).isEqualTo(expected);
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("kg 앞 무게 숫자 탐색 (공백 없는 시간은 제외)")
+  void findWeightNumber() {
+    assertThat(LineTokenizer.tokenize("05:26:18 12,480 kg").findWeightNumber())
+        .contains("12480");
+    assertThat(LineTokenizer.tokenize("13 460 kg").findWeightNumber())
+        .contains("13460");
+    assertThat(LineTokenizer.tokenize("실 중 량 1,320 kg 감 량 0 kg").findWeightNumber())
+        .contains("1320");
+    assertThat(LineTokenizer.tokenize("2026-02-02 12KG").findWeightNumber())
+        .contains("0212");
+    assertThat(LineTokenizer.tokenize("무게 kg").findWeightNumber()).contains("");
+    assertThat(LineTokenizer.tokenize("무게kg 5 kg").findWeightNumber()).contains("5");
+    assertThat(LineTokenizer.tokenize("12,480").findWeightNumber()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("kg 앞 무게 값을 문자열 없이 계산")
+  void findWeight() {
+    LocalDate date = LocalDate.of(2026, 2, 2);
+
+    assertThat(LineTokenizer.tokenize("05:26:18 12,480 kg").findWeight(date).get().getValue())
+        .isEqualTo(12480.0);
+    assertThat(LineTokenizer.tokenize("05:26:18 12,480 kg").findWeight(date).get()
+        .getMeasuredAt()).isEqualTo(date.atTime(5, 26, 18));
+    assertThat(LineTokenizer.tokenize("13 460 kg").findWeight(null).get().getValue())
+        .isEqualTo(13460.0);
+    assertThat(LineTokenizer.tokenize("2026-02-02 12KG").findWeight(null).get().getValue())
+        .isEqualTo(212.0);
+    assertThat(LineTokenizer.tokenize("무게kg 5 kg").findWeight(null).get().getValue())
+        .isEqualTo(5.0);
+    assertThat(LineTokenizer.tokenize("1 234 567 890 123 456 789 kg").findWeight(null).get()
+        .getValue()).isEqualTo(1.234567890123456789e18);
+    assertThat(LineTokenizer.tokenize("무게 kg").findWeight(null)).isEmpty();
+    assertThat(LineTokenizer.tokenize("12,480").findWeight(null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("정규식 역추적을 유발하는 긴 숫자/공백/쉼표 입력도 선형 시간")
+  void findWeightStaysLinear() {
+    // ([\d,\s]+)\s*kg 정규식은 kg 없이 끝나는 긴 숫자/공백 구간에서 길이의 제곱 이상으로 역추적
+    String digitsAndSpaces = "1 ".repeat(100_000);
+    String digitsAndCommas = "1,".repeat(100_000);
+
+    assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+      assertThat(LineTokenizer.tokenize(digitsAndSpaces + "x").findWeight(null)).isEmpty();
+      assertThat(LineTokenizer.tokenize(digitsAndSpaces + "k").findWeightNumber()).isEmpty();
+      assertThat(LineTokenizer.tokenize(digitsAndCommas + " kg").findWeightNumber().get())
+          .hasSize(100_000);
+      assertThat(LineTokenizer.tokenize(digitsAndSpaces + "kg").findWeightNumber().get())
+          .hasSize(100_000);
+      return null;
+    });
+  }
+
+  @Test
+  @DisplayName("시간 토큰과 뒤 공백 제거")
+  void removeTimes() {
+    assertThat(LineTokenizer.tokenize("02 : 13 7 560 kg").removeTimes())
+        .isEqualTo("7 560 kg");
+    assertThat(LineTokenizer.tokenize("품종명랑 05:26:18 12,480 kg").removeTimes())
+        .isEqualTo("품종명랑 12,480 kg");
+    assertThat(LineTokenizer.tokenize("11시 33분 14,080 kg").removeTimes())
+        .isEqualTo("11시 33분 14,080 kg");
+  }
+
+  private void assertToken(LineToken token, Type type, String text, int start) {
+    assertThat(token.getType()).isEqualTo(type);
+    assertThat(token.getText()).isEqualTo(text);
+    assertThat(token.getStart()).isEqualTo(start);
+    assertThat(token.getEnd()).isEqualTo(start + text.length());
+  }
+}
@@ -0,0 +1,86 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OcrDirectoryBatchLoaderTest {
+
+  @TempDir
+  Path tempDir;
+
+  private OcrDirectoryBatchLoader batchLoader;
+
+  @BeforeEach
+  void setUp() {
+    ParserProperties properties = new ParserProperties();
+    properties.getLoader().setBatchThreads(2);
+    properties.getLoader().setBatchQueueSize(1);
+    batchLoader = new OcrDirectoryBatchLoader(properties);
+  }
+
+  @Test
+  @DisplayName("디렉터리의 모든 JSON 파일을 병렬 로드하고 처리량 통계 반환")
+  void loadDirectory() throws IOException {
+    // given
+    Path nested = Files.createDirectory(tempDir.resolve("nested"));
+    copySample("samples/sample_01.json", tempDir.resolve("sample_01.json"));
+    copySample("samples/sample_02.json", tempDir.resolve("sample_02.json"));
+    copySample("samples/sample_03.json", nested.resolve("sample_03.json"));
+    copySample("samples/sample_04.json", nested.resolve("sample_04.json"));
+    Files.writeString(tempDir.resolve("broken.json"), "{\"pages\": [");
+    Files.writeString(tempDir.resolve("readme.txt"), "not ocr");
+
+    Map<Path, OcrDocument> documents = new ConcurrentHashMap<>();
+
+    // when
+    BatchLoadStats stats = batchLoader.loadDirectory(tempDir, documents::put);
+
+    // then
+    assertThat(stats.getLoadedFiles()).isEqualTo(4L);
+    assertThat(stats.getFailedFiles()).isEqualTo(1L);
+    assertThat(stats.getFailedPaths()).containsExactly(tempDir.resolve("broken.json"));
+    assertThat(stats.getTotalBytes()).isGreaterThan(0L);
+    assertThat(stats.getFilesPerSecond()).isGreaterThan(0.0);
+    assertThat(stats.getMegabytesPerSecond()).isGreaterThan(0.0);
+
+    assertThat(documents).hasSize(4);
+    assertThat(documents.get(tempDir.resolve("sample_01.json")).getText())
+        .contains("계량일자");
+    assertThat(documents.get(nested.resolve("sample_04.json")).getWords())
+        .isNotEmpty();
+  }
+
+  @Test
+  @DisplayName("빈 디렉터리는 통계가 0")
+  void loadEmptyDirectory() throws IOException {
+    // when
+    BatchLoadStats stats = batchLoader.loadDirectory(tempDir, (path, document) -> {
+    });
+
+    // then
+    assertThat(stats.getLoadedFiles()).isEqualTo(0L);
+    assertThat(stats.getFailedFiles()).isEqualTo(0L);
+    assertThat(stats.getTotalBytes()).isEqualTo(0L);
+  }
+
+  private void copySample(String resourcePath, Path target) throws IOException {
+    try (InputStream inputStream = getClass().getClassLoader()
+        .getResourceAsStream(resourcePath)) {
+      Files.writeString(target,
+          new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+}
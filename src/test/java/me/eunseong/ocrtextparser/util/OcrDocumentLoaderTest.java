@@ -1,11 +1,19 @@
 package me.eunseong.ocrtextparser.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import me.eunseong.ocrtextparser.domain.OcrDocument;
 import me.eunseong.ocrtextparser.domain.OcrWord;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -82,6 +90,44 @@ public class OcrDocumentLoaderTest {
     }
   }
 
+  @Test
+  @DisplayName("JSON Lines 파일에서 한 줄씩 로드, 실패한 줄은 건너뜀")
+  void loadFromJsonLines(@TempDir Path tempDir) throws IOException {
+    // given
+    String sample01 = readResource("samples/sample_01.json");
+    String sample02 = readResource("samples/sample_02.json");
+    Path jsonLines = tempDir.resolve("ocr.jsonl");
+    Files.writeString(jsonLines, String.join("\n",
+        sample01,
+        "{\"pages\": [",
+        "",
+        sample02,
+        "{\"pages\": []}"
+    ), StandardCharsets.UTF_8);
+
+    List<Long> failedLines = new ArrayList<>();
+
+    // when
+    List<OcrDocument> documents;
+    try (Stream<OcrDocument> stream = loader.loadFromJsonLines(
+        jsonLines.toString(), (lineNumber, e) -> failedLines.add(lineNumber))) {
+      documents = stream.collect(Collectors.toList());
+    }
+
+    // then
+    assertThat(documents).hasSize(2);
+    assertThat(documents.get(0).getText()).contains("8713");
+    assertThat(documents.get(1).getLines()).hasSizeGreaterThan(0);
+    assertThat(failedLines).containsExactly(2L, 5L);
+  }
+
+  private String readResource(String resourcePath) throws IOException {
+    try (InputStream inputStream = getClass().getClassLoader()
+        .getResourceAsStream(resourcePath)) {
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
+    }
+  }
+
   /**
    * OCR 문서 내용 출력 (디버깅용)
    */
@@ -0,0 +1,116 @@
+package me.eunseong.ocrtextparser.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+import me.eunseong.ocrtextparser.domain.OcrDocument;
+import me.eunseong.ocrtextparser.domain.OcrWord;
+import me.eunseong.ocrtextparser.domain.OcrWordStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OcrDocumentStreamReaderTest {
+
+  private final JsonFactory jsonFactory = new JsonFactory();
+  private final OcrDocumentStreamReader reader = new OcrDocumentStreamReader();
+
+  @Test
+  @DisplayName("첫 번째 page만 변환하고 나머지 page는 건너뜀")
+  void readFirstPageOnly() throws IOException {
+    // given
+    String json = "{\"version\":\"V2\",\"pages\":["
+        + "{\"text\":\"차량번호: 8713\",\"confidence\":0.92,"
+        + "\"lines\":[{\"text\":\"차량번호: 8713\",\"words\":[{\"text\":\"8713\"}]}],"
+        + "\"words\":[{\"text\":\"8713\",\"confidence\":0.98,\"boundingBox\":{\"vertices\":"
+        + "[{\"x\":10,\"y\":20},{\"x\":50,\"y\":20},{\"x\":50,\"y\":60},{\"x\":10,\"y\":60}]}}]},"
+        + "{\"text\":\"두 번째 page\",\"lines\":[{\"text\":\"무시\"}],\"words\":[]}"
+        + "]}";
+
+    // when
+    OcrDocument document = read(json);
+
+    // then
+    assertThat(document.getText()).isEqualTo("차량번호: 8713");
+    assertThat(document.getConfidence()).isEqualTo(0.92);
+    assertThat(document.getLines()).containsExactly("차량번호: 8713");
+    assertThat(document.getWords()).hasSize(1);
+
+    OcrWord word = document.getWords().get(0);
+    assertThat(word.getText()).isEqualTo("8713");
+    assertThat(word.getX()).isEqualTo(10);
+    assertThat(word.getY()).isEqualTo(20);
+    assertThat(word.getWidth()).isEqualTo(40);
+    assertThat(word.getHeight()).isEqualTo(40);
+    assertThat(word.getConfidence()).isCloseTo(0.98, offset(1e-6));
+  }
+
+  @Test
+  @DisplayName("단어는 컬럼 저장소에 기록되고 OcrWord 뷰로도 조회 가능")
+  void wordsAreStoredInColumns() throws IOException {
+    // given
+    String json = "{\"pages\":[{\"words\":["
+        + "{\"boundingBox\":{\"vertices\":[{\"x\":1,\"y\":2},{},{\"x\":11,\"y\":22},{}]},"
+        + "\"text\":\"총중량\",\"confidence\":0.5},"
+        + "{\"text\":\"12,480\",\"boundingBox\":{\"vertices\":[{\"x\":100,\"y\":3},{},{\"x\":180,\"y\":30},{}]}}"
+        + "]}]}";
+
+    // when
+    OcrDocument document = read(json);
+
+    // then
+    OcrWordStore store = document.getWordStore();
+    assertThat(store.size()).isEqualTo(2);
+    assertThat(store.getText(0)).isEqualTo("총중량");
+    assertThat(store.getText(1)).isEqualTo("12,480");
+    assertThat(store.getX(1)).isEqualTo(100);
+    assertThat(store.getEndX(1)).isEqualTo(180);
+    assertThat(store.getHeight(0)).isEqualTo(20);
+    assertThat(store.getConfidence(0)).isEqualTo(0.5);
+    assertThat(store.getConfidence(1)).isNull();
+
+    assertThat(document.getWords()).hasSize(2);
+    assertThat(document.getWords().get(1).getText()).isEqualTo("12,480");
+    assertThat(document.getWords().get(1).getWidth()).isEqualTo(80);
+  }
+
+  @Test
+  @DisplayName("boundingBox가 없거나 vertex가 부족한 경우")
+  void readWordsWithoutFullBoundingBox() throws IOException {
+    // given
+    String json = "{\"pages\":[{\"lines\":[],\"words\":["
+        + "{\"text\":\"계\"},"
+        + "{\"text\":\"량\",\"boundingBox\":{\"vertices\":[]}},"
+        + "{\"text\":\"일\",\"boundingBox\":{\"vertices\":[{\"x\":5,\"y\":7}]}}"
+        + "]}]}";
+
+    // when
+    OcrDocument document = read(json);
+
+    // then
+    assertThat(document.getWords()).hasSize(3);
+    assertThat(document.getWords().get(0).getX()).isEqualTo(0);
+    assertThat(document.getWords().get(0).getConfidence()).isNull();
+    assertThat(document.getWords().get(1).getWidth()).isEqualTo(0);
+    assertThat(document.getWords().get(2).getX()).isEqualTo(5);
+    assertThat(document.getWords().get(2).getY()).isEqualTo(7);
+    assertThat(document.getWords().get(2).getWidth()).isEqualTo(0);
+    assertThat(document.getWords().get(2).getHeight()).isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("page가 없으면 예외 발생")
+  void noPages() {
+    assertThatThrownBy(() -> read("{\"pages\":[]}"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> read("{\"version\":\"V2\"}"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private OcrDocument read(String json) throws IOException {
+    try (JsonParser parser = jsonFactory.createParser(json)) {
+      return reader.read(parser);
+    }
+  }
+}
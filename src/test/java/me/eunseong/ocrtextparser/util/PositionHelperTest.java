@@ -0,0 +1,149 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.domain.OcrWord;
+import me.eunseong.ocrtextparser.domain.OcrWordStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PositionHelperTest {
+
+  private static final int Y_TOLERANCE = 80;
+  private static final int X_MIN_OFFSET = 50;
+
+  private PositionHelper positionHelper;
+
+  @BeforeEach
+  void setUp() {
+    ParserProperties properties = new ParserProperties();
+    properties.getPosition().setYTolerance(Y_TOLERANCE);
+    properties.getPosition().setXMinOffset(X_MIN_OFFSET);
+    positionHelper = new PositionHelper(properties);
+  }
+
+  @Test
+  @DisplayName("같은 줄 오른쪽에서 가장 가까운 값 찾기 (공간 인덱스)")
+  void findClosestValueOnRightWithIndex() {
+    // given
+    List<OcrWord> words = List.of(
+        word("총중량:", 100, 500, 200),
+        word("kg", 900, 505, 60),
+        word("12,480", 400, 510, 150),
+        word("차중량:", 100, 700, 200),
+        word("7,470", 420, 690, 150)
+    );
+    OcrWordStore store = OcrWordStore.from(words);
+
+    // when
+    int totalValue = positionHelper.findClosestValueOnRight(store, 0);
+    int vehicleValue = positionHelper.findClosestValueOnRight(store, 3);
+    int noValue = positionHelper.findClosestValueOnRight(store, 1);
+
+    // then
+    assertThat(store.getText(totalValue)).isEqualTo("12,480");
+    assertThat(store.getText(vehicleValue)).isEqualTo("7,470");
+    assertThat(noValue).isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("공간 인덱스 조회 결과가 전체 순회 결과와 같음")
+  void indexMatchesLinearScan() {
+    Random random = new Random(42);
+
+    for (int round = 0; round < 50; round++) {
+      // given
+      List<OcrWord> words = new ArrayList<>();
+      int count = 1 + random.nextInt(300);
+      for (int i = 0; i < count; i++) {
+        // 좁은 x 범위로 같은 x좌표가 자주 나오도록 생성
+        words.add(word("w" + i, random.nextInt(40) * 25,
+            random.nextInt(3000), random.nextInt(120)));
+      }
+      OcrWordStore store = OcrWordStore.from(words);
+
+      for (int label = 0; label < count; label++) {
+        // when
+        int actual = positionHelper.findClosestValueOnRight(store, label);
+
+        // then
+        OcrWord labelWord = words.get(label);
+        int expected = -1;
+        for (int i = 0; i < count; i++) {
+          if (isValueOnRight(labelWord, words.get(i))
+              && (expected < 0 || words.get(i).getX() < words.get(expected).getX())) {
+            expected = i;
+          }
+        }
+        assertThat(actual >= 0).isEqualTo(expected >= 0);
+        if (expected >= 0) {
+          assertThat(store.getX(actual)).isEqualTo(words.get(expected).getX());
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("같은 줄 오른쪽 전체 조회 결과가 전체 순회 결과와 같음")
+  void allValuesMatchLinearScan() {
+    Random random = new Random(5);
+
+    for (int round = 0; round < 50; round++) {
+      // given
+      List<OcrWord> words = new ArrayList<>();
+      int count = 1 + random.nextInt(300);
+      for (int i = 0; i < count; i++) {
+        words.add(word("w" + i, random.nextInt(40) * 25,
+            random.nextInt(3000), random.nextInt(120)));
+      }
+      OcrWordStore store = OcrWordStore.from(words);
+
+      for (int label = 0; label < count; label++) {
+        // when
+        int[] actual = positionHelper.findAllValuesOnRight(store, label);
+        int first = positionHelper.findValueOnRight(store, label);
+
+        // then
+        OcrWord labelWord = words.get(label);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+          if (isValueOnRight(labelWord, words.get(i))) {
+            expected.add(i);
+          }
+        }
+        assertThat(toList(actual)).isEqualTo(expected);
+        assertThat(first).isEqualTo(expected.isEmpty() ? -1 : expected.get(0));
+      }
+    }
+  }
+
+  // 기준 구현: 같은 줄(y 차이 허용 오차 이내)이고 라벨 끝 + 최소 간격보다 오른쪽
+  private boolean isValueOnRight(OcrWord label, OcrWord word) {
+    return Math.abs(label.getY() - word.getY()) <= Y_TOLERANCE
+        && word.getX() >= label.getX() + label.getWidth() + X_MIN_OFFSET;
+  }
+
+  private List<Integer> toList(int[] indices) {
+    List<Integer> list = new ArrayList<>();
+    for (int index : indices) {
+      list.add(index);
+    }
+    return list;
+  }
+
+  private OcrWord word(String text, int x, int y, int width) {
+    return OcrWord.builder()
+        .text(text)
+        .x(x)
+        .y(y)
+        .width(width)
+        .height(60)
+        .confidence(0.99)
+        .build();
+  }
+}
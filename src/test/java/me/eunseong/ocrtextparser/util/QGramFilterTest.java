@@ -0,0 +1,61 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Random;
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QGramFilterTest {
+
+  private final LevenshteinDistance levenshtein = LevenshteinDistance.getDefaultInstance();
+  private final TextNormalizer textNormalizer = new TextNormalizer();
+
+  @Test
+  @DisplayName("공유 문자/bigram이 부족한 텍스트는 DP 없이 제외")
+  void rejectHopelessText() {
+    // given
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
+    QGramFilter filter = keywords.getFilter(0);
+    int[] scratch = new int[keywords.getMaxFilterScratch()];
+
+    // when & then
+    assertThat(filter.mayMatch("위와같이계량하였음을확인함", 1, scratch)).isFalse();
+    assertThat(filter.mayMatch("차번량호", 1, scratch)).isFalse();  // 문자는 같지만 bigram 부족
+    assertThat(filter.mayMatch("입고차랑번호1234", 1, scratch)).isTrue();
+    assertThat(filter.mayMatch("차량", 1, scratch)).isFalse();  // 키워드보다 짧음
+  }
+
+  @Test
+  @DisplayName("임계값에 도달하는 윈도우가 있으면 항상 통과")
+  void neverRejectsMatchingWindow() {
+    Random random = new Random(20);
+
+    for (int round = 0; round < 5000; round++) {
+      // given
+      String pattern = RandomTexts.randomText(random, 1 + random.nextInt(8));
+      String text = RandomTexts.randomText(random, random.nextInt(30));
+      int maxDistance = random.nextInt(3);
+      KeywordSet keywords = KeywordSet.compile(new String[]{pattern}, textNormalizer);
+      int[] scratch = new int[keywords.getMaxFilterScratch()];
+
+      // when
+      boolean mayMatch = keywords.getFilter(0).mayMatch(text, maxDistance, scratch);
+
+      // then
+      if (hasWindowWithin(text, pattern, maxDistance)) {
+        assertThat(mayMatch).as("%s in %s (k=%d)", pattern, text, maxDistance).isTrue();
+      }
+    }
+  }
+
+  private boolean hasWindowWithin(String text, String pattern, int maxDistance) {
+    for (int i = 0; i + pattern.length() <= text.length(); i++) {
+      if (levenshtein.apply(text.substring(i, i + pattern.length()), pattern) <= maxDistance) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,45 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Random;
+
+/**
+ * 무작위 비교 테스트용 텍스트 생성
+ * 작은 알파벳에서 글자를 뽑아 키워드와 겹치는 윈도우(정확/근사 매칭)가 자주 나오도록 함
+ */
+final class RandomTexts {
+
+  /**
+   * 무게 라벨 글자 + 숫자/구분자
+   */
+  static final char[] LABEL_CHARS = {'총', '중', '량', '차', '실', '1', ','};
+
+  private RandomTexts() {
+  }
+
+  /**
+   * LABEL_CHARS에서 뽑은 무작위 텍스트
+   *
+   * @param random 난수 생성기 (테스트별 고정 시드)
+   * @param length 텍스트 길이
+   * @return 무작위 텍스트
+   */
+  static String randomText(Random random, int length) {
+    return randomText(random, LABEL_CHARS, length);
+  }
+
+  /**
+   * 주어진 알파벳에서 뽑은 무작위 텍스트
+   *
+   * @param random   난수 생성기 (테스트별 고정 시드)
+   * @param alphabet 사용할 글자
+   * @param length   텍스트 길이
+   * @return 무작위 텍스트
+   */
+  static String randomText(Random random, char[] alphabet, int length) {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      text.append(alphabet[random.nextInt(alphabet.length)]);
+    }
+    return text.toString();
+  }
+}
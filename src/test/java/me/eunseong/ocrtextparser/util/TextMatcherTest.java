@@ -1,11 +1,13 @@
 package me.eunseong.ocrtextparser.util;
 
+import java.util.Optional;
 import me.eunseong.ocrtextparser.config.ParserProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class TextMatcherTest {
 
@@ -26,7 +28,7 @@ class TextMatcherTest {
   void exactMatchWithWhitespace() {
     // given
     String text = "차 량 번 호 : 1234";
-    String[] keywords = {"차량번호"};
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
 
     // when
     boolean result = textMatcher.matches(text, keywords);
@@ -40,7 +42,7 @@ class TextMatcherTest {
   void exactMatchWithSpecialChars() {
     // given
     String text = "차량-번호: 1234";
-    String[] keywords = {"차량번호"};
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
 
     // when
     boolean result = textMatcher.matches(text, keywords);
@@ -54,7 +56,7 @@ class TextMatcherTest {
   void fuzzyMatchWithTypo() {
     // given
     String text = "차랑번호: 1234";  // '량' → '랑' 오탈자
-    String[] keywords = {"차량번호"};
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
 
     // when
     boolean result = textMatcher.matches(text, keywords);
@@ -68,7 +70,7 @@ class TextMatcherTest {
   void multipleKeywords() {
     // given
     String text = "차번호: 1234";
-    String[] keywords = {"차량번호", "차량 번호", "차번호"};
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호", "차량 번호", "차번호"}, textNormalizer);
 
     // when
     boolean result = textMatcher.matches(text, keywords);
@@ -82,7 +84,7 @@ class TextMatcherTest {
   void findKeywordIndex() {
     // given
     String text = "차 량 번 호 : 1234";
-    String[] keywords = {"차량번호"};
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
 
     // when
     int index = textMatcher.findKeywordIndex(text, keywords);
@@ -96,7 +98,7 @@ class TextMatcherTest {
   void noMatch() {
     // given
     String text = "총중량: 12480kg";
-    String[] keywords = {"차량번호"};
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
 
     // when
     boolean result = textMatcher.matches(text, keywords);
@@ -109,12 +111,113 @@ class TextMatcherTest {
   @DisplayName("null 또는 빈 값 처리")
   void handleNullOrEmpty() {
     // given
-    String[] keywords = {"차량번호"};
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
 
     // when & then
     assertThat(textMatcher.matches(null, keywords)).isFalse();
     assertThat(textMatcher.matches("", keywords)).isFalse();
     assertThat(textMatcher.matches("차량번호", null)).isFalse();
-    assertThat(textMatcher.matches("차량번호", new String[]{})).isFalse();
+    assertThat(textMatcher.matches("차량번호",
+        KeywordSet.compile(new String[]{}, textNormalizer))).isFalse();
+  }
+
+  @Test
+  @DisplayName("Fuzzy 카운트 필터 적중률 집계")
+  void filterStats() {
+    // given
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호"}, textNormalizer);
+
+    // when
+    boolean hopeless = textMatcher.matches("* 위와 같이 계량하였음을 확인함.", keywords);
+    boolean typo = textMatcher.matches("차랑번호: 1234", keywords);
+
+    // then
+    FuzzyFilterStats stats = textMatcher.getFilterStats();
+    assertThat(hopeless).isFalse();
+    assertThat(typo).isTrue();
+    assertThat(stats.getChecked()).isEqualTo(2L);
+    assertThat(stats.getRejected()).isEqualTo(1L);
+    assertThat(stats.getHitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  @DisplayName("64자 초과 키워드 - 거리 제한 커널과 LevenshteinDistance 결과 동일")
+  void boundedDistanceMatchesLevenshtein() {
+    // given
+    String keyword = "위와같이계량하였음을확인함".repeat(6);
+    String typo = "* " + keyword.substring(0, 40) + "랑" + keyword.substring(41) + " 끝";
+    KeywordSet keywords = KeywordSet.compile(new String[]{keyword}, textNormalizer);
+    ParserProperties legacyProperties = new ParserProperties();
+    legacyProperties.setFuzzyMatchThreshold(0.75);
+    legacyProperties.setBoundedDistance(false);
+    TextMatcher legacy = new TextMatcher(textNormalizer, legacyProperties);
+
+    for (String text : new String[]{typo, "차량번호 " + keyword.substring(10), keyword}) {
+      // when
+      Optional<MatchResult> bounded = textMatcher.findFuzzyMatch(text, keywords);
+      Optional<MatchResult> expected = legacy.findFuzzyMatch(text, keywords);
+
+      // then
+      assertThat(bounded.map(MatchResult::getStart)).isEqualTo(expected.map(MatchResult::getStart));
+      assertThat(bounded.map(MatchResult::getSimilarity))
+          .isEqualTo(expected.map(MatchResult::getSimilarity));
+    }
+    assertThat(textMatcher.findFuzzyMatch(typo, keywords)).isPresent();
+  }
+
+  @Test
+  @DisplayName("Vector API 매칭은 스칼라 매칭과 같은 결과")
+  void vectorMatchingMatchesScalar() {
+    // given
+    ParserProperties vectorProperties = new ParserProperties();
+    vectorProperties.setFuzzyMatchThreshold(0.75);
+    vectorProperties.setVectorMatching(true);
+    TextMatcher vector = new TextMatcher(textNormalizer, vectorProperties);
+    // --add-modules 없이 실행됐거나 지원하지 않는 CPU/JVM이면 스칼라 경로이므로 건너뜀
+    assumeTrue(vector.isVectorMatchingActive());
+    KeywordSet keywords = KeywordSet.compile(
+        new String[]{"차량번호", "총중량", "계량일자", "거래처명"}, textNormalizer);
+    String filler = "위와 같이 계량하였음을 확인함 ".repeat(4);
+
+    for (String text : new String[]{"차랑번호: 8713", filler + "총중랑 12,480 kg",
+        filler + "계 량 일 자 2026-02-02", filler, "거래쳐명 고요환경"}) {
+      // when
+      Optional<MatchResult> actual = vector.findMatch(text, keywords);
+      Optional<MatchResult> expected = textMatcher.findMatch(text, keywords);
+
+      // then
+      assertThat(actual.map(MatchResult::getStart)).isEqualTo(expected.map(MatchResult::getStart));
+      assertThat(actual.map(MatchResult::getSimilarity))
+          .isEqualTo(expected.map(MatchResult::getSimilarity));
+    }
+    assertThat(textMatcher.isVectorMatchingActive()).isFalse();
+  }
+
+  @Test
+  @DisplayName("정규화된 텍스트 매칭 - 키워드, 위치, 유사도, 정확 매칭 여부를 한 번에 반환")
+  void findNormalizedMatch() {
+    // given
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호", "차번호"}, textNormalizer);
+    String exactLine = "입고 차 번 호: 8713";
+    String typoLine = "차랑번호: 5678";
+
+    // when
+    Optional<MatchResult> exact = textMatcher.findNormalizedMatch(
+        textNormalizer.normalize(exactLine), keywords);
+    Optional<MatchResult> fuzzy = textMatcher.findNormalizedMatch(
+        textNormalizer.normalize(typoLine), keywords);
+
+    // then
+    assertThat(exact.get().getKeywordIndex()).isEqualTo(1);
+    assertThat(exact.get().getStart()).isEqualTo(2);
+    assertThat(exact.get().getEnd()).isEqualTo(5);
+    assertThat(exact.get().isExact()).isTrue();
+    assertThat(fuzzy.get().getKeywordIndex()).isEqualTo(0);
+    assertThat(fuzzy.get().getSimilarity()).isEqualTo(0.75);
+    assertThat(fuzzy.get().isExact()).isFalse();
+    assertThat(textMatcher.findMatch(exactLine, keywords).get().getStart()).isEqualTo(2);
+    assertThat(textMatcher.findNormalizedMatch(
+        textNormalizer.normalizeWithOffsets(exactLine), keywords).get().getEnd()).isEqualTo(5);
+    assertThat(textMatcher.findNormalizedMatch("", keywords)).isEmpty();
   }
 }
@@ -0,0 +1,74 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextNormalizerTest {
+
+  private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile("[:\\-_/\\\\]");
+
+  private final TextNormalizer textNormalizer = new TextNormalizer();
+
+  @Test
+  @DisplayName("공백과 특수문자 제거")
+  void normalize() {
+    // when & then
+    assertThat(textNormalizer.normalize("거 래 처: 곰욕환경/폐기물")).isEqualTo("거래처곰욕환경폐기물");
+    assertThat(textNormalizer.removeWhitespace("12 480\tkg")).isEqualTo("12480kg");
+    assertThat(textNormalizer.removeSpecialChars("2026-02-02 05:26")).isEqualTo("20260202 0526");
+    assertThat(textNormalizer.normalize("")).isEqualTo("");
+    assertThat(textNormalizer.normalize(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("제거할 문자가 없으면 원본 문자열 반환")
+  void returnsSameInstanceWhenClean() {
+    // given
+    String text = "총중량12480kg";
+
+    // when & then
+    assertThat(textNormalizer.normalize(text)).isSameAs(text);
+  }
+
+  @Test
+  @DisplayName("정규화된 위치를 원본 위치로 변환")
+  void normalizeWithOffsets() {
+    // given
+    String line = "실 중 량: 5,010 kg";
+
+    // when
+    NormalizedText normalized = textNormalizer.normalizeWithOffsets(line);
+
+    // then
+    assertThat(normalized.getText()).isEqualTo("실중량5,010kg");
+    assertThat(normalized.toOriginalStart(1)).isEqualTo(2);
+    assertThat(normalized.toOriginalEnd(3)).isEqualTo(5);
+    assertThat(normalized.originalAfter(3)).isEqualTo(": 5,010 kg");
+  }
+
+  @Test
+  @DisplayName("정규식 구현과 같은 결과 (String, 버퍼 뷰)")
+  void matchesRegexImplementation() {
+    Random random = new Random(3);
+    char[] alphabet = {'총', '중', '1', 'k', ' ', '\t', ' ', ':', '-', '_', '/', '\\', ','};
+    StringBuilder buffer = new StringBuilder();
+
+    for (int round = 0; round < 1000; round++) {
+      // given
+      StringBuilder text = new StringBuilder();
+      for (int i = 0; i < random.nextInt(20); i++) {
+        text.append(alphabet[random.nextInt(alphabet.length)]);
+      }
+      String expected = SPECIAL_CHAR_PATTERN.matcher(
+          text.toString().replaceAll("\\s+", "")).replaceAll("");
+
+      // when & then
+      assertThat(textNormalizer.normalize(text.toString())).isEqualTo(expected);
+      assertThat(textNormalizer.normalize(text, buffer).toString()).isEqualTo(expected);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VectorWindowScannerTest {
+
+  private WindowScanner scanner;
+
+  @BeforeEach
+  void setUp() {
+    // src/vector 소스셋 (--add-modules 없이 실행됐거나 지원하지 않는 CPU/JVM이면 건너뜀)
+    Optional<WindowScanner> vector = WindowScanner.loadVector();
+    assumeTrue(vector.isPresent());
+    scanner = vector.get();
+  }
+
+  @Test
+  @DisplayName("오탈자 하나 있는 윈도우 찾기")
+  void findFirstWithTypo() {
+    // given
+    char[] text = "* 위와 같이 계량하였음을 확인함. 입고 차랑번호 1234".toCharArray();
+
+    // when
+    int start = scanner.findFirst(text, text.length, "차량번호".toCharArray(), 1);
+
+    // then
+    assertThat(start).isEqualTo(23);
+    assertThat(scanner.findFirst(text, text.length, "차량번호".toCharArray(), 0))
+        .isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("최대 거리 1 이하에서 비트 병렬 매처와 같은 위치")
+  void matchesBitParallelMatcher() {
+    Random random = new Random(23);
+
+    for (int round = 0; round < 3000; round++) {
+      // given
+      String pattern = RandomTexts.randomText(random, 1 + random.nextInt(7));
+      String text = RandomTexts.randomText(random, random.nextInt(120));
+      int maxDistance = random.nextInt(WindowScanner.MAX_DISTANCE + 1);
+      char[] buffer = (text + "패딩").toCharArray();  // 유효 길이 밖 문자는 무시
+
+      // when
+      int actual = scanner.findFirst(buffer, text.length(),
+          pattern.toCharArray(), maxDistance);
+
+      // then
+      int expected = BitParallelMatcher.compile(pattern).findFirst(text, maxDistance)
+          .map(ApproximateMatch::getPosition).orElse(-1);
+      assertThat(actual).as("%s in %s (k=%d)", pattern, text, maxDistance)
+          .isEqualTo(expected);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package me.eunseong.ocrtextparser.util;
+
+import java.util.BitSet;
+import java.util.Random;
+import me.eunseong.ocrtextparser.config.ParserProperties;
+import me.eunseong.ocrtextparser.domain.OcrWordStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordGramIndexTest {
+
+  private final TextNormalizer textNormalizer = new TextNormalizer();
+
+  @Test
+  @DisplayName("bigram을 충분히 공유하는 단어만 후보")
+  void findCandidates() {
+    // given
+    OcrWordStore words = store("계량일자:", "2026-02-02", "차랑번호", "8713", "차번량호", "실중량");
+    WordGramIndex index = WordGramIndex.build(words, textNormalizer);
+    KeywordSet keywords = KeywordSet.compile(new String[]{"차량번호", "차량No"}, textNormalizer);
+
+    // when
+    BitSet candidates = index.findCandidates(keywords, 0.75);
+
+    // then
+    assertThat(candidates.stream().toArray()).containsExactly(2);
+  }
+
+  @Test
+  @DisplayName("가지치기할 수 없는 짧은 키워드는 모든 단어가 후보")
+  void shortKeywordScansAll() {
+    // given
+    OcrWordStore words = store("차량", "번호", "중량");
+    WordGramIndex index = WordGramIndex.build(words, textNormalizer);
+    KeywordSet keywords = KeywordSet.compile(new String[]{"량"}, textNormalizer);
+
+    // when
+    BitSet candidates = index.findCandidates(keywords, 0.75);
+
+    // then
+    assertThat(candidates.cardinality()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("TextMatcher로 매칭되는 단어는 항상 후보")
+  void neverDropsMatchingWord() {
+    Random random = new Random(21);
+    char[] alphabet = {'총', '중', '량', '차', '실', '1', ' '};
+
+    for (int round = 0; round < 500; round++) {
+      // given
+      double threshold = 0.5 + random.nextInt(6) / 10.0;
+      ParserProperties properties = new ParserProperties();
+      properties.setFuzzyMatchThreshold(threshold);
+      TextMatcher textMatcher = new TextMatcher(textNormalizer, properties);
+
+      String[] texts = new String[20];
+      for (int i = 0; i < texts.length; i++) {
+        texts[i] = RandomTexts.randomText(random, alphabet, random.nextInt(10));
+      }
+      OcrWordStore words = store(texts);
+      KeywordSet keywords = KeywordSet.compile(new String[]{
+          RandomTexts.randomText(random, alphabet, 1 + random.nextInt(6)),
+          RandomTexts.randomText(random, alphabet, 1 + random.nextInt(6))}, textNormalizer);
+
+      // when
+      BitSet candidates = WordGramIndex.build(words, textNormalizer)
+          .findCandidates(keywords, threshold);
+
+      // then
+      for (int i = 0; i < texts.length; i++) {
+        if (textMatcher.matches(texts[i], keywords)) {
+          assertThat(candidates.get(i)).as("%s in %s", keywords, texts[i]).isTrue();
+        }
+      }
+    }
+  }
+
+  private OcrWordStore store(String... texts) {
+    OcrWordStore.Builder builder = OcrWordStore.builder(texts.length);
+    for (int i = 0; i < texts.length; i++) {
+      builder.add(texts[i], i * 100, 0, 80, 20, 0.9);
+    }
+    return builder.build();
+  }
+}
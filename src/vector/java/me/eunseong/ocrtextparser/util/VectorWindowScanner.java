@@ -0,0 +1,69 @@
+package me.eunseong.ocrtextparser.util;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API(jdk.incubator.vector) 기반 윈도우 스캐너
+ * 레인마다 다른 윈도우 시작 위치를 맡아, 키워드 문자 하나를 브로드캐스트해 비교한 불일치 마스크를 누적
+ * (한 번에 SPECIES 레인 수만큼의 후보 윈도우를 채점)
+ * 이 소스셋만 --add-modules jdk.incubator.vector로 컴파일하고,
+ * 모듈 없이 실행되면 클래스 로드가 실패하므로 WindowScanner.loadVector가 empty 반환
+ */
+public final class VectorWindowScanner implements WindowScanner {
+
+  private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+  /**
+   * 레인이 하나뿐이면 스칼라 비교보다 느리므로 생성 실패
+   */
+  public VectorWindowScanner() {
+    if (SPECIES.length() < 2) {
+      throw new UnsupportedOperationException("Vector lanes: " + SPECIES.length());
+    }
+  }
+
+  @Override
+  public int findFirst(char[] text, int textLength, char[] keyword, int maxMismatches) {
+    int keywordLength = keyword.length;
+    int windows = textLength - keywordLength + 1;
+    if (windows <= 0 || maxMismatches < 0) {
+      return -1;
+    }
+
+    int lanes = SPECIES.length();
+    short limit = (short) maxMismatches;
+    int start = 0;
+    for (; start + lanes <= windows; start += lanes) {
+      ShortVector mismatches = ShortVector.zero(SPECIES);
+      for (int j = 0; j < keywordLength; j++) {
+        ShortVector chars = ShortVector.fromCharArray(SPECIES, text, start + j);
+        mismatches = mismatches.add((short) 1,
+            chars.compare(VectorOperators.NE, (short) keyword[j]));
+        if (mismatches.compare(VectorOperators.GT, limit).allTrue()) {
+          break;
+        }
+      }
+      VectorMask<Short> hits = mismatches.compare(VectorOperators.LE, limit);
+      if (hits.anyTrue()) {
+        return start + hits.firstTrue();
+      }
+    }
+
+    // 레인 수보다 적게 남은 윈도우는 스칼라로 비교
+    for (; start < windows; start++) {
+      int mismatches = 0;
+      for (int j = 0; j < keywordLength && mismatches <= maxMismatches; j++) {
+        if (text[start + j] != keyword[j]) {
+          mismatches++;
+        }
+      }
+      if (mismatches <= maxMismatches) {
+        return start;
+      }
+    }
+    return -1;
+  }
+}